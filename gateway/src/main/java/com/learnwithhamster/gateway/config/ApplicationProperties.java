@@ -1,5 +1,7 @@
 package com.learnwithhamster.gateway.config;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,10 +15,40 @@ public class ApplicationProperties {
 
     private final Security security = new Security();
 
+    private final ResponseCache responseCache = new ResponseCache();
+
+    private final JwtCache jwtCache = new JwtCache();
+
+    private final RateLimit rateLimit = new RateLimit();
+
+    private final PasswordHashing passwordHashing = new PasswordHashing();
+
+    private final AccountCache accountCache = new AccountCache();
+
     public Security getSecurity() {
         return security;
     }
 
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    public JwtCache getJwtCache() {
+        return jwtCache;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public PasswordHashing getPasswordHashing() {
+        return passwordHashing;
+    }
+
+    public AccountCache getAccountCache() {
+        return accountCache;
+    }
+
     public static class Security {
 
         private boolean cookieSecure = true;
@@ -30,6 +62,275 @@ public class ApplicationProperties {
         }
     }
 
+    public static class ResponseCache {
+
+        /**
+         * When enabled, the anonymous GET requests matching {@code patterns} are answered from the responses of the
+         * services that allow shared caches to store them.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Path patterns of the gateway routes whose responses are cached, such as {@code /services/service/api/courses/**}.
+         */
+        private List<String> patterns = new ArrayList<>();
+
+        /**
+         * Maximum total size of the cached bodies, the least recently used are evicted first.
+         */
+        private long maxSizeBytes = 64L * 1024 * 1024;
+
+        /**
+         * Responses with a larger body are not cached.
+         */
+        private int maxEntryBytes = 1024 * 1024;
+
+        /**
+         * Maximum time a response is kept, fresh or waiting to be revalidated with its ETag.
+         */
+        private int timeToLiveSeconds = 3600;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public long getMaxSizeBytes() {
+            return maxSizeBytes;
+        }
+
+        public void setMaxSizeBytes(long maxSizeBytes) {
+            this.maxSizeBytes = maxSizeBytes;
+        }
+
+        public int getMaxEntryBytes() {
+            return maxEntryBytes;
+        }
+
+        public void setMaxEntryBytes(int maxEntryBytes) {
+            this.maxEntryBytes = maxEntryBytes;
+        }
+
+        public int getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+    }
+
+    public static class JwtCache {
+
+        /**
+         * When enabled, the tokens verified once are not verified again until they expire.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of verified tokens kept, the least recently used are evicted first.
+         */
+        private long maximumSize = 10000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    public static class RateLimit {
+
+        /**
+         * When enabled, the requests matching {@code limits} are throttled per user, or per IP address for the
+         * anonymous requests.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of buckets kept, the least recently used are evicted first.
+         */
+        private long maxKeys = 100000;
+
+        /**
+         * The limits, the first one matching a request applies.
+         */
+        private List<Limit> limits = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaxKeys() {
+            return maxKeys;
+        }
+
+        public void setMaxKeys(long maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+
+        public List<Limit> getLimits() {
+            return limits;
+        }
+
+        public void setLimits(List<Limit> limits) {
+            this.limits = limits;
+        }
+
+        public static class Limit {
+
+            /**
+             * Path pattern of the limited requests, such as {@code /api/authenticate} or a gateway route path.
+             */
+            private String pattern;
+
+            /**
+             * HTTP method of the limited requests, all methods if not set.
+             */
+            private String method;
+
+            /**
+             * Number of requests allowed per period, also the largest burst.
+             */
+            private long requests = 60;
+
+            /**
+             * Period over which {@code requests} are allowed.
+             */
+            private long periodSeconds = 60;
+
+            public String getPattern() {
+                return pattern;
+            }
+
+            public void setPattern(String pattern) {
+                this.pattern = pattern;
+            }
+
+            public String getMethod() {
+                return method;
+            }
+
+            public void setMethod(String method) {
+                this.method = method;
+            }
+
+            public long getRequests() {
+                return requests;
+            }
+
+            public void setRequests(long requests) {
+                this.requests = requests;
+            }
+
+            public long getPeriodSeconds() {
+                return periodSeconds;
+            }
+
+            public void setPeriodSeconds(long periodSeconds) {
+                this.periodSeconds = periodSeconds;
+            }
+        }
+    }
+
+    public static class PasswordHashing {
+
+        /**
+         * Maximum number of threads hashing and verifying passwords, half the processors by default, so that a login
+         * storm leaves the other half to the event loops.
+         */
+        private int threadCap = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        /**
+         * Maximum number of passwords waiting for a thread, split evenly between the threads, the next ones are rejected.
+         */
+        private int queuedTaskCap = 1000;
+
+        public int getThreadCap() {
+            return threadCap;
+        }
+
+        public void setThreadCap(int threadCap) {
+            this.threadCap = threadCap;
+        }
+
+        public int getQueuedTaskCap() {
+            return queuedTaskCap;
+        }
+
+        public void setQueuedTaskCap(int queuedTaskCap) {
+            this.queuedTaskCap = queuedTaskCap;
+        }
+    }
+
+    public static class AccountCache {
+
+        /**
+         * When enabled, the accounts read by {@code GET /api/account} are kept, until they are changed or expire.
+         * Each gateway instance has its own cache, which only sees the changes made through it before they expire.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of accounts kept, the least recently used are evicted first.
+         */
+        private long maximumSize = 10000;
+
+        /**
+         * Time an account is kept after being read from the database.
+         */
+        private int timeToLiveSeconds = 60;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public int getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+    }
+
     // jhipster-needle-application-properties-property
     // jhipster-needle-application-properties-property-getter
     // jhipster-needle-application-properties-property-class
@@ -4,8 +4,11 @@ import static org.springframework.security.config.Customizer.withDefaults;
 import static org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers.pathMatchers;
 
 import com.learnwithhamster.gateway.security.AuthoritiesConstants;
+import com.learnwithhamster.gateway.security.PasswordHashingScheduler;
 import com.learnwithhamster.gateway.security.jwt.CookieJwtFilter;
+import com.learnwithhamster.gateway.web.filter.RateLimitGatewayFilterFactory;
 import com.learnwithhamster.gateway.web.filter.SpaWebFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
@@ -29,10 +32,16 @@ public class SecurityConfiguration {
 
     private final JHipsterProperties jHipsterProperties;
     private final CookieJwtFilter cookieJwtFilter;
+    private final RateLimitGatewayFilterFactory rateLimitGatewayFilterFactory;
 
-    public SecurityConfiguration(JHipsterProperties jHipsterProperties, CookieJwtFilter cookieJwtFilter) {
+    public SecurityConfiguration(
+        JHipsterProperties jHipsterProperties,
+        CookieJwtFilter cookieJwtFilter,
+        RateLimitGatewayFilterFactory rateLimitGatewayFilterFactory
+    ) {
         this.jHipsterProperties = jHipsterProperties;
         this.cookieJwtFilter = cookieJwtFilter;
+        this.rateLimitGatewayFilterFactory = rateLimitGatewayFilterFactory;
     }
 
     @Bean
@@ -40,12 +49,23 @@ public class SecurityConfiguration {
         return new BCryptPasswordEncoder();
     }
 
+    @Bean(destroyMethod = "dispose")
+    public PasswordHashingScheduler passwordHashingScheduler(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        ApplicationProperties.PasswordHashing passwordHashing = applicationProperties.getPasswordHashing();
+        return new PasswordHashingScheduler(passwordHashing.getThreadCap(), passwordHashing.getQueuedTaskCap(), meterRegistry);
+    }
+
     @Bean
-    public ReactiveAuthenticationManager reactiveAuthenticationManager(ReactiveUserDetailsService userDetailsService) {
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(
+        ReactiveUserDetailsService userDetailsService,
+        PasswordHashingScheduler passwordHashingScheduler
+    ) {
         UserDetailsRepositoryReactiveAuthenticationManager authenticationManager = new UserDetailsRepositoryReactiveAuthenticationManager(
             userDetailsService
         );
         authenticationManager.setPasswordEncoder(passwordEncoder());
+        // The passwords are verified on their own threads, rather than on the shared bounded elastic scheduler
+        authenticationManager.setScheduler(passwordHashingScheduler);
         return authenticationManager;
     }
 
@@ -61,6 +81,8 @@ public class SecurityConfiguration {
             .csrf(csrf -> csrf.disable())
             .addFilterAfter(new SpaWebFilter(), SecurityWebFiltersOrder.HTTPS_REDIRECT)
             .addFilterBefore(cookieJwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+            // The gateway endpoints, such as /api/authenticate, are limited here, the routes by the RateLimit gateway filter
+            .addFilterAfter(rateLimitGatewayFilterFactory.webFilter(), SecurityWebFiltersOrder.AUTHENTICATION)
             .headers(headers ->
                 headers
                     .contentSecurityPolicy(csp -> csp.policyDirectives(jHipsterProperties.getSecurity().getContentSecurityPolicy()))
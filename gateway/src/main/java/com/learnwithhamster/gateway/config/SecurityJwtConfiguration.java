@@ -3,8 +3,10 @@ package com.learnwithhamster.gateway.config;
 import static com.learnwithhamster.gateway.security.SecurityUtils.JWT_ALGORITHM;
 
 import com.learnwithhamster.gateway.management.SecurityMetersService;
+import com.learnwithhamster.gateway.security.jwt.CachingReactiveJwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.util.Base64;
+import io.micrometer.core.instrument.MeterRegistry;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.slf4j.Logger;
@@ -26,9 +28,13 @@ public class SecurityJwtConfiguration {
     private String jwtKey;
 
     @Bean
-    public ReactiveJwtDecoder jwtDecoder(SecurityMetersService metersService) {
+    public ReactiveJwtDecoder jwtDecoder(
+        SecurityMetersService metersService,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
         NimbusReactiveJwtDecoder jwtDecoder = NimbusReactiveJwtDecoder.withSecretKey(getSecretKey()).macAlgorithm(JWT_ALGORITHM).build();
-        return token -> {
+        ReactiveJwtDecoder meteredJwtDecoder = token -> {
             try {
                 return jwtDecoder
                     .decode(token)
@@ -57,6 +63,12 @@ public class SecurityJwtConfiguration {
                 throw e;
             }
         };
+        ApplicationProperties.JwtCache jwtCache = applicationProperties.getJwtCache();
+        if (!jwtCache.isEnabled()) {
+            return meteredJwtDecoder;
+        }
+        // Shared by the security filter chain and the JWTRelay filter, which both decode the token of each request
+        return new CachingReactiveJwtDecoder(meteredJwtDecoder, jwtCache.getMaximumSize(), meterRegistry);
     }
 
     @Bean
@@ -6,16 +6,21 @@ import static org.springframework.data.relational.core.query.Query.query;
 import com.learnwithhamster.gateway.domain.Authority;
 import com.learnwithhamster.gateway.domain.User;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.apache.commons.beanutils.BeanComparator;
 import org.springframework.data.domain.*;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -68,6 +73,23 @@ interface UserRepositoryInternal extends DeleteExtended<User> {
 
 class UserRepositoryInternalImpl implements UserRepositoryInternal {
 
+    /**
+     * The properties the users can be sorted on, the same as the ones allowed by the user resources.
+     */
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of(
+        "id",
+        "login",
+        "firstName",
+        "lastName",
+        "email",
+        "activated",
+        "langKey",
+        "createdBy",
+        "createdDate",
+        "lastModifiedBy",
+        "lastModifiedDate"
+    );
+
     private final DatabaseClient db;
     private final R2dbcEntityTemplate r2dbcEntityTemplate;
     private final R2dbcConverter r2dbcConverter;
@@ -90,28 +112,23 @@ class UserRepositoryInternalImpl implements UserRepositoryInternal {
 
     @Override
     public Flux<User> findAllWithAuthorities(Pageable pageable) {
-        String property = pageable.getSort().stream().map(Sort.Order::getProperty).findFirst().orElse("id");
-        String direction = String.valueOf(
-            pageable.getSort().stream().map(Sort.Order::getDirection).findFirst().orElse(Sort.DEFAULT_DIRECTION)
-        );
-        long page = pageable.getPageNumber();
-        long size = pageable.getPageSize();
-
-        return db
-            .sql("SELECT * FROM jhi_user u LEFT JOIN jhi_user_authority ua ON u.id=ua.user_id")
-            .map((row, metadata) ->
-                Tuples.of(r2dbcConverter.read(User.class, row, metadata), Optional.ofNullable(row.get("authority_name", String.class)))
-            )
+        // The page is selected in SQL, the id breaking the ties of the sort so that consecutive pages never overlap
+        List<Sort.Order> orders = pageable
+            .getSort()
+            .stream()
+            .filter(order -> SORTABLE_PROPERTIES.contains(order.getProperty()))
+            .collect(Collectors.toCollection(ArrayList::new));
+        if (orders.stream().noneMatch(order -> order.getProperty().equals("id"))) {
+            orders.add(Sort.Order.asc("id"));
+        }
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : -1;
+        return r2dbcEntityTemplate
+            .select(User.class)
+            .matching(query(Criteria.empty()).sort(Sort.by(orders)).offset(offset).limit(limit))
             .all()
-            .groupBy(t -> t.getT1().getLogin())
-            .flatMap(l -> l.collectList().map(t -> updateUserWithAuthorities(t.get(0).getT1(), t)))
-            .sort(
-                Sort.Direction.fromString(direction) == Sort.DEFAULT_DIRECTION
-                    ? new BeanComparator<>(property)
-                    : new BeanComparator<>(property).reversed()
-            )
-            .skip(page * size)
-            .take(size);
+            .collectList()
+            .flatMapMany(users -> users.isEmpty() ? Flux.empty() : fetchAuthorities(users).thenMany(Flux.fromIterable(users)));
     }
 
     @Override
@@ -136,6 +153,22 @@ class UserRepositoryInternalImpl implements UserRepositoryInternal {
             .map(l -> updateUserWithAuthorities(l.get(0).getT1(), l));
     }
 
+    private Mono<Void> fetchAuthorities(List<User> users) {
+        Map<Long, User> usersById = users.stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        usersById.values().forEach(user -> user.setAuthorities(new HashSet<>()));
+        return db
+            .sql("SELECT user_id, authority_name FROM jhi_user_authority WHERE user_id IN (:userIds)")
+            .bind("userIds", List.copyOf(usersById.keySet()))
+            .map((row, metadata) -> Tuples.of(row.get("user_id", Long.class), row.get("authority_name", String.class)))
+            .all()
+            .doOnNext(t -> {
+                Authority authority = new Authority();
+                authority.setName(t.getT2());
+                usersById.get(t.getT1()).getAuthorities().add(authority);
+            })
+            .then();
+    }
+
     private User updateUserWithAuthorities(User user, List<Tuple2<User, Optional<String>>> tuples) {
         user.setAuthorities(
             tuples
@@ -0,0 +1,122 @@
+package com.learnwithhamster.gateway.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link Scheduler} running the BCrypt password hashing and verification, away from the event loop and from the
+ * shared bounded elastic scheduler.
+ * <p>
+ * It has at most {@code threadCap} threads, so that a login storm keeps some cores for the other requests, and at
+ * most {@code queuedTaskCap} waiting tasks. As each thread of a bounded elastic scheduler has its own queue, the cap is
+ * split evenly between the threads, with at least one waiting task per thread. A task given to a thread whose queue is
+ * full is rejected with a {@link RejectedExecutionException}, answered with {@code 503 (Service Unavailable)}, and
+ * counted by the {@value #REJECTED_TASKS_METER_NAME} meter.
+ */
+public class PasswordHashingScheduler implements Scheduler {
+
+    public static final String REJECTED_TASKS_METER_NAME = "security.password-hashing.rejected-tasks";
+
+    private final Scheduler delegate;
+
+    private final Counter rejectedTasks;
+
+    public PasswordHashingScheduler(int threadCap, int queuedTaskCap, MeterRegistry meterRegistry) {
+        this.delegate = Schedulers.newBoundedElastic(threadCap, Math.max(1, queuedTaskCap / threadCap), "password-hashing");
+        this.rejectedTasks = Counter.builder(REJECTED_TASKS_METER_NAME)
+            .description("Number of password hashing tasks rejected as the queue was full")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+        try {
+            return delegate.schedule(task);
+        } catch (RejectedExecutionException e) {
+            rejectedTasks.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        try {
+            return delegate.schedule(task, delay, unit);
+        } catch (RejectedExecutionException e) {
+            rejectedTasks.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new CountingWorker(delegate.createWorker());
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        return delegate.now(unit);
+    }
+
+    @Override
+    public void init() {
+        delegate.init();
+    }
+
+    @Override
+    public void dispose() {
+        delegate.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate.isDisposed();
+    }
+
+    /**
+     * Worker counting its rejected tasks, the operators such as {@code publishOn} scheduling through workers.
+     */
+    private final class CountingWorker implements Worker {
+
+        private final Worker delegate;
+
+        private CountingWorker(Worker delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            try {
+                return delegate.schedule(task);
+            } catch (RejectedExecutionException e) {
+                rejectedTasks.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            try {
+                return delegate.schedule(task, delay, unit);
+            } catch (RejectedExecutionException e) {
+                rejectedTasks.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public void dispose() {
+            delegate.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return delegate.isDisposed();
+        }
+    }
+}
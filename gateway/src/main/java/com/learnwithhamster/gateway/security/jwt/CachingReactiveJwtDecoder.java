@@ -0,0 +1,99 @@
+package com.learnwithhamster.gateway.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveJwtDecoder} keeping the tokens verified by its delegate until they expire.
+ * <p>
+ * The token of a proxied request is decoded by the security filter chain, then again by the
+ * {@link JWTRelayGatewayFilterFactory}: sharing this decoder, they verify the signature and parse the claims once per
+ * token rather than twice per request. The tokens are keyed by their SHA-256 digest and kept until their {@code exp}
+ * claim. Rejected tokens and tokens without an {@code exp} claim are not cached, so they are decoded, and counted by
+ * the security meters, each time.
+ */
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    public static final String METER_NAME = "gateway.jwt-cache";
+
+    private final ReactiveJwtDecoder delegate;
+
+    private final Cache<String, Jwt> cache;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfter(new UntilExpiresAt()).build();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METER_NAME)
+            .description("Number of decoded tokens, by result")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) throws JwtException {
+        String key = digest(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return Mono.just(cached);
+        }
+        misses.increment();
+        return delegate
+            .decode(token)
+            .doOnNext(jwt -> {
+                if (jwt.getExpiresAt() != null) {
+                    cache.put(key, jwt);
+                }
+            });
+    }
+
+    private static String digest(String token) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Expires each token at its {@code exp} claim, whether it is read or not.
+     */
+    private static final class UntilExpiresAt implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, jwt.getExpiresAt().toEpochMilli() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.learnwithhamster.gateway.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learnwithhamster.gateway.config.ApplicationProperties;
+import com.learnwithhamster.gateway.service.dto.AdminUserDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service caching the accounts by login, as the client reads its account on almost every route change.
+ * <p>
+ * The accounts are kept for {@code application.account-cache.time-to-live-seconds}, and evicted by the
+ * {@link UserService} once a transaction saving or deleting a user completes, and when an authority is deleted. The
+ * concurrent reads of an account missing from the cache share the same database query. The cached
+ * {@link AdminUserDTO}s are shared by the requests, so they must not be modified.
+ * <p>
+ * The cache is local to each gateway instance: a change made through another instance is only seen here once the
+ * account expires.
+ */
+@Service
+public class AccountCacheService {
+
+    public static final String METER_NAME = "gateway.account-cache";
+
+    private final AsyncCache<String, AdminUserDTO> cache;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    public AccountCacheService(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        ApplicationProperties.AccountCache properties = applicationProperties.getAccountCache();
+        this.cache = properties.isEnabled()
+            ? Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTimeToLiveSeconds()))
+                .buildAsync()
+            : null;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METER_NAME)
+            .description("Number of account reads, by result")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Get the account of a login, from the cache or else from the loader.
+     *
+     * @param login the login of the user.
+     * @param loader the function reading the account from the database, if it is not cached.
+     * @return the account, or an empty {@link Mono} if there is none.
+     */
+    public Mono<AdminUserDTO> get(String login, Function<String, Mono<AdminUserDTO>> loader) {
+        if (cache == null) {
+            return loader.apply(login);
+        }
+        CompletableFuture<AdminUserDTO> cached = cache.getIfPresent(login);
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            cached = cache.get(login, (key, executor) -> loader.apply(key).toFuture());
+        }
+        // The future is shared by all the readers, one of them going away must not cancel it
+        return Mono.fromFuture(cached, true);
+    }
+
+    /**
+     * Evict the account of a login.
+     *
+     * @param login the login of the user.
+     */
+    public void evict(String login) {
+        if (cache != null && login != null) {
+            cache.synchronous().invalidate(login);
+        }
+    }
+
+    /**
+     * Evict the account of a login once the current transaction completes, or right away if there is none.
+     * <p>
+     * An account read before the commit holds the previous state of the user, evicting it before the commit would let
+     * that read cache it again.
+     *
+     * @param login the login of the user.
+     * @return a {@link Mono} completing once the eviction is registered.
+     */
+    public Mono<Void> evictAfterCompletion(String login) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .filter(TransactionSynchronizationManager::isSynchronizationActive)
+            .doOnNext(synchronizationManager ->
+                synchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCompletion(int status) {
+                            return Mono.fromRunnable(() -> evict(login));
+                        }
+                    }
+                )
+            )
+            .switchIfEmpty(Mono.fromRunnable(() -> evict(login)))
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(() -> evict(login)))
+            .then();
+    }
+
+    /**
+     * Evict all the accounts.
+     */
+    public void evictAll() {
+        if (cache != null) {
+            cache.synchronous().invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.learnwithhamster.gateway.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learnwithhamster.gateway.config.ApplicationProperties;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link RateLimitService} keeping the buckets in memory, in a map bounded by {@code application.rate-limit.max-keys}.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time it will be full again, moved forward by one emission
+ * interval ({@code period / capacity}) per request with a compare-and-set: a request is allowed while that time is at
+ * most one period ahead. A bucket left alone for a whole period is full, so it is dropped from the map after the
+ * longest configured period without access.
+ */
+@Service
+public class InMemoryRateLimitService implements RateLimitService {
+
+    private final Cache<String, AtomicLong> buckets;
+
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public InMemoryRateLimitService(ApplicationProperties applicationProperties) {
+        this(applicationProperties, System::nanoTime);
+    }
+
+    InMemoryRateLimitService(ApplicationProperties applicationProperties, LongSupplier nanoTime) {
+        ApplicationProperties.RateLimit properties = applicationProperties.getRateLimit();
+        long idleSeconds = properties
+            .getLimits()
+            .stream()
+            .mapToLong(ApplicationProperties.RateLimit.Limit::getPeriodSeconds)
+            .max()
+            .orElse(60);
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxKeys())
+            .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+            .ticker(nanoTime::getAsLong)
+            .build();
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Mono<Duration> tryConsume(String key, long capacity, Duration period) {
+        long interval = Math.max(1, period.toNanos() / capacity);
+        long burst = interval * capacity;
+        long now = nanoTime.getAsLong();
+        AtomicLong fullAt = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                return Mono.just(Duration.ofNanos(wait));
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return Mono.just(Duration.ZERO);
+            }
+        }
+    }
+}
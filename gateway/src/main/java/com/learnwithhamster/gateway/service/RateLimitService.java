@@ -0,0 +1,23 @@
+package com.learnwithhamster.gateway.service;
+
+import java.time.Duration;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service throttling requests with token buckets, one per key.
+ * <p>
+ * The buckets start full with {@code capacity} tokens and get them back over {@code period}, each request taking one.
+ * {@link InMemoryRateLimitService} keeps the buckets of each gateway instance; a shared store can implement this
+ * interface to limit the requests across instances.
+ */
+public interface RateLimitService {
+    /**
+     * Take a token from the bucket of a key.
+     *
+     * @param key the key of the bucket, such as the route and the user.
+     * @param capacity the number of tokens of a full bucket.
+     * @param period the time a bucket takes to be refilled.
+     * @return {@link Duration#ZERO} if a token was taken, or else how long until the next one.
+     */
+    Mono<Duration> tryConsume(String key, long capacity, Duration period);
+}
@@ -6,6 +6,7 @@ import com.learnwithhamster.gateway.domain.User;
 import com.learnwithhamster.gateway.repository.AuthorityRepository;
 import com.learnwithhamster.gateway.repository.UserRepository;
 import com.learnwithhamster.gateway.security.AuthoritiesConstants;
+import com.learnwithhamster.gateway.security.PasswordHashingScheduler;
 import com.learnwithhamster.gateway.security.SecurityUtils;
 import com.learnwithhamster.gateway.service.dto.AdminUserDTO;
 import com.learnwithhamster.gateway.service.dto.UserDTO;
@@ -40,10 +41,22 @@ public class UserService {
 
     private final AuthorityRepository authorityRepository;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthorityRepository authorityRepository) {
+    private final PasswordHashingScheduler passwordHashingScheduler;
+
+    private final AccountCacheService accountCacheService;
+
+    public UserService(
+        UserRepository userRepository,
+        PasswordEncoder passwordEncoder,
+        AuthorityRepository authorityRepository,
+        PasswordHashingScheduler passwordHashingScheduler,
+        AccountCacheService accountCacheService
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityRepository = authorityRepository;
+        this.passwordHashingScheduler = passwordHashingScheduler;
+        this.accountCacheService = accountCacheService;
     }
 
     @Transactional
@@ -66,7 +79,7 @@ public class UserService {
         return userRepository
             .findOneByResetKey(key)
             .filter(user -> user.getResetDate().isAfter(Instant.now().minus(1, ChronoUnit.DAYS)))
-            .publishOn(Schedulers.boundedElastic())
+            .publishOn(passwordHashingScheduler)
             .map(user -> {
                 user.setPassword(passwordEncoder.encode(newPassword));
                 user.setResetKey(null);
@@ -109,7 +122,7 @@ public class UserService {
                     return Mono.error(new EmailAlreadyUsedException());
                 }
             })
-            .publishOn(Schedulers.boundedElastic())
+            .publishOn(passwordHashingScheduler)
             .then(
                 Mono.fromCallable(() -> {
                     User newUser = new User();
@@ -162,7 +175,7 @@ public class UserService {
             .flatMap(authorityRepository::findById)
             .doOnNext(authority -> user.getAuthorities().add(authority))
             .then(Mono.just(user))
-            .publishOn(Schedulers.boundedElastic())
+            .publishOn(passwordHashingScheduler)
             .map(newUser -> {
                 String encryptedPassword = passwordEncoder.encode(RandomUtil.generatePassword());
                 newUser.setPassword(encryptedPassword);
@@ -186,6 +199,8 @@ public class UserService {
         return userRepository
             .findById(userDTO.getId())
             .flatMap(user -> {
+                // The account is saved under the new login, the one under the old login is evicted here
+                Mono<Void> evictOldLogin = accountCacheService.evictAfterCompletion(user.getLogin());
                 user.setLogin(userDTO.getLogin().toLowerCase());
                 user.setFirstName(userDTO.getFirstName());
                 user.setLastName(userDTO.getLastName());
@@ -197,8 +212,8 @@ public class UserService {
                 user.setLangKey(userDTO.getLangKey());
                 Set<Authority> managedAuthorities = user.getAuthorities();
                 managedAuthorities.clear();
-                return userRepository
-                    .deleteUserAuthorities(user.getId())
+                return evictOldLogin
+                    .then(userRepository.deleteUserAuthorities(user.getId()))
                     .thenMany(Flux.fromIterable(userDTO.getAuthorities()))
                     .flatMap(authorityRepository::findById)
                     .map(managedAuthorities::add)
@@ -213,7 +228,7 @@ public class UserService {
     public Mono<Void> deleteUser(String login) {
         return userRepository
             .findOneByLogin(login)
-            .flatMap(user -> userRepository.delete(user).thenReturn(user))
+            .flatMap(user -> userRepository.delete(user).then(accountCacheService.evictAfterCompletion(user.getLogin())).thenReturn(user))
             .doOnNext(user -> LOG.debug("Deleted User: {}", user))
             .then();
     }
@@ -264,14 +279,15 @@ public class UserService {
                             .flatMap(authority -> userRepository.saveUserAuthority(savedUser.getId(), authority.getName()))
                             .then(Mono.just(savedUser))
                     );
-            });
+            })
+            .flatMap(savedUser -> accountCacheService.evictAfterCompletion(savedUser.getLogin()).thenReturn(savedUser));
     }
 
     @Transactional
     public Mono<Void> changePassword(String currentClearTextPassword, String newPassword) {
         return SecurityUtils.getCurrentUserLogin()
             .flatMap(userRepository::findOneByLogin)
-            .publishOn(Schedulers.boundedElastic())
+            .publishOn(passwordHashingScheduler)
             .map(user -> {
                 String currentEncryptedPassword = user.getPassword();
                 if (!passwordEncoder.matches(currentClearTextPassword, currentEncryptedPassword)) {
@@ -311,6 +327,18 @@ public class UserService {
         return SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findOneWithAuthoritiesByLogin);
     }
 
+    /**
+     * Get the account of the current user, from the {@link AccountCacheService}.
+     *
+     * @return the account, or an empty {@link Mono} if there is no current user.
+     */
+    public Mono<AdminUserDTO> getAccount() {
+        return SecurityUtils.getCurrentUserLogin()
+            .flatMap(login ->
+                accountCacheService.get(login, key -> userRepository.findOneWithAuthoritiesByLogin(key).map(AdminUserDTO::new))
+            );
+    }
+
     /**
      * Not activated users should be automatically deleted after 3 days.
      * <p>
@@ -327,7 +355,7 @@ public class UserService {
             .findAllByActivatedIsFalseAndActivationKeyIsNotNullAndCreatedDateBefore(
                 LocalDateTime.ofInstant(Instant.now().minus(3, ChronoUnit.DAYS), ZoneOffset.UTC)
             )
-            .flatMap(user -> userRepository.delete(user).thenReturn(user))
+            .flatMap(user -> userRepository.delete(user).then(accountCacheService.evictAfterCompletion(user.getLogin())).thenReturn(user))
             .doOnNext(user -> LOG.debug("Deleted User: {}", user));
     }
 
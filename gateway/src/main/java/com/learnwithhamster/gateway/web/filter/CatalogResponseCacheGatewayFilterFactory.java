@@ -0,0 +1,362 @@
+package com.learnwithhamster.gateway.web.filter;
+
+import static com.learnwithhamster.gateway.security.jwt.JwtCookieConstants.JWT_COOKIE_NAME;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learnwithhamster.gateway.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache of the anonymous GET responses of the routes matching {@code application.response-cache.patterns}, bounded
+ * by the total size of the cached bodies.
+ * <p>
+ * Only the {@code 200 (OK)} responses that shared caches may store are kept: their {@code Cache-Control} has a
+ * {@code max-age}, {@code s-maxage} or {@code no-cache} and is neither {@code private} nor {@code no-store}. A fresh
+ * response is replayed without reaching the service, a stale one is revalidated with its {@code ETag} and replayed if
+ * the service answers {@code 304 (Not Modified)}. Requests carrying a token, from the {@code Authorization} header or
+ * the JWT cookie, always go to the service, as their responses may depend on the user.
+ * <p>
+ * Only the paths that the {@code SecurityConfiguration} opens to anonymous GETs can ever be cached. The catalog is not
+ * open yet, so until it is, the filter lets every request through.
+ * <p>
+ * The filter runs before the route filters, so that the patterns and keys use the gateway paths.
+ */
+@Component
+public class CatalogResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogResponseCacheGatewayFilterFactory.class);
+
+    public static final String METER_NAME = "gateway.response-cache";
+
+    /**
+     * Response headers that are not replayed, as they describe the original exchange or the user.
+     */
+    private static final Set<String> UNCACHED_HEADERS = Set.of(
+        "age",
+        "connection",
+        "content-length",
+        "date",
+        "keep-alive",
+        "set-cookie",
+        "transfer-encoding"
+    );
+
+    /**
+     * Request headers the cache keys cover, so responses varying on them only can be cached.
+     */
+    private static final Set<String> KEYED_HEADERS = Set.of("accept", "accept-encoding", "accept-language");
+
+    private final ApplicationProperties.ResponseCache properties;
+
+    private final List<PathPattern> patterns;
+
+    private final Cache<Key, Entry> cache;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter revalidations;
+
+    public CatalogResponseCacheGatewayFilterFactory(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this.properties = applicationProperties.getResponseCache();
+        this.patterns = properties.getPatterns().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaxSizeBytes())
+            .weigher((Key key, Entry entry) -> entry.body().length)
+            .expireAfterWrite(Duration.ofSeconds(properties.getTimeToLiveSeconds()))
+            .build();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.revalidations = counter(meterRegistry, "revalidated");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METER_NAME)
+            .description("Number of cacheable requests, by result")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return new OrderedGatewayFilter(
+            (exchange, chain) -> {
+                ServerHttpRequest request = exchange.getRequest();
+                if (!isCacheable(request)) {
+                    return chain.filter(exchange);
+                }
+                Key key = Key.of(request);
+                Entry entry = noCache(request.getHeaders()) ? null : cache.getIfPresent(key);
+                if (entry != null && entry.isFresh(System.currentTimeMillis())) {
+                    hits.increment();
+                    return replay(request, exchange.getResponse(), entry);
+                }
+                misses.increment();
+                Entry stale = entry != null && entry.eTag() != null && !isConditional(request.getHeaders()) ? entry : null;
+                ServerWebExchange caching = exchange
+                    .mutate()
+                    .request(
+                        stale == null ? request : request.mutate().headers(headers -> headers.setIfNoneMatch(stale.eTag())).build()
+                    )
+                    .response(new CachingResponse(exchange.getResponse(), key, stale))
+                    .build();
+                return chain.filter(caching);
+            },
+            Ordered.HIGHEST_PRECEDENCE
+        );
+    }
+
+    private boolean isCacheable(ServerHttpRequest request) {
+        if (!properties.isEnabled() || !HttpMethod.GET.equals(request.getMethod())) {
+            return false;
+        }
+        if (request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION) || request.getCookies().getFirst(JWT_COOKIE_NAME) != null) {
+            return false;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    private static boolean noCache(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        return cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-cache");
+    }
+
+    private static boolean isConditional(HttpHeaders headers) {
+        return headers.containsKey(HttpHeaders.IF_NONE_MATCH) || headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    private static Mono<Void> replay(ServerHttpRequest request, ServerHttpResponse response, Entry entry) {
+        long now = System.currentTimeMillis();
+        response.getHeaders().putAll(entry.headers());
+        response.getHeaders().set(HttpHeaders.AGE, Long.toString(Math.max(0, now - entry.storedAt()) / 1000));
+        if (entry.eTag() != null && request.getHeaders().getIfNoneMatch().contains(entry.eTag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentLength(entry.body().length);
+        // The cached bytes are wrapped, not copied, read-only as every replay shares them
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(ByteBuffer.wrap(entry.body()).asReadOnlyBuffer())));
+    }
+
+    /**
+     * Get how long a response stays fresh, from its {@code Cache-Control}.
+     *
+     * @return the lifetime in milliseconds, or -1 if shared caches may not store the response.
+     */
+    static long lifetime(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return -1;
+        }
+        long maxAge = -1;
+        long sharedMaxAge = -1;
+        boolean noCache = false;
+        for (String directive : StringUtils.tokenizeToStringArray(cacheControl.toLowerCase(Locale.ROOT), ",")) {
+            if (directive.equals("private") || directive.equals("no-store")) {
+                return -1;
+            } else if (directive.equals("no-cache")) {
+                noCache = true;
+            } else if (directive.startsWith("s-maxage=")) {
+                sharedMaxAge = parseSeconds(directive.substring("s-maxage=".length()));
+            } else if (directive.startsWith("max-age=")) {
+                maxAge = parseSeconds(directive.substring("max-age=".length()));
+            }
+        }
+        if (noCache) {
+            return 0;
+        }
+        long seconds = sharedMaxAge >= 0 ? sharedMaxAge : maxAge;
+        return seconds < 0 ? -1 : seconds * 1000;
+    }
+
+    private static long parseSeconds(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static boolean variesOnKeyOnly(HttpHeaders headers) {
+        return headers.getVary().stream().map(name -> name.toLowerCase(Locale.ROOT)).allMatch(KEYED_HEADERS::contains);
+    }
+
+    private static HttpHeaders cachedHeaders(HttpHeaders headers) {
+        HttpHeaders cached = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (!UNCACHED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                cached.put(name, List.copyOf(values));
+            }
+        });
+        return HttpHeaders.readOnlyHttpHeaders(cached);
+    }
+
+    /**
+     * Response storing the body written by the service, or replaying the revalidated entry.
+     */
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final Key key;
+
+        private final Entry stale;
+
+        CachingResponse(ServerHttpResponse delegate, Key key, Entry stale) {
+            super(delegate);
+            this.key = key;
+            this.stale = stale;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            long now = System.currentTimeMillis();
+            if (stale != null && hasStatus(HttpStatus.NOT_MODIFIED)) {
+                Entry refreshed = stale.refreshed(now, Math.max(0, lifetime(headers)));
+                cache.put(key, refreshed);
+                revalidations.increment();
+                headers.clear();
+                headers.putAll(refreshed.headers());
+                headers.setContentLength(refreshed.body().length);
+                setStatusCode(HttpStatus.OK);
+                DataBuffer buffer = bufferFactory().wrap(ByteBuffer.wrap(refreshed.body()).asReadOnlyBuffer());
+                // The empty body of the 304 is drained before the cached body is written
+                return Flux.from(body).doOnNext(DataBufferUtils::release).then(Mono.defer(() -> super.writeWith(Mono.just(buffer))));
+            }
+            long lifetime = lifetime(headers);
+            if (
+                !hasStatus(HttpStatus.OK) ||
+                lifetime < 0 ||
+                (lifetime == 0 && headers.getETag() == null) ||
+                !variesOnKeyOnly(headers) ||
+                headers.getContentLength() > properties.getMaxEntryBytes()
+            ) {
+                return super.writeWith(body);
+            }
+            Capture capture = new Capture(properties.getMaxEntryBytes());
+            return super.writeWith(
+                Flux.from(body)
+                    .doOnNext(capture::append)
+                    .doOnComplete(() -> {
+                        byte[] bytes = capture.bytes();
+                        if (bytes != null) {
+                            LOG.debug("Caching response of {} for {} ms", key.pathAndQuery(), lifetime);
+                            cache.put(key, new Entry(cachedHeaders(headers), bytes, now, now + lifetime));
+                        }
+                    })
+            );
+        }
+
+        private boolean hasStatus(HttpStatus status) {
+            return getStatusCode() != null && getStatusCode().value() == status.value();
+        }
+    }
+
+    /**
+     * Copy of the body chunks going through, given up once the body grows over the limit.
+     */
+    private static final class Capture {
+
+        private final int limit;
+
+        private List<byte[]> chunks = new ArrayList<>();
+
+        private int size;
+
+        Capture(int limit) {
+            this.limit = limit;
+        }
+
+        void append(DataBuffer buffer) {
+            int length = buffer.readableByteCount();
+            if (chunks == null || size + length > limit) {
+                chunks = null;
+                return;
+            }
+            byte[] chunk = new byte[length];
+            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(chunk), 0, length);
+            chunks.add(chunk);
+            size += length;
+        }
+
+        byte[] bytes() {
+            if (chunks == null) {
+                return null;
+            }
+            ByteBuffer bytes = ByteBuffer.allocate(size);
+            chunks.forEach(bytes::put);
+            return bytes.array();
+        }
+    }
+
+    /**
+     * The key of a cached response: the request target and the request headers the response may vary on.
+     */
+    private record Key(String pathAndQuery, String accept, String acceptEncoding, String acceptLanguage) {
+        static Key of(ServerHttpRequest request) {
+            HttpHeaders headers = request.getHeaders();
+            String query = request.getURI().getRawQuery();
+            return new Key(
+                query == null ? request.getURI().getRawPath() : request.getURI().getRawPath() + "?" + query,
+                headers.getFirst(HttpHeaders.ACCEPT),
+                headers.getFirst(HttpHeaders.ACCEPT_ENCODING),
+                headers.getFirst(HttpHeaders.ACCEPT_LANGUAGE)
+            );
+        }
+    }
+
+    /**
+     * A cached response.
+     *
+     * @param headers the headers to replay.
+     * @param body the body bytes, never modified.
+     * @param storedAt when the response was stored or last revalidated.
+     * @param expiresAt when the response becomes stale.
+     */
+    private record Entry(HttpHeaders headers, byte[] body, long storedAt, long expiresAt) {
+        boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+
+        String eTag() {
+            return headers.getETag();
+        }
+
+        Entry refreshed(long now, long lifetime) {
+            return new Entry(headers, body, now, now + lifetime);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.learnwithhamster.gateway.web.filter;
+
+import com.learnwithhamster.gateway.config.ApplicationProperties;
+import com.learnwithhamster.gateway.service.RateLimitService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+/**
+ * Throttling of the requests matching {@code application.rate-limit.limits}, with a token bucket per limit and per
+ * user, or per IP address for the anonymous requests, see {@link RateLimitService}.
+ * <p>
+ * A request finding its bucket empty gets a {@code 429 (Too Many Requests)} with a {@code Retry-After}, without
+ * reaching the service. The gateway routes are limited by this filter, registered as a default filter; the endpoints
+ * of the gateway itself, such as {@code /api/authenticate}, by its {@link #webFilter()}, run by the security filter
+ * chain once the user is authenticated.
+ * <p>
+ * The IP address is the remote address of the connection, so behind a proxy it is only the client's when the
+ * forwarded headers are applied, see {@code server.forward-headers-strategy}.
+ */
+@Component
+public class RateLimitGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RateLimitGatewayFilterFactory.class);
+
+    public static final String METER_NAME = "gateway.rate-limit";
+
+    private static final String ROUTES_PREFIX = "/services/";
+
+    private final ApplicationProperties.RateLimit properties;
+
+    private final List<Limit> limits;
+
+    private final RateLimitService rateLimitService;
+
+    private final Counter allowed;
+
+    private final Counter rejected;
+
+    public RateLimitGatewayFilterFactory(
+        ApplicationProperties applicationProperties,
+        RateLimitService rateLimitService,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = applicationProperties.getRateLimit();
+        this.limits = properties.getLimits().stream().map(Limit::of).toList();
+        this.rateLimitService = rateLimitService;
+        this.allowed = counter(meterRegistry, "allowed");
+        this.rejected = counter(meterRegistry, "rejected");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METER_NAME)
+            .description("Number of limited requests, by result")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        // Runs before the route filters, so that the patterns match the gateway paths
+        return new OrderedGatewayFilter((exchange, chain) -> limit(exchange, chain::filter), Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    /**
+     * Get the filter limiting the requests to the gateway itself, the requests to the routes being limited by the
+     * gateway filter.
+     *
+     * @return the web filter.
+     */
+    public WebFilter webFilter() {
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getPath().pathWithinApplication().value().startsWith(ROUTES_PREFIX)) {
+                return chain.filter(exchange);
+            }
+            return limit(exchange, chain::filter);
+        };
+    }
+
+    private Mono<Void> limit(ServerWebExchange exchange, Function<ServerWebExchange, Mono<Void>> next) {
+        ServerHttpRequest request = exchange.getRequest();
+        Limit limit = properties.isEnabled() ? limits.stream().filter(l -> l.matches(request)).findFirst().orElse(null) : null;
+        if (limit == null) {
+            return next.apply(exchange);
+        }
+        return client(exchange)
+            .flatMap(client -> rateLimitService.tryConsume(limit.key() + client, limit.requests(), limit.period()))
+            .flatMap(wait -> {
+                if (wait.isZero()) {
+                    allowed.increment();
+                    return next.apply(exchange);
+                }
+                rejected.increment();
+                LOG.debug("Rejecting request to {}, retry in {}", request.getPath(), wait);
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                // Rounded up, so that the next token is there when the client retries
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (wait.toMillis() + 999) / 1000)));
+                return response.setComplete();
+            });
+    }
+
+    /**
+     * Get the bucket key of the client: its user if it is authenticated, or else its IP address.
+     */
+    private static Mono<String> client(ServerWebExchange exchange) {
+        return exchange
+            .getPrincipal()
+            .filter(principal -> !(principal instanceof AnonymousAuthenticationToken))
+            .map(principal -> "user:" + principal.getName())
+            .switchIfEmpty(Mono.fromSupplier(() -> "ip:" + address(exchange.getRequest())));
+    }
+
+    private static String address(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+    }
+
+    /**
+     * A limit, as configured.
+     *
+     * @param pattern the path pattern of the limited requests.
+     * @param method the method of the limited requests, or {@code null} for all methods.
+     * @param requests the number of requests allowed per period.
+     * @param period the period.
+     * @param key the prefix of the bucket keys, distinct for each limit.
+     */
+    private record Limit(PathPattern pattern, HttpMethod method, long requests, Duration period, String key) {
+        static Limit of(ApplicationProperties.RateLimit.Limit limit) {
+            HttpMethod method = StringUtils.hasText(limit.getMethod())
+                ? HttpMethod.valueOf(limit.getMethod().toUpperCase(Locale.ROOT))
+                : null;
+            return new Limit(
+                PathPatternParser.defaultInstance.parse(limit.getPattern()),
+                method,
+                limit.getRequests(),
+                Duration.ofSeconds(limit.getPeriodSeconds()),
+                (method == null ? "*" : method.name()) + " " + limit.getPattern() + " "
+            );
+        }
+
+        boolean matches(ServerHttpRequest request) {
+            return (method == null || method.equals(request.getMethod())) && pattern.matches(request.getPath().pathWithinApplication());
+        }
+    }
+}
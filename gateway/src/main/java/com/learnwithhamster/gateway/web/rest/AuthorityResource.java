@@ -2,6 +2,7 @@ package com.learnwithhamster.gateway.web.rest;
 
 import com.learnwithhamster.gateway.domain.Authority;
 import com.learnwithhamster.gateway.repository.AuthorityRepository;
+import com.learnwithhamster.gateway.service.AccountCacheService;
 import com.learnwithhamster.gateway.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import java.net.URI;
@@ -37,8 +38,11 @@ public class AuthorityResource {
 
     private final AuthorityRepository authorityRepository;
 
-    public AuthorityResource(AuthorityRepository authorityRepository) {
+    private final AccountCacheService accountCacheService;
+
+    public AuthorityResource(AuthorityRepository authorityRepository, AccountCacheService accountCacheService) {
         this.authorityRepository = authorityRepository;
+        this.accountCacheService = accountCacheService;
     }
 
     /**
@@ -121,6 +125,8 @@ public class AuthorityResource {
         LOG.debug("REST request to delete Authority : {}", id);
         return authorityRepository
             .deleteById(id)
+            // The cached accounts may list the deleted authority
+            .doOnSuccess(deleted -> accountCacheService.evictAll())
             .then(
                 Mono.just(
                     ResponseEntity.noContent().headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id)).build()
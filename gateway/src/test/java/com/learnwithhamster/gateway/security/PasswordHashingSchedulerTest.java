@@ -0,0 +1,88 @@
+package com.learnwithhamster.gateway.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for the {@link PasswordHashingScheduler}.
+ */
+class PasswordHashingSchedulerTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private MeterRegistry meterRegistry;
+
+    private PasswordHashingScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new PasswordHashingScheduler(1, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.dispose();
+    }
+
+    @Test
+    void tasksRunOnDedicatedThreads() {
+        String thread = Mono.fromCallable(() -> Thread.currentThread().getName()).subscribeOn(scheduler).block();
+
+        assertThat(thread).startsWith("password-hashing");
+    }
+
+    @Test
+    void tasksOverQueueCapAreRejectedAndCounted() throws InterruptedException {
+        // One task holds the only thread, another one fills the queue
+        scheduler.schedule(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        started.await();
+        scheduler.schedule(this::awaitRelease);
+
+        assertThatThrownBy(() -> Mono.just("password").publishOn(scheduler).block()).isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get(PasswordHashingScheduler.REJECTED_TASKS_METER_NAME).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void queueCapIsSharedByTheThreads() throws InterruptedException {
+        scheduler.dispose();
+        scheduler = new PasswordHashingScheduler(2, 2, meterRegistry);
+        CountDownLatch running = new CountDownLatch(2);
+        // Each thread runs one task and queues another one
+        for (int i = 0; i < 2; i++) {
+            scheduler.schedule(() -> {
+                running.countDown();
+                awaitRelease();
+            });
+        }
+        running.await();
+        scheduler.schedule(this::awaitRelease);
+        scheduler.schedule(this::awaitRelease);
+
+        assertThatThrownBy(() -> scheduler.schedule(this::awaitRelease)).isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get(PasswordHashingScheduler.REJECTED_TASKS_METER_NAME).counter().count()).isEqualTo(1);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.learnwithhamster.gateway.security.jwt;
 
+import com.learnwithhamster.gateway.config.ApplicationProperties;
 import com.learnwithhamster.gateway.config.SecurityConfiguration;
 import com.learnwithhamster.gateway.config.SecurityJwtConfiguration;
 import com.learnwithhamster.gateway.config.WebConfigurer;
 import com.learnwithhamster.gateway.management.SecurityMetersService;
+import com.learnwithhamster.gateway.service.InMemoryRateLimitService;
+import com.learnwithhamster.gateway.web.filter.RateLimitGatewayFilterFactory;
 import com.learnwithhamster.gateway.web.rest.AuthenticateController;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -19,10 +22,13 @@ import tech.jhipster.config.JHipsterProperties;
 @Import(
     {
         JHipsterProperties.class,
+        ApplicationProperties.class,
         WebConfigurer.class,
         SecurityConfiguration.class,
         SecurityJwtConfiguration.class,
         SecurityMetersService.class,
+        InMemoryRateLimitService.class,
+        RateLimitGatewayFilterFactory.class,
         JwtAuthenticationTestUtils.class,
     }
 )
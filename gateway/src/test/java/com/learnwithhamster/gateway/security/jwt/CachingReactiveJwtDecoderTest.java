@@ -0,0 +1,98 @@
+package com.learnwithhamster.gateway.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for the {@link CachingReactiveJwtDecoder}.
+ */
+class CachingReactiveJwtDecoderTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+
+    private MeterRegistry meterRegistry;
+
+    private Instant expiresAt;
+
+    private boolean rejected;
+
+    private CachingReactiveJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        expiresAt = Instant.now().plusSeconds(60);
+        rejected = false;
+        decoder = new CachingReactiveJwtDecoder(
+            token -> {
+                delegateCalls.incrementAndGet();
+                if (rejected) {
+                    return Mono.error(new BadJwtException("Failed to validate the token"));
+                }
+                Jwt.Builder jwt = Jwt.withTokenValue(token).header("alg", "HS512").subject("user");
+                return Mono.just(expiresAt == null ? jwt.build() : jwt.expiresAt(expiresAt).build());
+            },
+            100,
+            meterRegistry
+        );
+    }
+
+    @Test
+    void verifiedTokenIsDecodedOnce() {
+        Jwt first = decoder.decode(TOKEN).block();
+        Jwt second = decoder.decode(TOKEN).block();
+
+        assertThat(delegateCalls).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get(CachingReactiveJwtDecoder.METER_NAME).tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CachingReactiveJwtDecoder.METER_NAME).tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void otherTokenIsDecoded() {
+        decoder.decode(TOKEN).block();
+        Jwt other = decoder.decode(TOKEN + "2").block();
+
+        assertThat(delegateCalls).hasValue(2);
+        assertThat(other.getTokenValue()).isEqualTo(TOKEN + "2");
+    }
+
+    @Test
+    void expiredTokenIsDecodedAgain() {
+        expiresAt = Instant.now().minusSeconds(1);
+        decoder.decode(TOKEN).block();
+        decoder.decode(TOKEN).block();
+
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    @Test
+    void tokenWithoutExpirationIsNotCached() {
+        expiresAt = null;
+        decoder.decode(TOKEN).block();
+        decoder.decode(TOKEN).block();
+
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    @Test
+    void rejectedTokenIsNotCached() {
+        rejected = true;
+        assertThatThrownBy(() -> decoder.decode(TOKEN).block()).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode(TOKEN).block()).isInstanceOf(BadJwtException.class);
+
+        assertThat(delegateCalls).hasValue(2);
+    }
+}
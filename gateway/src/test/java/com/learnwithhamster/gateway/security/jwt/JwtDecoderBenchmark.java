@@ -0,0 +1,107 @@
+package com.learnwithhamster.gateway.security.jwt;
+
+import static com.learnwithhamster.gateway.security.SecurityUtils.AUTHORITIES_CLAIM;
+import static com.learnwithhamster.gateway.security.SecurityUtils.JWT_ALGORITHM;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+/**
+ * Benchmark of the decoding of the token of a proxied request, which is decoded twice: by the security filter chain
+ * and by the {@link JWTRelayGatewayFilterFactory}.
+ * <p>
+ * {@code uncached} verifies and parses the token both times, {@code cached} goes through a
+ * {@link CachingReactiveJwtDecoder}, the requests cycling over {@code tokens} distinct tokens. Run it from the
+ * {@link #main(String[])} method once the tests are compiled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtDecoderBenchmark {
+
+    private static final String JWT_KEY = "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    @Param({ "1", "1000" })
+    public int tokens;
+
+    private List<String> tokenValues;
+
+    private ReactiveJwtDecoder uncachedDecoder;
+
+    private ReactiveJwtDecoder cachedDecoder;
+
+    private int next;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtDecoderBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = JWT_KEY.getBytes(StandardCharsets.UTF_8);
+        SecretKey key = new SecretKeySpec(keyBytes, 0, keyBytes.length, JWT_ALGORITHM.getName());
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        Instant now = Instant.now();
+        tokenValues = IntStream.range(0, tokens)
+            .mapToObj(i ->
+                JwtClaimsSet.builder()
+                    .issuedAt(now)
+                    .expiresAt(now.plusSeconds(3600))
+                    .subject("user-" + i)
+                    .claim(AUTHORITIES_CLAIM, List.of("ROLE_USER"))
+                    .build()
+            )
+            .map(claims -> encoder.encode(JwtEncoderParameters.from(JwsHeader.with(JWT_ALGORITHM).build(), claims)).getTokenValue())
+            .toList();
+        uncachedDecoder = NimbusReactiveJwtDecoder.withSecretKey(key).macAlgorithm(JWT_ALGORITHM).build();
+        cachedDecoder = new CachingReactiveJwtDecoder(uncachedDecoder, 10000, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Jwt uncached() {
+        return request(uncachedDecoder);
+    }
+
+    @Benchmark
+    public Jwt cached() {
+        return request(cachedDecoder);
+    }
+
+    private Jwt request(ReactiveJwtDecoder decoder) {
+        String token = tokenValues.get(next);
+        next = (next + 1) % tokens;
+        decoder.decode(token).block();
+        return decoder.decode(token).block();
+    }
+}
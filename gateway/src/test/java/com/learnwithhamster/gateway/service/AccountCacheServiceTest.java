@@ -0,0 +1,156 @@
+package com.learnwithhamster.gateway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnwithhamster.gateway.config.ApplicationProperties;
+import com.learnwithhamster.gateway.service.dto.AdminUserDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for the {@link AccountCacheService}.
+ */
+class AccountCacheServiceTest {
+
+    private static final String LOGIN = "johndoe";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private MeterRegistry meterRegistry;
+
+    private AccountCacheService accountCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accountCacheService = new AccountCacheService(new ApplicationProperties(), meterRegistry);
+    }
+
+    @Test
+    void accountIsLoadedOnce() {
+        AdminUserDTO first = get(LOGIN);
+        AdminUserDTO second = get(LOGIN);
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get(AccountCacheService.METER_NAME).tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(AccountCacheService.METER_NAME).tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void evictedAccountIsLoadedAgain() {
+        get(LOGIN);
+        get("jhipster");
+        accountCacheService.evict(LOGIN);
+        get(LOGIN);
+        get("jhipster");
+
+        assertThat(loads).hasValue(3);
+
+        accountCacheService.evictAll();
+        get(LOGIN);
+        get("jhipster");
+
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    void missingAccountIsNotCached() {
+        assertThat(accountCacheService.get(LOGIN, login -> load(Mono.empty())).block()).isNull();
+        get(LOGIN);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void disabledCacheLoadsEachTime() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getAccountCache().setEnabled(false);
+        accountCacheService = new AccountCacheService(applicationProperties, meterRegistry);
+
+        get(LOGIN);
+        get(LOGIN);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void accountReadBeforeTheCommitIsEvictedOnceItCompletes() {
+        get(LOGIN);
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpReactiveTransactionManager());
+
+        transactionalOperator
+            .transactional(
+                accountCacheService
+                    .evictAfterCompletion(LOGIN)
+                    // A concurrent read caches the account again before the commit
+                    .then(Mono.fromRunnable(() -> get(LOGIN)))
+                    .then(Mono.fromRunnable(() -> assertThat(loads).hasValue(1)))
+            )
+            .block();
+        get(LOGIN);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void accountIsEvictedRightAwayWithoutTransaction() {
+        get(LOGIN);
+        accountCacheService.evictAfterCompletion(LOGIN).block();
+        get(LOGIN);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private AdminUserDTO get(String login) {
+        AdminUserDTO account = new AdminUserDTO();
+        account.setLogin(login);
+        return accountCacheService.get(login, key -> load(Mono.just(account))).block();
+    }
+
+    private Mono<AdminUserDTO> load(Mono<AdminUserDTO> account) {
+        return Mono.defer(() -> {
+            loads.incrementAndGet();
+            return account;
+        });
+    }
+
+    /**
+     * Transaction manager running the transaction synchronizations only.
+     */
+    private static class NoOpReactiveTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(
+            TransactionSynchronizationManager synchronizationManager,
+            Object transaction,
+            TransactionDefinition definition
+        ) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager, GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager, GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
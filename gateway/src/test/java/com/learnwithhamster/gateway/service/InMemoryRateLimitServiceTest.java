@@ -0,0 +1,77 @@
+package com.learnwithhamster.gateway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnwithhamster.gateway.config.ApplicationProperties;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link InMemoryRateLimitService}.
+ */
+class InMemoryRateLimitServiceTest {
+
+    private static final Duration PERIOD = Duration.ofSeconds(10);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private InMemoryRateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitService = new InMemoryRateLimitService(new ApplicationProperties(), nanoTime::get);
+    }
+
+    @Test
+    void fullBucketAllowsBurst() {
+        assertThat(tryConsume("user:a")).isZero();
+        assertThat(tryConsume("user:a")).isZero();
+        assertThat(tryConsume("user:a")).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void bucketIsRefilledOverPeriod() {
+        tryConsume("user:a");
+        tryConsume("user:a");
+
+        advance(Duration.ofSeconds(4));
+        assertThat(tryConsume("user:a")).isEqualTo(Duration.ofSeconds(1));
+        advance(Duration.ofSeconds(1));
+        assertThat(tryConsume("user:a")).isZero();
+        assertThat(tryConsume("user:a")).isEqualTo(Duration.ofSeconds(5));
+
+        advance(Duration.ofSeconds(60));
+        assertThat(tryConsume("user:a")).isZero();
+        assertThat(tryConsume("user:a")).isZero();
+    }
+
+    @Test
+    void rejectedRequestsDoNotTakeTokens() {
+        tryConsume("user:a");
+        tryConsume("user:a");
+        tryConsume("user:a");
+        tryConsume("user:a");
+
+        advance(Duration.ofSeconds(5));
+        assertThat(tryConsume("user:a")).isZero();
+    }
+
+    @Test
+    void keysHaveTheirOwnBuckets() {
+        tryConsume("user:a");
+        tryConsume("user:a");
+
+        assertThat(tryConsume("user:a")).isPositive();
+        assertThat(tryConsume("ip:10.0.0.1")).isZero();
+    }
+
+    private Duration tryConsume(String key) {
+        return rateLimitService.tryConsume(key, 2, PERIOD).block();
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+}
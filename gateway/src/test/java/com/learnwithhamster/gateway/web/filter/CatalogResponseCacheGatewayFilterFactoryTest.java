@@ -0,0 +1,145 @@
+package com.learnwithhamster.gateway.web.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnwithhamster.gateway.config.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for the {@link CatalogResponseCacheGatewayFilterFactory}.
+ */
+class CatalogResponseCacheGatewayFilterFactoryTest {
+
+    private static final String COURSES = "/services/service/api/courses";
+
+    private static final String BODY = "[{\"id\":1}]";
+
+    private static final String ETAG = "W/\"course-1\"";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private String upstreamCacheControl;
+
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getResponseCache().setPatterns(List.of(COURSES + "/**"));
+        filter = new CatalogResponseCacheGatewayFilterFactory(applicationProperties, new SimpleMeterRegistry()).apply(new Object());
+        upstreamCacheControl = "public, max-age=60";
+    }
+
+    @Test
+    void freshResponseIsReplayed() {
+        MockServerWebExchange first = exchange(MockServerHttpRequest.get(COURSES));
+        filter.filter(first, upstream()).block();
+        MockServerWebExchange second = exchange(MockServerHttpRequest.get(COURSES));
+        filter.filter(second, upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(second.getResponse().getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(second.getResponse().getHeaders().getFirst(HttpHeaders.AGE)).isNotNull();
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredFromTheCache() {
+        filter.filter(exchange(MockServerHttpRequest.get(COURSES)), upstream()).block();
+        MockServerWebExchange conditional = exchange(MockServerHttpRequest.get(COURSES).ifNoneMatch(ETAG));
+        filter.filter(conditional, upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void keysCoverTheQueryAndLanguage() {
+        filter.filter(exchange(MockServerHttpRequest.get(COURSES)), upstream()).block();
+        filter.filter(exchange(MockServerHttpRequest.get(COURSES + "?page=1")), upstream()).block();
+        filter.filter(exchange(MockServerHttpRequest.get(COURSES).header(HttpHeaders.ACCEPT_LANGUAGE, "fr")), upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    @Test
+    void authenticatedRequestsBypassTheCache() {
+        filter.filter(exchange(MockServerHttpRequest.get(COURSES)), upstream()).block();
+        filter.filter(exchange(MockServerHttpRequest.get(COURSES).header(HttpHeaders.AUTHORIZATION, "Bearer token")), upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void privateResponsesAreNotStored() {
+        upstreamCacheControl = "no-cache, private";
+        filter.filter(exchange(MockServerHttpRequest.get(COURSES)), upstream()).block();
+        filter.filter(exchange(MockServerHttpRequest.get(COURSES)), upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void staleResponseIsRevalidated() {
+        upstreamCacheControl = "public, no-cache";
+        filter.filter(exchange(MockServerHttpRequest.get(COURSES)), upstream()).block();
+        MockServerWebExchange revalidated = exchange(MockServerHttpRequest.get(COURSES));
+        filter.filter(revalidated, upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(revalidated.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(revalidated.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    void lifetimeFollowsCacheControl() {
+        assertThat(CatalogResponseCacheGatewayFilterFactory.lifetime(cacheControl("public, max-age=60"))).isEqualTo(60000);
+        assertThat(CatalogResponseCacheGatewayFilterFactory.lifetime(cacheControl("max-age=60, s-maxage=10"))).isEqualTo(10000);
+        assertThat(CatalogResponseCacheGatewayFilterFactory.lifetime(cacheControl("public, no-cache"))).isZero();
+        assertThat(CatalogResponseCacheGatewayFilterFactory.lifetime(cacheControl("private, max-age=60"))).isNegative();
+        assertThat(CatalogResponseCacheGatewayFilterFactory.lifetime(cacheControl("no-store"))).isNegative();
+        assertThat(CatalogResponseCacheGatewayFilterFactory.lifetime(new HttpHeaders())).isNegative();
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+
+    private static HttpHeaders cacheControl(String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(value);
+        return headers;
+    }
+
+    /**
+     * A service answering 304 (Not Modified) to a matching If-None-Match, and the body otherwise.
+     */
+    private GatewayFilterChain upstream() {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.getHeaders().setCacheControl(upstreamCacheControl);
+            response.getHeaders().setETag(ETAG);
+            if (exchange.getRequest().getHeaders().getIfNoneMatch().contains(ETAG)) {
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                return response.writeWith(Mono.empty());
+            }
+            response.setStatusCode(HttpStatus.OK);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+}
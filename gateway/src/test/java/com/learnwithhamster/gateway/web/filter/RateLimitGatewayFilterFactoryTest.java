@@ -0,0 +1,145 @@
+package com.learnwithhamster.gateway.web.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnwithhamster.gateway.config.ApplicationProperties;
+import com.learnwithhamster.gateway.service.InMemoryRateLimitService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.security.Principal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for the {@link RateLimitGatewayFilterFactory}.
+ */
+class RateLimitGatewayFilterFactoryTest {
+
+    private static final String MARK = "/services/service/api/user-lesson-progress/mark";
+
+    private static final String AUTHENTICATE = "/api/authenticate";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private MeterRegistry meterRegistry;
+
+    private RateLimitGatewayFilterFactory factory;
+
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getRateLimit().setLimits(List.of(limit(MARK, "POST"), limit(AUTHENTICATE, "POST")));
+        meterRegistry = new SimpleMeterRegistry();
+        factory = new RateLimitGatewayFilterFactory(
+            applicationProperties,
+            new InMemoryRateLimitService(applicationProperties),
+            meterRegistry
+        );
+        filter = factory.apply(new Object());
+    }
+
+    @Test
+    void emptyBucketIsAnsweredWithTooManyRequests() {
+        filter.filter(exchange(MockServerHttpRequest.post(MARK), "alice"), upstream()).block();
+        filter.filter(exchange(MockServerHttpRequest.post(MARK), "alice"), upstream()).block();
+        ServerWebExchange third = exchange(MockServerHttpRequest.post(MARK), "alice");
+        filter.filter(third, upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(third.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(Long.parseLong(third.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER))).isBetween(1L, 30L);
+        assertThat(meterRegistry.get(RateLimitGatewayFilterFactory.METER_NAME).tag("result", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void usersHaveTheirOwnBuckets() {
+        filter.filter(exchange(MockServerHttpRequest.post(MARK), "alice"), upstream()).block();
+        filter.filter(exchange(MockServerHttpRequest.post(MARK), "alice"), upstream()).block();
+        ServerWebExchange other = exchange(MockServerHttpRequest.post(MARK), "bob");
+        filter.filter(other, upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(other.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void anonymousRequestsAreLimitedByAddress() {
+        filter.filter(exchange(MockServerHttpRequest.post(MARK).remoteAddress(address("10.0.0.1")), null), upstream()).block();
+        filter.filter(exchange(MockServerHttpRequest.post(MARK).remoteAddress(address("10.0.0.1")), null), upstream()).block();
+        ServerWebExchange sameAddress = exchange(MockServerHttpRequest.post(MARK).remoteAddress(address("10.0.0.1")), null);
+        filter.filter(sameAddress, upstream()).block();
+        ServerWebExchange otherAddress = exchange(MockServerHttpRequest.post(MARK).remoteAddress(address("10.0.0.2")), null);
+        filter.filter(otherAddress, upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(sameAddress.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void unmatchedRequestsAreNotLimited() {
+        for (int i = 0; i < 5; i++) {
+            filter.filter(exchange(MockServerHttpRequest.get(MARK), "alice"), upstream()).block();
+        }
+
+        assertThat(upstreamCalls).hasValue(5);
+    }
+
+    @Test
+    void webFilterLimitsGatewayEndpointsOnly() {
+        WebFilter webFilter = factory.webFilter();
+        for (int i = 0; i < 3; i++) {
+            webFilter.filter(exchange(MockServerHttpRequest.post(MARK), "alice"), exchange -> upstream().filter(exchange)).block();
+        }
+        assertThat(upstreamCalls).hasValue(3);
+
+        for (int i = 0; i < 3; i++) {
+            webFilter.filter(exchange(MockServerHttpRequest.post(AUTHENTICATE), null), exchange -> upstream().filter(exchange)).block();
+        }
+        assertThat(upstreamCalls).hasValue(5);
+    }
+
+    private static ApplicationProperties.RateLimit.Limit limit(String pattern, String method) {
+        ApplicationProperties.RateLimit.Limit limit = new ApplicationProperties.RateLimit.Limit();
+        limit.setPattern(pattern);
+        limit.setMethod(method);
+        limit.setRequests(2);
+        limit.setPeriodSeconds(60);
+        return limit;
+    }
+
+    private static InetSocketAddress address(String host) {
+        return new InetSocketAddress(host, 43210);
+    }
+
+    private static ServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request, String user) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        if (user == null) {
+            return exchange;
+        }
+        Principal principal = new UsernamePasswordAuthenticationToken(user, null, List.of());
+        return exchange.mutate().principal(Mono.just(principal)).build();
+    }
+
+    private GatewayFilterChain upstream() {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return exchange.getResponse().setComplete();
+        };
+    }
+}
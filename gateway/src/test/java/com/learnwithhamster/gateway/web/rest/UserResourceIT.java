@@ -268,6 +268,30 @@ class UserResourceIT {
         assertThat(foundUser.getLangKey()).isEqualTo(DEFAULT_LANGKEY);
     }
 
+    @Test
+    void getUsersPageWithAuthorities() {
+        // Initialize the database
+        User saved = userRepository.save(user).block();
+        userRepository.saveUserAuthority(saved.getId(), AuthoritiesConstants.USER).block();
+        userRepository.save(createEntity()).block();
+
+        // Get the second page of one user, the newest one being on the first page
+        List<AdminUserDTO> foundUsers = webTestClient
+            .get()
+            .uri("/api/admin/users?sort=id,desc&size=1&page=1")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(AdminUserDTO.class)
+            .getResponseBody()
+            .collectList()
+            .block();
+        assertThat(foundUsers).hasSize(1);
+        assertThat(foundUsers.get(0).getLogin()).isEqualTo(DEFAULT_LOGIN);
+        assertThat(foundUsers.get(0).getAuthorities()).containsExactly(AuthoritiesConstants.USER);
+    }
+
     @Test
     void getUser() {
         // Initialize the database
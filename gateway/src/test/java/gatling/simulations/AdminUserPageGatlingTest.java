@@ -0,0 +1,178 @@
+package gatling.simulations;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.details;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.rampUsers;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.header;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark of the admin users pages against a large user table.
+ * <p>
+ * When {@code jdbcUrl} is given (with {@code jdbcUsername} and {@code jdbcPassword}), the user table is first topped
+ * up to {@code seedUsers} users (1000000 by default) in SQL, each one with the {@code ROLE_USER} authority. Then
+ * {@code users} admins read the first and the last page of {@code pageSize} users, sorted by id, by login and by
+ * creation date. As the gateway only reads one page, its memory stays flat and the response times depend on the
+ * database indexes, not on the size of the table.
+ *
+ * @see <a href="https://github.com/jhipster/generator-jhipster/tree/v8.11.0/generators/gatling#logging-tips">Logging tips</a>
+ */
+public class AdminUserPageGatlingTest extends Simulation {
+
+    private static final String SEED_LOGIN_PREFIX = "gatling-";
+
+    // The hash of the "user" password of the default user
+    private static final String SEED_PASSWORD_HASH = "$2a$10$VEjxo0jq2YG9Rbk2HmX9S.k1uZBGYUHdUcid3g/vfiEl7lwWgOH/K";
+
+    String baseURL = Optional.ofNullable(System.getProperty("baseURL")).orElse("http://localhost:8080");
+
+    int seedUsers = Integer.getInteger("seedUsers", 1000000);
+
+    int pageSize = Integer.getInteger("pageSize", 20);
+
+    HttpProtocolBuilder httpConf = http
+        .baseUrl(baseURL)
+        .acceptHeader("*/*")
+        .acceptEncodingHeader("gzip, deflate")
+        .connectionHeader("keep-alive")
+        .userAgentHeader("Mozilla/5.0 (Macintosh; Intel Mac OS X 10.10; rv:33.0) Gecko/20100101 Firefox/33.0");
+
+    Map<String, String> headersHttpAuthentication = Map.of("Content-Type", "application/json", "Accept", "application/json");
+
+    Map<String, String> headersHttpAuthenticated = Map.of("Accept", "application/json", "Authorization", "${access_token}");
+
+    ChainBuilder authenticate = exec(
+        http("Authentication")
+            .post("/api/authenticate")
+            .headers(headersHttpAuthentication)
+            .body(StringBody("{\"username\":\"admin\", \"password\":\"admin\"}"))
+            .asJson()
+            .check(header("Authorization").saveAs("access_token"))
+    ).exitHereIfFailed();
+
+    ChainBuilder locateLastPage = exec(
+        http("Count the users")
+            .get("/api/admin/users?size=1")
+            .headers(headersHttpAuthenticated)
+            .check(status().is(200))
+            .check(header("X-Total-Count").saveAs("total_count"))
+    )
+        .exitHereIfFailed()
+        .exec(session -> session.set("last_page", Math.max(0, (Long.parseLong(session.getString("total_count")) - 1) / pageSize)));
+
+    ScenarioBuilder browse = scenario("Read the first and the last admin users pages").exec(
+        authenticate
+            .exec(locateLastPage)
+            .pause(1)
+            .repeat(Integer.getInteger("iterations", 10))
+            .on(
+                exec(page("id,asc", false))
+                    .exec(page("id,asc", true))
+                    .exec(page("login,asc", false))
+                    .exec(page("login,asc", true))
+                    .exec(page("createdDate,desc", false))
+                    .exec(page("createdDate,desc", true))
+            )
+    );
+
+    {
+        setUp(browse.injectOpen(rampUsers(Integer.getInteger("users", 10)).during(Duration.ofSeconds(Integer.getInteger("ramp", 10)))))
+            .protocols(httpConf)
+            .assertions(
+                global().failedRequests().count().is(0L),
+                details("Get the last users page by id,asc").responseTime().percentile3().lt(Integer.getInteger("maxPageMillis", 500))
+            );
+    }
+
+    @Override
+    public void before() {
+        String jdbcUrl = System.getProperty("jdbcUrl");
+        if (jdbcUrl == null) {
+            return;
+        }
+        try (
+            Connection connection = DriverManager.getConnection(
+                jdbcUrl,
+                System.getProperty("jdbcUsername", "root"),
+                System.getProperty("jdbcPassword", "")
+            );
+            Statement statement = connection.createStatement()
+        ) {
+            seed(statement);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to seed the users", e);
+        }
+    }
+
+    private ChainBuilder page(String sort, boolean last) {
+        return exec(
+            http("Get the " + (last ? "last" : "first") + " users page by " + sort)
+                .get("/api/admin/users?sort=" + sort + "&size=" + pageSize + "&page=" + (last ? "${last_page}" : "0"))
+                .headers(headersHttpAuthenticated)
+                .check(status().is(200))
+                .check(jsonPath("$[0].authorities").exists())
+        );
+    }
+
+    private void seed(Statement statement) throws SQLException {
+        long existing;
+        try (ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM jhi_user WHERE login LIKE '" + SEED_LOGIN_PREFIX + "%'")) {
+            count.next();
+            existing = count.getLong(1);
+        }
+        if (existing >= seedUsers) {
+            return;
+        }
+        // The numbers from 0 to 10^digits - 1, as the cross join of as many tables of 10 digits
+        int digits = String.valueOf(seedUsers - 1).length();
+        String digitTable = IntStream.range(0, 10).mapToObj(d -> "SELECT " + d + " AS d").collect(Collectors.joining(" UNION ALL "));
+        String number = IntStream.range(0, digits)
+            .mapToObj(i -> "d" + i + ".d * " + (long) Math.pow(10, i))
+            .collect(Collectors.joining(" + "));
+        String tables = IntStream.range(0, digits).mapToObj(i -> "(" + digitTable + ") d" + i).collect(Collectors.joining(", "));
+        statement.executeUpdate(
+            "INSERT INTO jhi_user (login, password_hash, email, activated, lang_key, created_by, created_date) " +
+            "SELECT CONCAT('" +
+            SEED_LOGIN_PREFIX +
+            "', n), '" +
+            SEED_PASSWORD_HASH +
+            "', CONCAT('" +
+            SEED_LOGIN_PREFIX +
+            "', n, '@localhost'), TRUE, 'en', 'system', CURRENT_TIMESTAMP " +
+            "FROM (SELECT " +
+            number +
+            " AS n FROM " +
+            tables +
+            ") numbers WHERE n >= " +
+            existing +
+            " AND n < " +
+            seedUsers
+        );
+        statement.executeUpdate(
+            "INSERT INTO jhi_user_authority (user_id, authority_name) SELECT u.id, 'ROLE_USER' FROM jhi_user u " +
+            "WHERE u.login LIKE '" +
+            SEED_LOGIN_PREFIX +
+            "%' AND NOT EXISTS (SELECT 1 FROM jhi_user_authority ua WHERE ua.user_id = u.id)"
+        );
+    }
+}
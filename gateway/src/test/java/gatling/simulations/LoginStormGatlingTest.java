@@ -0,0 +1,91 @@
+package gatling.simulations;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.details;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.nothingFor;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.header;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Benchmark of the latency of {@code /api/account} while {@code logins} concurrent logins (500 by default) are in
+ * flight.
+ * <p>
+ * The logins keep the BCrypt threads busy for {@code seconds} seconds, while {@code readers} authenticated users read
+ * their account, which is served on the event loop. As the passwords are verified on their own bounded scheduler, the
+ * account reads stay fast; logins over the capacity of its queue get a {@code 503 (Service Unavailable)}, which is not
+ * counted as a failure.
+ * <p>
+ * The gateway must be started without the rate limit of {@code /api/authenticate}, such as with
+ * {@code --application.rate-limit.enabled=false}, else the logins of the single load injector are limited first.
+ *
+ * @see <a href="https://github.com/jhipster/generator-jhipster/tree/v8.11.0/generators/gatling#logging-tips">Logging tips</a>
+ */
+public class LoginStormGatlingTest extends Simulation {
+
+    String baseURL = Optional.ofNullable(System.getProperty("baseURL")).orElse("http://localhost:8080");
+
+    Duration duration = Duration.ofSeconds(Integer.getInteger("seconds", 60));
+
+    HttpProtocolBuilder httpConf = http
+        .baseUrl(baseURL)
+        .acceptHeader("*/*")
+        .acceptEncodingHeader("gzip, deflate")
+        .connectionHeader("keep-alive")
+        .userAgentHeader("Mozilla/5.0 (Macintosh; Intel Mac OS X 10.10; rv:33.0) Gecko/20100101 Firefox/33.0");
+
+    Map<String, String> headersHttpAuthentication = Map.of("Content-Type", "application/json", "Accept", "application/json");
+
+    Map<String, String> headersHttpAuthenticated = Map.of("Accept", "application/json", "Authorization", "${access_token}");
+
+    ChainBuilder authenticate = exec(
+        http("Authentication")
+            .post("/api/authenticate")
+            .headers(headersHttpAuthentication)
+            .body(StringBody("{\"username\":\"admin\", \"password\":\"admin\"}"))
+            .asJson()
+            .check(header("Authorization").saveAs("access_token"))
+    ).exitHereIfFailed();
+
+    ScenarioBuilder storm = scenario("Log in again and again").during(duration).on(
+        exec(
+            http("Log in")
+                .post("/api/authenticate")
+                .headers(headersHttpAuthentication)
+                .body(StringBody("{\"username\":\"user\", \"password\":\"user\"}"))
+                .asJson()
+                .check(status().in(200, 503))
+        )
+    );
+
+    ChainBuilder readAccount = exec(
+        http("Get the account").get("/api/account").headers(headersHttpAuthenticated).check(status().is(200))
+    ).pause(Duration.ofMillis(100));
+
+    ScenarioBuilder readers = scenario("Read the account during the logins").exec(authenticate.during(duration).on(readAccount));
+
+    {
+        setUp(
+            readers.injectOpen(atOnceUsers(Integer.getInteger("readers", 10))),
+            // The readers log in before the storm starts
+            storm.injectOpen(nothingFor(Duration.ofSeconds(5)), atOnceUsers(Integer.getInteger("logins", 500)))
+        )
+            .protocols(httpConf)
+            .assertions(
+                global().failedRequests().count().is(0L),
+                details("Get the account").responseTime().percentile3().lt(Integer.getInteger("maxAccountMillis", 100))
+            );
+    }
+}
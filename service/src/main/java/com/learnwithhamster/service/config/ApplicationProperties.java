@@ -1,5 +1,7 @@
 package com.learnwithhamster.service.config;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,12 +15,60 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final SearchIndexing searchIndexing = new SearchIndexing();
+
+    private final SearchSuggest searchSuggest = new SearchSuggest();
+
+    private final ProgressWriteBehind progressWriteBehind = new ProgressWriteBehind();
+
+    private final CatalogCache catalogCache = new CatalogCache();
+
+    private final NearCache nearCache = new NearCache();
+
+    private final CatalogWarmUp catalogWarmUp = new CatalogWarmUp();
+
+    private final HttpCache httpCache = new HttpCache();
+
+    private final CatalogExport catalogExport = new CatalogExport();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public SearchIndexing getSearchIndexing() {
+        return searchIndexing;
+    }
+
+    public SearchSuggest getSearchSuggest() {
+        return searchSuggest;
+    }
+
+    public ProgressWriteBehind getProgressWriteBehind() {
+        return progressWriteBehind;
+    }
+
+    public CatalogCache getCatalogCache() {
+        return catalogCache;
+    }
+
+    public NearCache getNearCache() {
+        return nearCache;
+    }
+
+    public CatalogWarmUp getCatalogWarmUp() {
+        return catalogWarmUp;
+    }
+
+    public HttpCache getHttpCache() {
+        return httpCache;
+    }
+
+    public CatalogExport getCatalogExport() {
+        return catalogExport;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +83,417 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class SearchIndexing {
+
+        /**
+         * When disabled, documents are indexed synchronously in the writing transaction.
+         */
+        private boolean enabled = true;
+
+        private int batchSize = 500;
+
+        private long lingerMs = 1000;
+
+        /**
+         * Number of times a document that cannot be indexed is tried, before it is given up.
+         */
+        private int maxAttempts = 5;
+
+        private int reindexWorkers = 4;
+
+        private int reindexPageSize = 1000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getLingerMs() {
+            return lingerMs;
+        }
+
+        public void setLingerMs(long lingerMs) {
+            this.lingerMs = lingerMs;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public int getReindexWorkers() {
+            return reindexWorkers;
+        }
+
+        public void setReindexWorkers(int reindexWorkers) {
+            this.reindexWorkers = reindexWorkers;
+        }
+
+        public int getReindexPageSize() {
+            return reindexPageSize;
+        }
+
+        public void setReindexPageSize(int reindexPageSize) {
+            this.reindexPageSize = reindexPageSize;
+        }
+    }
+
+    public static class SearchSuggest {
+
+        /**
+         * Maximum number of suggestions a client can ask for.
+         */
+        private int maxResults = 20;
+
+        private long cacheTtlMs = 30000;
+
+        private long cacheMaxSize = 10000;
+
+        public int getMaxResults() {
+            return maxResults;
+        }
+
+        public void setMaxResults(int maxResults) {
+            this.maxResults = maxResults;
+        }
+
+        public long getCacheTtlMs() {
+            return cacheTtlMs;
+        }
+
+        public void setCacheTtlMs(long cacheTtlMs) {
+            this.cacheTtlMs = cacheTtlMs;
+        }
+
+        public long getCacheMaxSize() {
+            return cacheMaxSize;
+        }
+
+        public void setCacheMaxSize(long cacheMaxSize) {
+            this.cacheMaxSize = cacheMaxSize;
+        }
+    }
+
+    public static class ProgressWriteBehind {
+
+        /**
+         * When enabled, lesson progress marks are acknowledged before being written, and lost if the instance crashes
+         * within {@code maxLagMs}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum time a mark waits in the buffer before being written.
+         */
+        private long maxLagMs = 1000;
+
+        /**
+         * Maximum number of buffered marks, beyond which the marks are written synchronously.
+         */
+        private int maxBuffer = 5000;
+
+        private int batchSize = 500;
+
+        private int stripes = 16;
+
+        /**
+         * Number of times a mark whose write fails is tried, before it is given up.
+         */
+        private int maxAttempts = 5;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaxLagMs() {
+            return maxLagMs;
+        }
+
+        public void setMaxLagMs(long maxLagMs) {
+            this.maxLagMs = maxLagMs;
+        }
+
+        public int getMaxBuffer() {
+            return maxBuffer;
+        }
+
+        public void setMaxBuffer(int maxBuffer) {
+            this.maxBuffer = maxBuffer;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getStripes() {
+            return stripes;
+        }
+
+        public void setStripes(int stripes) {
+            this.stripes = stripes;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+    }
+
+    public static class CatalogCache {
+
+        /**
+         * When disabled, the catalog services always read from the database.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Settings of the caches, keyed by cache name. Caches not listed use the defaults of {@link Settings}.
+         */
+        private final Map<String, Settings> caches = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Map<String, Settings> getCaches() {
+            return caches;
+        }
+
+        public Settings getSettings(String cacheName) {
+            return caches.getOrDefault(cacheName, new Settings());
+        }
+
+        public static class Settings {
+
+            private int timeToLiveSeconds = 3600;
+
+            /**
+             * Maximum number of entries per cluster member, the least recently used are evicted first.
+             */
+            private int maxSize = 10000;
+
+            public int getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public int getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+            }
+        }
+    }
+
+    public static class NearCache {
+
+        /**
+         * When enabled, each member keeps a near cache in front of the Hibernate second level cache maps and the
+         * catalog caches, invalidated cluster wide whenever an entry changes.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of entries of each near cache, the least recently used are evicted first.
+         */
+        private int maxEntries = 10000;
+
+        /**
+         * Maximum time an entry stays in a near cache, 0 to keep it until it is invalidated or evicted.
+         */
+        private int timeToLiveSeconds = 0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public int getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+    }
+
+    public static class CatalogWarmUp {
+
+        /**
+         * When enabled, the catalog caches are loaded at startup before the instance reports ready, and again by
+         * the oldest member whenever a partition of the caches is lost.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of entries loaded in parallel.
+         */
+        private int concurrency = 4;
+
+        /**
+         * Maximum time spent loading, the instance reports ready once it is elapsed even if the caches are not full.
+         */
+        private long timeBudgetMs = 30000;
+
+        /**
+         * Number of most viewed lessons loaded, on top of all the disciplines, programs and courses.
+         */
+        private int mostViewedLessons = 500;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public long getTimeBudgetMs() {
+            return timeBudgetMs;
+        }
+
+        public void setTimeBudgetMs(long timeBudgetMs) {
+            this.timeBudgetMs = timeBudgetMs;
+        }
+
+        public int getMostViewedLessons() {
+            return mostViewedLessons;
+        }
+
+        public void setMostViewedLessons(int mostViewedLessons) {
+            this.mostViewedLessons = mostViewedLessons;
+        }
+    }
+
+    public static class HttpCache {
+
+        /**
+         * When enabled, the catalog resources carry an ETag and a Last-Modified header, and conditional requests
+         * matching them are answered with 304 (Not Modified) before the catalog services run.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Cache-Control policies, keyed by endpoint such as {@code courses}. Endpoints not listed use the defaults of
+         * {@link Policy}.
+         */
+        private final Map<String, Policy> endpoints = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Map<String, Policy> getEndpoints() {
+            return endpoints;
+        }
+
+        public Policy getPolicy(String endpoint) {
+            return endpoints.getOrDefault(endpoint, new Policy());
+        }
+
+        public static class Policy {
+
+            /**
+             * Time a response may be reused without revalidation, 0 to revalidate it on every use.
+             */
+            private int maxAgeSeconds = 0;
+
+            /**
+             * Whether shared caches, such as the gateway's, may store the responses rather than the browser only.
+             */
+            private boolean cachePublic = false;
+
+            public int getMaxAgeSeconds() {
+                return maxAgeSeconds;
+            }
+
+            public void setMaxAgeSeconds(int maxAgeSeconds) {
+                this.maxAgeSeconds = maxAgeSeconds;
+            }
+
+            public boolean isCachePublic() {
+                return cachePublic;
+            }
+
+            public void setCachePublic(boolean cachePublic) {
+                this.cachePublic = cachePublic;
+            }
+        }
+    }
+
+    public static class CatalogExport {
+
+        /**
+         * Rows fetched per round trip by the export cursors. {@code Integer.MIN_VALUE} makes the MySQL driver stream
+         * the rows one by one instead of reading the whole result set in memory.
+         */
+        private int fetchSize = Integer.MIN_VALUE;
+
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
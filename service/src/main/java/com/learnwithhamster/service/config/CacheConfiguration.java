@@ -3,6 +3,8 @@ package com.learnwithhamster.service.config;
 import com.hazelcast.config.*;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.learnwithhamster.service.service.CatalogCaches;
+import com.learnwithhamster.service.service.CatalogVersions;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +15,8 @@ import org.springframework.boot.info.GitProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.cloud.client.serviceregistry.Registration;
@@ -58,13 +62,34 @@ public class CacheConfiguration {
     }
 
     @Bean
+    @Primary
     public CacheManager cacheManager(HazelcastInstance hazelcastInstance) {
         LOG.debug("Starting HazelcastCacheManager");
         return new com.hazelcast.spring.cache.HazelcastCacheManager(hazelcastInstance);
     }
 
+    /**
+     * Cache manager of the catalog DTOs, see {@link CatalogCaches}.
+     * <p>
+     * Puts and evictions are deferred until the surrounding transaction commits, so a rolled back write never evicts
+     * and a concurrent read never caches a value that was not committed.
+     */
+    @Bean(CatalogCaches.CACHE_MANAGER)
+    public CacheManager catalogCacheManager(HazelcastInstance hazelcastInstance, ApplicationProperties applicationProperties) {
+        if (!applicationProperties.getCatalogCache().isEnabled()) {
+            LOG.debug("Catalog cache is disabled");
+            return new NoOpCacheManager();
+        }
+        com.hazelcast.spring.cache.HazelcastCacheManager cacheManager = new com.hazelcast.spring.cache.HazelcastCacheManager(
+            hazelcastInstance
+        );
+        // Created up front so that their statistics are bound to the meter registry at startup
+        CatalogCaches.NAMES.forEach(cacheManager::getCache);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
     @Bean
-    public HazelcastInstance hazelcastInstance(JHipsterProperties jHipsterProperties) {
+    public HazelcastInstance hazelcastInstance(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
         LOG.debug("Configuring Hazelcast");
         HazelcastInstance hazelCastInstance = Hazelcast.getHazelcastInstanceByName("service");
         if (hazelCastInstance != null) {
@@ -104,9 +129,15 @@ public class CacheConfiguration {
                 }
             }
         }
+        // The catalog cache values are written with Compact serialization rather than Java serialization
+        CatalogCompactSerializers.all().forEach(config.getSerializationConfig().getCompactSerializationConfig()::addSerializer);
+        // and so are the Hibernate second level cache entries of the domain maps
+        HibernateCacheEntrySerializers.all().forEach(config.getSerializationConfig()::addSerializerConfig);
         config.setManagementCenterConfig(new ManagementCenterConfig());
         config.addMapConfig(initializeDefaultMapConfig(jHipsterProperties));
-        config.addMapConfig(initializeDomainMapConfig(jHipsterProperties));
+        config.addMapConfig(initializeDomainMapConfig(jHipsterProperties, applicationProperties));
+        CatalogCaches.NAMES.forEach(name -> config.addMapConfig(initializeCatalogMapConfig(name, applicationProperties)));
+        config.addMapConfig(initializeCatalogVersionsMapConfig(jHipsterProperties));
         return Hazelcast.newHazelcastInstance(config);
     }
 
@@ -140,12 +171,57 @@ public class CacheConfiguration {
         return mapConfig;
     }
 
-    private MapConfig initializeDomainMapConfig(JHipsterProperties jHipsterProperties) {
+    private MapConfig initializeDomainMapConfig(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
         MapConfig mapConfig = new MapConfig("com.learnwithhamster.service.domain.*");
         mapConfig.setTimeToLiveSeconds(jHipsterProperties.getCache().getHazelcast().getTimeToLiveSeconds());
+        initializeNearCacheConfig(mapConfig, applicationProperties);
+        return mapConfig;
+    }
+
+    private MapConfig initializeCatalogMapConfig(String name, ApplicationProperties applicationProperties) {
+        ApplicationProperties.CatalogCache.Settings settings = applicationProperties.getCatalogCache().getSettings(name);
+        MapConfig mapConfig = new MapConfig(name);
+        mapConfig.setTimeToLiveSeconds(settings.getTimeToLiveSeconds());
+        mapConfig.getEvictionConfig().setEvictionPolicy(EvictionPolicy.LRU);
+        mapConfig.getEvictionConfig().setMaxSizePolicy(MaxSizePolicy.PER_NODE);
+        mapConfig.getEvictionConfig().setSize(settings.getMaxSize());
+        // Hits and misses are read from the map statistics by the cache metrics
+        mapConfig.setStatisticsEnabled(true);
+        initializeNearCacheConfig(mapConfig, applicationProperties);
         return mapConfig;
     }
 
+    private MapConfig initializeCatalogVersionsMapConfig(JHipsterProperties jHipsterProperties) {
+        // A handful of entries that must outlive any eviction, a lost stamp could answer 304 (Not Modified) to a stale copy
+        MapConfig mapConfig = new MapConfig(CatalogVersions.MAP_NAME);
+        mapConfig.setBackupCount(Math.max(1, jHipsterProperties.getCache().getHazelcast().getBackupCount()));
+        return mapConfig;
+    }
+
+    private void initializeNearCacheConfig(MapConfig mapConfig, ApplicationProperties applicationProperties) {
+        ApplicationProperties.NearCache nearCache = applicationProperties.getNearCache();
+        if (!nearCache.isEnabled()) {
+            return;
+        }
+        NearCacheConfig nearCacheConfig = new NearCacheConfig(mapConfig.getName());
+        /*
+        Entries are kept deserialized, so a read hitting the near cache costs neither a network hop nor a
+        deserialization. The same instance is handed to every reader: cached values must not be modified.
+        */
+        nearCacheConfig.setInMemoryFormat(InMemoryFormat.OBJECT);
+        // Any change of an entry on any member invalidates it in the near cache of every member
+        nearCacheConfig.setInvalidateOnChange(true);
+        // Entries owned by this member are near cached too, which saves their deserialization
+        nearCacheConfig.setCacheLocalEntries(true);
+        nearCacheConfig.setTimeToLiveSeconds(nearCache.getTimeToLiveSeconds());
+        nearCacheConfig
+            .getEvictionConfig()
+            .setEvictionPolicy(EvictionPolicy.LRU)
+            .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+            .setSize(nearCache.getMaxEntries());
+        mapConfig.setNearCacheConfig(nearCacheConfig);
+    }
+
     @Autowired(required = false)
     public void setGitProperties(GitProperties gitProperties) {
         this.gitProperties = gitProperties;
@@ -0,0 +1,294 @@
+package com.learnwithhamster.service.config;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.learnwithhamster.service.domain.enumeration.Language;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import com.learnwithhamster.service.domain.enumeration.ResourceType;
+import com.learnwithhamster.service.service.dto.CourseDTO;
+import com.learnwithhamster.service.service.dto.DisciplineDTO;
+import com.learnwithhamster.service.service.dto.LessonDTO;
+import com.learnwithhamster.service.service.dto.ProgramDTO;
+import com.learnwithhamster.service.service.dto.ResourceDTO;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Hazelcast Compact serializers of the values held by the catalog caches, registered by {@link CacheConfiguration}.
+ * <p>
+ * Compact values only carry the field values, their schema being shared once per cluster, where Java serialization
+ * writes the class descriptors along with every value.
+ */
+public final class CatalogCompactSerializers {
+
+    private CatalogCompactSerializers() {}
+
+    public static List<CompactSerializer<?>> all() {
+        return List.of(
+            new CourseDTOSerializer(),
+            new LessonDTOSerializer(),
+            new ProgramDTOSerializer(),
+            new DisciplineDTOSerializer(),
+            new ResourceDTOSerializer(),
+            new PageSerializer()
+        );
+    }
+
+    public static class CourseDTOSerializer implements CompactSerializer<CourseDTO> {
+
+        @Override
+        public CourseDTO read(CompactReader reader) {
+            CourseDTO course = new CourseDTO();
+            course.setId(reader.readNullableInt64("id"));
+            course.setCourseTitle(reader.readString("courseTitle"));
+            course.setCourseDescription(reader.readString("courseDescription"));
+            course.setCoursePrice(reader.readNullableInt64("coursePrice"));
+            course.setCourseLevel(readEnum(reader, "courseLevel", Level::valueOf));
+            course.setLessons(toSet(reader.readArrayOfCompact("lessons", LessonDTO.class)));
+            course.setPrograms(toSet(reader.readArrayOfCompact("programs", ProgramDTO.class)));
+            return course;
+        }
+
+        @Override
+        public void write(CompactWriter writer, CourseDTO course) {
+            writer.writeNullableInt64("id", course.getId());
+            writer.writeString("courseTitle", course.getCourseTitle());
+            writer.writeString("courseDescription", course.getCourseDescription());
+            writer.writeNullableInt64("coursePrice", course.getCoursePrice());
+            writeEnum(writer, "courseLevel", course.getCourseLevel());
+            writer.writeArrayOfCompact("lessons", toArray(course.getLessons(), LessonDTO[]::new));
+            writer.writeArrayOfCompact("programs", toArray(course.getPrograms(), ProgramDTO[]::new));
+        }
+
+        @Override
+        public String getTypeName() {
+            return "catalog.Course";
+        }
+
+        @Override
+        public Class<CourseDTO> getCompactClass() {
+            return CourseDTO.class;
+        }
+    }
+
+    public static class LessonDTOSerializer implements CompactSerializer<LessonDTO> {
+
+        @Override
+        public LessonDTO read(CompactReader reader) {
+            LessonDTO lesson = new LessonDTO();
+            lesson.setId(reader.readNullableInt64("id"));
+            lesson.setLessonTitle(reader.readString("lessonTitle"));
+            lesson.setLessonDescription(reader.readString("lessonDescription"));
+            lesson.setLanguage(readEnum(reader, "language", Language::valueOf));
+            lesson.setCourses(toSet(reader.readArrayOfCompact("courses", CourseDTO.class)));
+            return lesson;
+        }
+
+        @Override
+        public void write(CompactWriter writer, LessonDTO lesson) {
+            writer.writeNullableInt64("id", lesson.getId());
+            writer.writeString("lessonTitle", lesson.getLessonTitle());
+            writer.writeString("lessonDescription", lesson.getLessonDescription());
+            writeEnum(writer, "language", lesson.getLanguage());
+            writer.writeArrayOfCompact("courses", toArray(lesson.getCourses(), CourseDTO[]::new));
+        }
+
+        @Override
+        public String getTypeName() {
+            return "catalog.Lesson";
+        }
+
+        @Override
+        public Class<LessonDTO> getCompactClass() {
+            return LessonDTO.class;
+        }
+    }
+
+    public static class ProgramDTOSerializer implements CompactSerializer<ProgramDTO> {
+
+        @Override
+        public ProgramDTO read(CompactReader reader) {
+            ProgramDTO program = new ProgramDTO();
+            program.setId(reader.readNullableInt64("id"));
+            program.setProgramName(reader.readString("programName"));
+            program.setProgramDescription(reader.readString("programDescription"));
+            program.setProgramPrice(reader.readNullableInt64("programPrice"));
+            program.setCourses(toSet(reader.readArrayOfCompact("courses", CourseDTO.class)));
+            program.setDisciplines(toSet(reader.readArrayOfCompact("disciplines", DisciplineDTO.class)));
+            return program;
+        }
+
+        @Override
+        public void write(CompactWriter writer, ProgramDTO program) {
+            writer.writeNullableInt64("id", program.getId());
+            writer.writeString("programName", program.getProgramName());
+            writer.writeString("programDescription", program.getProgramDescription());
+            writer.writeNullableInt64("programPrice", program.getProgramPrice());
+            writer.writeArrayOfCompact("courses", toArray(program.getCourses(), CourseDTO[]::new));
+            writer.writeArrayOfCompact("disciplines", toArray(program.getDisciplines(), DisciplineDTO[]::new));
+        }
+
+        @Override
+        public String getTypeName() {
+            return "catalog.Program";
+        }
+
+        @Override
+        public Class<ProgramDTO> getCompactClass() {
+            return ProgramDTO.class;
+        }
+    }
+
+    public static class DisciplineDTOSerializer implements CompactSerializer<DisciplineDTO> {
+
+        @Override
+        public DisciplineDTO read(CompactReader reader) {
+            DisciplineDTO discipline = new DisciplineDTO();
+            discipline.setId(reader.readNullableInt64("id"));
+            discipline.setDisciplineName(reader.readString("disciplineName"));
+            discipline.setDisciplineDescription(reader.readString("disciplineDescription"));
+            discipline.setDisciplinePrice(reader.readNullableInt64("disciplinePrice"));
+            discipline.setPrograms(toSet(reader.readArrayOfCompact("programs", ProgramDTO.class)));
+            return discipline;
+        }
+
+        @Override
+        public void write(CompactWriter writer, DisciplineDTO discipline) {
+            writer.writeNullableInt64("id", discipline.getId());
+            writer.writeString("disciplineName", discipline.getDisciplineName());
+            writer.writeString("disciplineDescription", discipline.getDisciplineDescription());
+            writer.writeNullableInt64("disciplinePrice", discipline.getDisciplinePrice());
+            writer.writeArrayOfCompact("programs", toArray(discipline.getPrograms(), ProgramDTO[]::new));
+        }
+
+        @Override
+        public String getTypeName() {
+            return "catalog.Discipline";
+        }
+
+        @Override
+        public Class<DisciplineDTO> getCompactClass() {
+            return DisciplineDTO.class;
+        }
+    }
+
+    public static class ResourceDTOSerializer implements CompactSerializer<ResourceDTO> {
+
+        @Override
+        public ResourceDTO read(CompactReader reader) {
+            ResourceDTO resource = new ResourceDTO();
+            resource.setId(reader.readNullableInt64("id"));
+            resource.setResourceName(reader.readString("resourceName"));
+            resource.setResourceDescription(reader.readString("resourceDescription"));
+            resource.setResourceURL(reader.readString("resourceURL"));
+            resource.setResourcePreviewImage(reader.readString("resourcePreviewImage"));
+            resource.setResourceType(readEnum(reader, "resourceType", ResourceType::valueOf));
+            resource.setWeight(reader.readNullableInt32("weight"));
+            resource.setDiscipline(reader.readCompact("discipline"));
+            resource.setProgram(reader.readCompact("program"));
+            resource.setCourse(reader.readCompact("course"));
+            resource.setLesson(reader.readCompact("lesson"));
+            return resource;
+        }
+
+        @Override
+        public void write(CompactWriter writer, ResourceDTO resource) {
+            writer.writeNullableInt64("id", resource.getId());
+            writer.writeString("resourceName", resource.getResourceName());
+            writer.writeString("resourceDescription", resource.getResourceDescription());
+            writer.writeString("resourceURL", resource.getResourceURL());
+            writer.writeString("resourcePreviewImage", resource.getResourcePreviewImage());
+            writeEnum(writer, "resourceType", resource.getResourceType());
+            writer.writeNullableInt32("weight", resource.getWeight());
+            writer.writeCompact("discipline", resource.getDiscipline());
+            writer.writeCompact("program", resource.getProgram());
+            writer.writeCompact("course", resource.getCourse());
+            writer.writeCompact("lesson", resource.getLesson());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "catalog.Resource";
+        }
+
+        @Override
+        public Class<ResourceDTO> getCompactClass() {
+            return ResourceDTO.class;
+        }
+    }
+
+    /**
+     * Serializer of the pages of DTOs held by the page caches, the DTOs of a page all being of the same type.
+     */
+    @SuppressWarnings("rawtypes")
+    public static class PageSerializer implements CompactSerializer<PageImpl> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public PageImpl read(CompactReader reader) {
+            List<Object> content = Arrays.asList(reader.readArrayOfCompact("content", Object.class));
+            int pageSize = reader.readInt32("pageSize");
+            Pageable pageable = Pageable.unpaged();
+            if (pageSize > 0) {
+                String[] properties = reader.readArrayOfString("sortProperties");
+                String[] directions = reader.readArrayOfString("sortDirections");
+                List<Sort.Order> orders = new ArrayList<>(properties.length);
+                for (int i = 0; i < properties.length; i++) {
+                    orders.add(new Sort.Order(Sort.Direction.valueOf(directions[i]), properties[i]));
+                }
+                pageable = PageRequest.of(reader.readInt32("pageNumber"), pageSize, Sort.by(orders));
+            }
+            return new PageImpl(content, pageable, reader.readInt64("totalElements"));
+        }
+
+        @Override
+        public void write(CompactWriter writer, PageImpl page) {
+            writer.writeArrayOfCompact("content", page.getContent().toArray());
+            Pageable pageable = page.getPageable();
+            // An unpaged request is written with a page size of 0
+            writer.writeInt32("pageSize", pageable.isPaged() ? pageable.getPageSize() : 0);
+            writer.writeInt32("pageNumber", pageable.isPaged() ? pageable.getPageNumber() : 0);
+            List<Sort.Order> orders = pageable.getSort().toList();
+            writer.writeArrayOfString("sortProperties", orders.stream().map(Sort.Order::getProperty).toArray(String[]::new));
+            writer.writeArrayOfString("sortDirections", orders.stream().map(order -> order.getDirection().name()).toArray(String[]::new));
+            writer.writeInt64("totalElements", page.getTotalElements());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "catalog.Page";
+        }
+
+        @Override
+        public Class<PageImpl> getCompactClass() {
+            return PageImpl.class;
+        }
+    }
+
+    private static <E extends Enum<E>> E readEnum(CompactReader reader, String fieldName, Function<String, E> valueOf) {
+        String name = reader.readString(fieldName);
+        return name == null ? null : valueOf.apply(name);
+    }
+
+    private static void writeEnum(CompactWriter writer, String fieldName, Enum<?> value) {
+        writer.writeString(fieldName, value == null ? null : value.name());
+    }
+
+    private static <T> Set<T> toSet(T[] values) {
+        return values == null ? new HashSet<>() : new HashSet<>(Arrays.asList(values));
+    }
+
+    private static <T> T[] toArray(Set<T> values, IntFunction<T[]> generator) {
+        return values == null ? null : values.toArray(generator.apply(values.size()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.learnwithhamster.service.config;
+
+import com.learnwithhamster.service.service.CatalogEntityType;
+import com.learnwithhamster.service.service.CatalogVersions;
+import com.learnwithhamster.service.web.filter.CatalogConditionalGetInterceptor;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configure the conditional reads of the catalog resources, see {@link CatalogConditionalGetInterceptor}.
+ * <p>
+ * Only the list and by id reads are covered, the other reads of the catalog resources not depending on the
+ * catalog alone.
+ */
+@Configuration
+public class CatalogHttpCacheConfiguration implements WebMvcConfigurer {
+
+    private static final Map<String, CatalogEntityType> ENDPOINTS = Map.of(
+        "disciplines",
+        CatalogEntityType.DISCIPLINE,
+        "programs",
+        CatalogEntityType.PROGRAM,
+        "courses",
+        CatalogEntityType.COURSE,
+        "lessons",
+        CatalogEntityType.LESSON,
+        "resources",
+        CatalogEntityType.RESOURCE
+    );
+
+    private final ApplicationProperties.HttpCache properties;
+
+    private final CatalogVersions catalogVersions;
+
+    public CatalogHttpCacheConfiguration(ApplicationProperties applicationProperties, CatalogVersions catalogVersions) {
+        this.properties = applicationProperties.getHttpCache();
+        this.catalogVersions = catalogVersions;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ENDPOINTS.forEach((endpoint, type) ->
+            registry
+                .addInterceptor(new CatalogConditionalGetInterceptor(type, catalogVersions, cacheControl(properties.getPolicy(endpoint))))
+                .addPathPatterns("/api/" + endpoint, "/api/" + endpoint + "/{id:\\d+}")
+        );
+    }
+
+    private static CacheControl cacheControl(ApplicationProperties.HttpCache.Policy policy) {
+        CacheControl cacheControl = policy.getMaxAgeSeconds() > 0
+            ? CacheControl.maxAge(policy.getMaxAgeSeconds(), TimeUnit.SECONDS)
+            : CacheControl.noCache();
+        return policy.isCachePublic() ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+}
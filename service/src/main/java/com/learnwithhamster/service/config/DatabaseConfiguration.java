@@ -9,6 +9,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
 import org.springframework.core.env.Environment;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -20,7 +21,8 @@ import tech.jhipster.config.h2.H2ConfigurationHelper;
 @Configuration
 @EnableJpaRepositories({ "com.learnwithhamster.service.repository" })
 @EnableJpaAuditing(auditorAwareRef = "springSecurityAuditorAware")
-@EnableTransactionManagement
+// Transactions wrap the cache interceptor, whose puts and evictions the transaction-aware caches defer to after the commit
+@EnableTransactionManagement(order = Ordered.LOWEST_PRECEDENCE - 1)
 @EnableElasticsearchRepositories("com.learnwithhamster.service.repository.search")
 @EnableConfigurationProperties(H2ConsoleProperties.class)
 public class DatabaseConfiguration {
@@ -0,0 +1,136 @@
+package com.learnwithhamster.service.config;
+
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.nio.serialization.StreamSerializer;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+
+/**
+ * Hazelcast serializers of the Hibernate second level cache entries held by the
+ * {@code com.learnwithhamster.service.domain.*} maps, registered by {@link CacheConfiguration}.
+ * <p>
+ * hazelcast-hibernate writes the entries with {@link ObjectDataOutput#writeObject}, and its own serializer only applies to
+ * its {@code CacheEntryImpl}: Hibernate's entries, being {@link Serializable}, would go through Java serialization. Here
+ * only the disassembled state is written, its ids and column values with the Hazelcast built-in serializers.
+ * <p>
+ * Hibernate only assembles its own entry classes, whose constructors from a disassembled state are package-private.
+ */
+public final class HibernateCacheEntrySerializers {
+
+    public static final int ENTITY_TYPE_ID = 1;
+
+    public static final int COLLECTION_TYPE_ID = 2;
+
+    private static final MethodHandle NEW_ENTITY_ENTRY = constructor(
+        StandardCacheEntryImpl.class,
+        Serializable[].class,
+        String.class,
+        Object.class
+    );
+
+    private static final MethodHandle NEW_COLLECTION_ENTRY = constructor(CollectionCacheEntry.class, Serializable.class);
+
+    private HibernateCacheEntrySerializers() {}
+
+    public static List<SerializerConfig> all() {
+        return List.of(
+            new SerializerConfig().setTypeClass(CacheEntry.class).setImplementation(new EntityEntrySerializer()),
+            new SerializerConfig().setTypeClass(CollectionCacheEntry.class).setImplementation(new CollectionEntrySerializer())
+        );
+    }
+
+    /**
+     * Serializer of the entity entries, reference entries not being enabled ({@code hibernate.cache.use_reference_entries}).
+     */
+    public static class EntityEntrySerializer implements StreamSerializer<CacheEntry> {
+
+        @Override
+        public void write(ObjectDataOutput out, CacheEntry entry) throws IOException {
+            if (entry.isReferenceEntry()) {
+                throw new HazelcastSerializationException("Reference cache entries are not supported: " + entry.getSubclass());
+            }
+            writeState(out, entry.getDisassembledState());
+            out.writeString(entry.getSubclass());
+            out.writeObject(entry.getVersion());
+        }
+
+        @Override
+        public CacheEntry read(ObjectDataInput in) throws IOException {
+            Serializable[] state = readState(in);
+            String subclass = in.readString();
+            Object version = in.readObject();
+            try {
+                return (CacheEntry) NEW_ENTITY_ENTRY.invoke(state, subclass, version);
+            } catch (Throwable e) {
+                throw new HazelcastSerializationException("Unable to create the cache entry of " + subclass, e);
+            }
+        }
+
+        @Override
+        public int getTypeId() {
+            return ENTITY_TYPE_ID;
+        }
+    }
+
+    /**
+     * Serializer of the collection entries, whose state holds the ids of the elements.
+     */
+    public static class CollectionEntrySerializer implements StreamSerializer<CollectionCacheEntry> {
+
+        @Override
+        public void write(ObjectDataOutput out, CollectionCacheEntry entry) throws IOException {
+            writeState(out, entry.getState());
+        }
+
+        @Override
+        public CollectionCacheEntry read(ObjectDataInput in) throws IOException {
+            Serializable[] state = readState(in);
+            try {
+                return (CollectionCacheEntry) NEW_COLLECTION_ENTRY.invoke((Serializable) state);
+            } catch (Throwable e) {
+                throw new HazelcastSerializationException("Unable to create a collection cache entry", e);
+            }
+        }
+
+        @Override
+        public int getTypeId() {
+            return COLLECTION_TYPE_ID;
+        }
+    }
+
+    private static void writeState(ObjectDataOutput out, Serializable[] state) throws IOException {
+        out.writeInt(state.length);
+        for (Serializable value : state) {
+            out.writeObject(value);
+        }
+    }
+
+    private static Serializable[] readState(ObjectDataInput in) throws IOException {
+        Serializable[] state = new Serializable[in.readInt()];
+        for (int i = 0; i < state.length; i++) {
+            state[i] = in.readObject();
+        }
+        return state;
+    }
+
+    private static MethodHandle constructor(Class<?> type, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup()).findConstructor(
+                type,
+                MethodType.methodType(void.class, parameterTypes)
+            );
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to access the constructor of " + type.getName(), e);
+        }
+    }
+}
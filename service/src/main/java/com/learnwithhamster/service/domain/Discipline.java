@@ -28,7 +28,17 @@ public class Discipline implements Serializable {
 
     @NotNull
     @Column(name = "discipline_name", nullable = false)
-    @org.springframework.data.elasticsearch.annotations.Field(type = org.springframework.data.elasticsearch.annotations.FieldType.Text)
+    @org.springframework.data.elasticsearch.annotations.MultiField(
+        mainField = @org.springframework.data.elasticsearch.annotations.Field(
+            type = org.springframework.data.elasticsearch.annotations.FieldType.Text
+        ),
+        otherFields = {
+            @org.springframework.data.elasticsearch.annotations.InnerField(
+                suffix = "suggest",
+                type = org.springframework.data.elasticsearch.annotations.FieldType.Search_As_You_Type
+            ),
+        }
+    )
     private String disciplineName;
 
     @Column(name = "discipline_description")
@@ -29,7 +29,17 @@ public class Lesson implements Serializable {
 
     @NotNull
     @Column(name = "lesson_title", nullable = false)
-    @org.springframework.data.elasticsearch.annotations.Field(type = org.springframework.data.elasticsearch.annotations.FieldType.Text)
+    @org.springframework.data.elasticsearch.annotations.MultiField(
+        mainField = @org.springframework.data.elasticsearch.annotations.Field(
+            type = org.springframework.data.elasticsearch.annotations.FieldType.Text
+        ),
+        otherFields = {
+            @org.springframework.data.elasticsearch.annotations.InnerField(
+                suffix = "suggest",
+                type = org.springframework.data.elasticsearch.annotations.FieldType.Search_As_You_Type
+            ),
+        }
+    )
     private String lessonTitle;
 
     @Column(name = "lesson_description")
@@ -28,7 +28,17 @@ public class Program implements Serializable {
 
     @NotNull
     @Column(name = "program_name", nullable = false)
-    @org.springframework.data.elasticsearch.annotations.Field(type = org.springframework.data.elasticsearch.annotations.FieldType.Text)
+    @org.springframework.data.elasticsearch.annotations.MultiField(
+        mainField = @org.springframework.data.elasticsearch.annotations.Field(
+            type = org.springframework.data.elasticsearch.annotations.FieldType.Text
+        ),
+        otherFields = {
+            @org.springframework.data.elasticsearch.annotations.InnerField(
+                suffix = "suggest",
+                type = org.springframework.data.elasticsearch.annotations.FieldType.Search_As_You_Type
+            ),
+        }
+    )
     private String programName;
 
     @Column(name = "program_description")
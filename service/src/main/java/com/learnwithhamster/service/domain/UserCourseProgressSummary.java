@@ -0,0 +1,168 @@
+package com.learnwithhamster.service.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Counters of the progress of a user in a course, maintained as lessons are marked.
+ */
+@Entity
+@Table(
+    name = "user_course_progress_summary",
+    uniqueConstraints = @UniqueConstraint(name = "ux_user_course_progress_summary", columnNames = { "user_login", "course_id" })
+)
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class UserCourseProgressSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "user_login", nullable = false, length = 50)
+    private String userLogin;
+
+    @NotNull
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @NotNull
+    @Column(name = "completed_lessons", nullable = false)
+    private Integer completedLessons;
+
+    @NotNull
+    @Column(name = "total_lessons", nullable = false)
+    private Integer totalLessons;
+
+    @Column(name = "last_activity_at")
+    private Instant lastActivityAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public UserCourseProgressSummary id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUserLogin() {
+        return this.userLogin;
+    }
+
+    public UserCourseProgressSummary userLogin(String userLogin) {
+        this.setUserLogin(userLogin);
+        return this;
+    }
+
+    public void setUserLogin(String userLogin) {
+        this.userLogin = userLogin;
+    }
+
+    public Long getCourseId() {
+        return this.courseId;
+    }
+
+    public UserCourseProgressSummary courseId(Long courseId) {
+        this.setCourseId(courseId);
+        return this;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getCompletedLessons() {
+        return this.completedLessons;
+    }
+
+    public UserCourseProgressSummary completedLessons(Integer completedLessons) {
+        this.setCompletedLessons(completedLessons);
+        return this;
+    }
+
+    public void setCompletedLessons(Integer completedLessons) {
+        this.completedLessons = completedLessons;
+    }
+
+    public Integer getTotalLessons() {
+        return this.totalLessons;
+    }
+
+    public UserCourseProgressSummary totalLessons(Integer totalLessons) {
+        this.setTotalLessons(totalLessons);
+        return this;
+    }
+
+    public void setTotalLessons(Integer totalLessons) {
+        this.totalLessons = totalLessons;
+    }
+
+    public Instant getLastActivityAt() {
+        return this.lastActivityAt;
+    }
+
+    public UserCourseProgressSummary lastActivityAt(Instant lastActivityAt) {
+        this.setLastActivityAt(lastActivityAt);
+        return this;
+    }
+
+    public void setLastActivityAt(Instant lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    public Instant getCompletedAt() {
+        return this.completedAt;
+    }
+
+    public UserCourseProgressSummary completedAt(Instant completedAt) {
+        this.setCompletedAt(completedAt);
+        return this;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserCourseProgressSummary)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((UserCourseProgressSummary) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "UserCourseProgressSummary{" +
+            "id=" + getId() +
+            ", userLogin='" + getUserLogin() + "'" +
+            ", courseId=" + getCourseId() +
+            ", completedLessons=" + getCompletedLessons() +
+            ", totalLessons=" + getTotalLessons() +
+            ", lastActivityAt='" + getLastActivityAt() + "'" +
+            ", completedAt='" + getCompletedAt() + "'" +
+            "}";
+    }
+}
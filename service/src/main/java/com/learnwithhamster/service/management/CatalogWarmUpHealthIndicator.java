@@ -0,0 +1,28 @@
+package com.learnwithhamster.service.management;
+
+import com.learnwithhamster.service.service.CatalogWarmUpService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator of the catalog warm-up, part of the readiness group: an instance is out of service until its
+ * catalog caches are warmed up, so that it only receives traffic once the hot catalog is cached.
+ */
+@Component
+public class CatalogWarmUpHealthIndicator implements HealthIndicator {
+
+    private final CatalogWarmUpService catalogWarmUpService;
+
+    public CatalogWarmUpHealthIndicator(CatalogWarmUpService catalogWarmUpService) {
+        this.catalogWarmUpService = catalogWarmUpService;
+    }
+
+    @Override
+    public Health health() {
+        if (!catalogWarmUpService.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        return catalogWarmUpService.isWarmedUp() ? Health.up().build() : Health.outOfService().build();
+    }
+}
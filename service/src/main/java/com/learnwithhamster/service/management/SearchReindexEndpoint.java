@@ -0,0 +1,58 @@
+package com.learnwithhamster.service.management;
+
+import com.learnwithhamster.service.service.CatalogEntityType;
+import com.learnwithhamster.service.service.SearchReindexService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint to trigger a full reindex of the search indexes and follow its progress.
+ * <p>
+ * {@code GET /management/searchreindex} returns the progress, {@code POST /management/searchreindex} starts a reindex
+ * of all the types, or of those given as a comma separated {@code types} list.
+ */
+@Component
+@Endpoint(id = "searchreindex")
+public class SearchReindexEndpoint {
+
+    private final SearchReindexService searchReindexService;
+
+    public SearchReindexEndpoint(SearchReindexService searchReindexService) {
+        this.searchReindexService = searchReindexService;
+    }
+
+    @ReadOperation
+    public SearchReindexService.Status status() {
+        return searchReindexService.getStatus();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<SearchReindexService.Status> start(@Nullable String types) {
+        List<CatalogEntityType> targets = types == null
+            ? List.of()
+            : Arrays.stream(types.split(",")).map(String::trim).map(SearchReindexEndpoint::type).toList();
+        // A reindex already running is answered with 409 (Conflict) and its progress
+        int status = searchReindexService.start(targets) ? WebEndpointResponse.STATUS_OK : 409;
+        return new WebEndpointResponse<>(searchReindexService.getStatus(), status);
+    }
+
+    private static CatalogEntityType type(String name) {
+        try {
+            return CatalogEntityType.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            // Answered with 400 (Bad Request)
+            throw new InvalidEndpointRequestException(
+                "Unknown type '" + name + "', expected one of " + Arrays.toString(CatalogEntityType.values()),
+                "Unknown type"
+            );
+        }
+    }
+}
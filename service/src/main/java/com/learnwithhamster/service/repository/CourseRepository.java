@@ -1,11 +1,15 @@
 package com.learnwithhamster.service.repository;
 
 import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -27,4 +31,45 @@ public interface CourseRepository extends CourseRepositoryWithBagRelationships,
     default Page<Course> findAllWithEagerRelationships(Pageable pageable) {
         return this.fetchBagRelationships(this.findAll(pageable));
     }
+
+    @Query("select course.id from Course course where course.id > :after order by course.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select course.id from Course course where course.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select count(lesson) from Course course join course.lessons lesson where course.id = :id")
+    int countLessonsById(@Param("id") Long id);
+
+    /**
+     * Read a page of courses as plain columns, without loading managed entities nor their relationships.
+     *
+     * @param pageable the pagination information.
+     * @return the page of courses.
+     */
+    Page<Columns> findAllProjectedBy(Pageable pageable);
+
+    /**
+     * Read the courses following an id as plain columns, in the order of their ids, seeking on the primary key.
+     *
+     * @param after the id to start after.
+     * @param limit the maximum number of courses.
+     * @return the courses.
+     */
+    List<Columns> findAllProjectedByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+
+    /**
+     * The columns of a course.
+     */
+    interface Columns {
+        Long getId();
+
+        String getCourseTitle();
+
+        String getCourseDescription();
+
+        Long getCoursePrice();
+
+        Level getCourseLevel();
+    }
 }
@@ -1,8 +1,11 @@
 package com.learnwithhamster.service.repository;
 
 import com.learnwithhamster.service.domain.Course;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 
 public interface CourseRepositoryWithBagRelationships {
@@ -11,4 +14,27 @@ public interface CourseRepositoryWithBagRelationships {
     List<Course> fetchBagRelationships(List<Course> courses);
 
     Page<Course> fetchBagRelationships(Page<Course> courses);
+
+    /**
+     * Read the whole course to lesson relationship straight from its join table.
+     *
+     * @return the lesson ids keyed by course id.
+     */
+    Map<Long, Set<Long>> findAllLessonIdsByCourseId();
+
+    /**
+     * Read the course to lesson relationship of some courses straight from its join table.
+     *
+     * @param courseIds the ids of the courses.
+     * @return the lesson ids keyed by course id, courses without any are left out.
+     */
+    Map<Long, Set<Long>> findLessonIdsByCourseIdIn(Collection<Long> courseIds);
+
+    /**
+     * Read the program to course relationship of some courses straight from its join table.
+     *
+     * @param courseIds the ids of the courses.
+     * @return the program ids keyed by course id, courses without any are left out.
+     */
+    Map<Long, Set<Long>> findProgramIdsByCourseIdIn(Collection<Long> courseIds);
 }
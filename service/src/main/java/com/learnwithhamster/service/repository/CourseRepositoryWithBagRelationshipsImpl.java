@@ -3,10 +3,15 @@ package com.learnwithhamster.service.repository;
 import com.learnwithhamster.service.domain.Course;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.IntStream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -17,6 +22,7 @@ import org.springframework.data.domain.PageImpl;
 public class CourseRepositoryWithBagRelationshipsImpl implements CourseRepositoryWithBagRelationships {
 
     private static final String ID_PARAMETER = "id";
+    private static final String IDS_PARAMETER = "ids";
     private static final String COURSES_PARAMETER = "courses";
 
     @PersistenceContext
@@ -54,4 +60,51 @@ public class CourseRepositoryWithBagRelationshipsImpl implements CourseRepositor
         Collections.sort(result, (o1, o2) -> Integer.compare(order.get(o1.getId()), order.get(o2.getId())));
         return result;
     }
+
+    @Override
+    public Map<Long, Set<Long>> findAllLessonIdsByCourseId() {
+        List<?> rows = entityManager
+            .createNativeQuery("select course_id, lessons_id from rel_course__lessons order by course_id, lessons_id")
+            .getResultList();
+        return toIdsByOwnerId(rows);
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findLessonIdsByCourseIdIn(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<?> rows = entityManager
+            .createNativeQuery(
+                "select course_id, lessons_id from rel_course__lessons " +
+                    "where course_id in (:ids) order by course_id, lessons_id"
+            )
+            .setParameter(IDS_PARAMETER, courseIds)
+            .getResultList();
+        return toIdsByOwnerId(rows);
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findProgramIdsByCourseIdIn(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<?> rows = entityManager
+            .createNativeQuery(
+                "select courses_id, program_id from rel_program__courses " +
+                    "where courses_id in (:ids) order by courses_id, program_id"
+            )
+            .setParameter(IDS_PARAMETER, courseIds)
+            .getResultList();
+        return toIdsByOwnerId(rows);
+    }
+
+    private static Map<Long, Set<Long>> toIdsByOwnerId(List<?> rows) {
+        Map<Long, Set<Long>> result = new LinkedHashMap<>();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            result.computeIfAbsent(((Number) columns[0]).longValue(), id -> new LinkedHashSet<>()).add(((Number) columns[1]).longValue());
+        }
+        return result;
+    }
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -27,4 +28,28 @@ public interface DisciplineRepository extends DisciplineRepositoryWithBagRelatio
     default Page<Discipline> findAllWithEagerRelationships(Pageable pageable) {
         return this.fetchBagRelationships(this.findAll(pageable));
     }
+
+    @Query("select discipline.id from Discipline discipline where discipline.id > :after order by discipline.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * Read a page of disciplines as plain columns, without loading managed entities nor their relationships.
+     *
+     * @param pageable the pagination information.
+     * @return the page of disciplines.
+     */
+    Page<Columns> findAllProjectedBy(Pageable pageable);
+
+    /**
+     * The columns of a discipline.
+     */
+    interface Columns {
+        Long getId();
+
+        String getDisciplineName();
+
+        String getDisciplineDescription();
+
+        Long getDisciplinePrice();
+    }
 }
@@ -1,8 +1,11 @@
 package com.learnwithhamster.service.repository;
 
 import com.learnwithhamster.service.domain.Discipline;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 
 public interface DisciplineRepositoryWithBagRelationships {
@@ -11,4 +14,19 @@ public interface DisciplineRepositoryWithBagRelationships {
     List<Discipline> fetchBagRelationships(List<Discipline> disciplines);
 
     Page<Discipline> fetchBagRelationships(Page<Discipline> disciplines);
+
+    /**
+     * Read the whole discipline to program relationship straight from its join table.
+     *
+     * @return the program ids keyed by discipline id.
+     */
+    Map<Long, Set<Long>> findAllProgramIdsByDisciplineId();
+
+    /**
+     * Read the discipline to program relationship of some disciplines straight from its join table.
+     *
+     * @param disciplineIds the ids of the disciplines.
+     * @return the program ids keyed by discipline id, disciplines without any are left out.
+     */
+    Map<Long, Set<Long>> findProgramIdsByDisciplineIdIn(Collection<Long> disciplineIds);
 }
@@ -1,7 +1,11 @@
 package com.learnwithhamster.service.repository;
 
 import com.learnwithhamster.service.domain.Lesson;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +13,13 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface LessonRepository extends JpaRepository<Lesson, Long> {}
+public interface LessonRepository extends JpaRepository<Lesson, Long> {
+    @Query("select lesson from Course course join course.lessons lesson where course.id = :courseId order by lesson.id")
+    List<Lesson> findAllByCourseId(@Param("courseId") Long courseId);
+
+    @Query("select lesson.id from Lesson lesson where lesson.id > :after order by lesson.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select distinct lesson from Lesson lesson left join fetch lesson.courses where lesson.id in :ids order by lesson.id")
+    List<Lesson> findAllWithCoursesByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -3,9 +3,11 @@ package com.learnwithhamster.service.repository;
 import com.learnwithhamster.service.domain.Program;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -27,4 +29,37 @@ public interface ProgramRepository extends ProgramRepositoryWithBagRelationships
     default Page<Program> findAllWithEagerRelationships(Pageable pageable) {
         return this.fetchBagRelationships(this.findAll(pageable));
     }
+
+    @Query("select program.id from Program program where program.id > :after order by program.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * Read a page of programs as plain columns, without loading managed entities nor their relationships.
+     *
+     * @param pageable the pagination information.
+     * @return the page of programs.
+     */
+    Page<Columns> findAllProjectedBy(Pageable pageable);
+
+    /**
+     * Read the programs following an id as plain columns, in the order of their ids, seeking on the primary key.
+     *
+     * @param after the id to start after.
+     * @param limit the maximum number of programs.
+     * @return the programs.
+     */
+    List<Columns> findAllProjectedByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+
+    /**
+     * The columns of a program.
+     */
+    interface Columns {
+        Long getId();
+
+        String getProgramName();
+
+        String getProgramDescription();
+
+        Long getProgramPrice();
+    }
 }
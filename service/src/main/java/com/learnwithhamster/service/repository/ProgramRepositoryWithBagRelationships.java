@@ -1,8 +1,11 @@
 package com.learnwithhamster.service.repository;
 
 import com.learnwithhamster.service.domain.Program;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 
 public interface ProgramRepositoryWithBagRelationships {
@@ -11,4 +14,27 @@ public interface ProgramRepositoryWithBagRelationships {
     List<Program> fetchBagRelationships(List<Program> programs);
 
     Page<Program> fetchBagRelationships(Page<Program> programs);
+
+    /**
+     * Read the whole program to course relationship straight from its join table.
+     *
+     * @return the course ids keyed by program id.
+     */
+    Map<Long, Set<Long>> findAllCourseIdsByProgramId();
+
+    /**
+     * Read the program to course relationship of some programs straight from its join table.
+     *
+     * @param programIds the ids of the programs.
+     * @return the course ids keyed by program id, programs without any are left out.
+     */
+    Map<Long, Set<Long>> findCourseIdsByProgramIdIn(Collection<Long> programIds);
+
+    /**
+     * Read the discipline to program relationship of some programs straight from its join table.
+     *
+     * @param programIds the ids of the programs.
+     * @return the discipline ids keyed by program id, programs without any are left out.
+     */
+    Map<Long, Set<Long>> findDisciplineIdsByProgramIdIn(Collection<Long> programIds);
 }
@@ -3,10 +3,15 @@ package com.learnwithhamster.service.repository;
 import com.learnwithhamster.service.domain.Program;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.IntStream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -17,6 +22,7 @@ import org.springframework.data.domain.PageImpl;
 public class ProgramRepositoryWithBagRelationshipsImpl implements ProgramRepositoryWithBagRelationships {
 
     private static final String ID_PARAMETER = "id";
+    private static final String IDS_PARAMETER = "ids";
     private static final String PROGRAMS_PARAMETER = "programs";
 
     @PersistenceContext
@@ -54,4 +60,51 @@ public class ProgramRepositoryWithBagRelationshipsImpl implements ProgramReposit
         Collections.sort(result, (o1, o2) -> Integer.compare(order.get(o1.getId()), order.get(o2.getId())));
         return result;
     }
+
+    @Override
+    public Map<Long, Set<Long>> findAllCourseIdsByProgramId() {
+        List<?> rows = entityManager
+            .createNativeQuery("select program_id, courses_id from rel_program__courses order by program_id, courses_id")
+            .getResultList();
+        return toIdsByOwnerId(rows);
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findCourseIdsByProgramIdIn(Collection<Long> programIds) {
+        if (programIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<?> rows = entityManager
+            .createNativeQuery(
+                "select program_id, courses_id from rel_program__courses " +
+                    "where program_id in (:ids) order by program_id, courses_id"
+            )
+            .setParameter(IDS_PARAMETER, programIds)
+            .getResultList();
+        return toIdsByOwnerId(rows);
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findDisciplineIdsByProgramIdIn(Collection<Long> programIds) {
+        if (programIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<?> rows = entityManager
+            .createNativeQuery(
+                "select programs_id, discipline_id from rel_discipline__programs " +
+                    "where programs_id in (:ids) order by programs_id, discipline_id"
+            )
+            .setParameter(IDS_PARAMETER, programIds)
+            .getResultList();
+        return toIdsByOwnerId(rows);
+    }
+
+    private static Map<Long, Set<Long>> toIdsByOwnerId(List<?> rows) {
+        Map<Long, Set<Long>> result = new LinkedHashMap<>();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            result.computeIfAbsent(((Number) columns[0]).longValue(), id -> new LinkedHashSet<>()).add(((Number) columns[1]).longValue());
+        }
+        return result;
+    }
 }
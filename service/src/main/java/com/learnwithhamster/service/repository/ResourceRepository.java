@@ -1,7 +1,12 @@
 package com.learnwithhamster.service.repository;
 
 import com.learnwithhamster.service.domain.Resource;
+import com.learnwithhamster.service.domain.enumeration.ResourceType;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +14,40 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ResourceRepository extends JpaRepository<Resource, Long> {}
+public interface ResourceRepository extends JpaRepository<Resource, Long> {
+    List<Resource> findAllByLessonIdOrderByWeightAscIdAsc(Long lessonId);
+
+    List<Resource> findAllByLessonIdAndResourceTypeInOrderByWeightAscIdAsc(Long lessonId, Collection<ResourceType> resourceTypes);
+
+    List<Resource> findAllByCourseIdOrderByWeightAscIdAsc(Long courseId);
+
+    List<Resource> findAllByCourseIdAndResourceTypeInOrderByWeightAscIdAsc(Long courseId, Collection<ResourceType> resourceTypes);
+
+    List<Resource> findAllByProgramIdOrderByWeightAscIdAsc(Long programId);
+
+    List<Resource> findAllByProgramIdAndResourceTypeInOrderByWeightAscIdAsc(Long programId, Collection<ResourceType> resourceTypes);
+
+    List<Resource> findAllByDisciplineIdOrderByWeightAscIdAsc(Long disciplineId);
+
+    List<Resource> findAllByDisciplineIdAndResourceTypeInOrderByWeightAscIdAsc(
+        Long disciplineId,
+        Collection<ResourceType> resourceTypes
+    );
+
+    @Query(
+        "select resource from Resource resource left join fetch resource.discipline left join fetch resource.program " +
+        "left join fetch resource.course left join fetch resource.lesson where resource.id in :ids"
+    )
+    List<Resource> findAllWithToOneRelationshipsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(
+        "select resource from Resource resource left join resource.course course left join resource.lesson lesson " +
+        "where course.id = :courseId " +
+        "or lesson.id in (select courseLesson.id from Course owner join owner.lessons courseLesson where owner.id = :courseId) " +
+        "order by resource.weight, resource.id"
+    )
+    List<Resource> findAllForCourseDetail(@Param("courseId") Long courseId);
+
+    @Query("select resource.id from Resource resource where resource.id > :after order by resource.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
+}
@@ -1,19 +1,65 @@
 package com.learnwithhamster.service.repository;
 
 import com.learnwithhamster.service.domain.UserCourseEnrollment;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data JPA repository for the UserCourseEnrollment entity.
  */
 @Repository
-public interface UserCourseEnrollmentRepository extends JpaRepository<UserCourseEnrollment, Long> {
+public interface UserCourseEnrollmentRepository
+    extends UserCourseEnrollmentRepositoryWithBulkInsert, JpaRepository<UserCourseEnrollment, Long> {
     List<UserCourseEnrollment> findByUserLogin(String userLogin);
 
+    List<UserCourseEnrollment> findByUserLoginAndCourseIdIn(String userLogin, Collection<Long> courseIds);
+
     Optional<UserCourseEnrollment> findByUserLoginAndCourseId(String userLogin, Long courseId);
 
     void deleteByUserLoginAndCourseId(String userLogin, Long courseId);
+
+    @Query(
+        "select enrollment.courseId as courseId, enrollment.enrolledAt as enrolledAt," +
+        " course.courseTitle as courseTitle, course.coursePrice as coursePrice, course.courseLevel as courseLevel," +
+        " coalesce(summary.completedLessons, 0) as completedLessons," +
+        " coalesce(summary.totalLessons, size(course.lessons)) as totalLessons," +
+        " summary.lastActivityAt as lastActivityAt, summary.completedAt as completedAt" +
+        " from UserCourseEnrollment enrollment" +
+        " join Course course on course.id = enrollment.courseId" +
+        " left join UserCourseProgressSummary summary" +
+        " on summary.userLogin = enrollment.userLogin and summary.courseId = enrollment.courseId" +
+        " where enrollment.userLogin = :userLogin" +
+        " order by enrollment.enrolledAt desc, enrollment.id desc"
+    )
+    List<Learning> findLearningByUserLogin(@Param("userLogin") String userLogin);
+
+    /**
+     * An enrollment of a user with its course and progress.
+     */
+    interface Learning {
+        Long getCourseId();
+
+        Instant getEnrolledAt();
+
+        String getCourseTitle();
+
+        Long getCoursePrice();
+
+        Level getCourseLevel();
+
+        Integer getCompletedLessons();
+
+        Integer getTotalLessons();
+
+        Instant getLastActivityAt();
+
+        Instant getCompletedAt();
+    }
 }
@@ -0,0 +1,16 @@
+package com.learnwithhamster.service.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface UserCourseEnrollmentRepositoryWithBulkInsert {
+    /**
+     * Enroll a user in many courses with a single multi-row insert, keeping the existing enrollments untouched.
+     *
+     * @param userLogin the login of the user.
+     * @param courseIds the course ids.
+     * @param enrolledAt the enrollment time of the new enrollments.
+     * @return the number of affected rows.
+     */
+    int insertIgnoringExisting(String userLogin, Collection<Long> courseIds, Instant enrolledAt);
+}
@@ -0,0 +1,45 @@
+package com.learnwithhamster.service.repository;
+
+import com.learnwithhamster.service.domain.UserCourseEnrollment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.Instant;
+import java.util.Collection;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * Utility repository to write many enrollments in one statement.
+ */
+public class UserCourseEnrollmentRepositoryWithBulkInsertImpl implements UserCourseEnrollmentRepositoryWithBulkInsert {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertIgnoringExisting(String userLogin, Collection<Long> courseIds, Instant enrolledAt) {
+        if (courseIds.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("insert into user_course_enrollment (user_login, course_id, enrolled_at) values ");
+        int parameter = 1;
+        for (int i = 0; i < courseIds.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?").append(parameter++).append(", ?").append(parameter++).append(", ?").append(parameter++).append(')');
+        }
+        sql.append(" on duplicate key update enrolled_at = enrolled_at");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        // Only this table is written, the second level cache of the other entities stays valid
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(UserCourseEnrollment.class);
+        parameter = 1;
+        for (Long courseId : courseIds) {
+            query.setParameter(parameter++, userLogin);
+            query.setParameter(parameter++, courseId);
+            query.setParameter(parameter++, enrolledAt);
+        }
+        return query.executeUpdate();
+    }
+}
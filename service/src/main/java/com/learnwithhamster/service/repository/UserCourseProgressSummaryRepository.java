@@ -0,0 +1,34 @@
+package com.learnwithhamster.service.repository;
+
+import com.learnwithhamster.service.domain.UserCourseProgressSummary;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the UserCourseProgressSummary entity.
+ */
+@Repository
+public interface UserCourseProgressSummaryRepository
+    extends UserCourseProgressSummaryRepositoryWithBulkInsert, JpaRepository<UserCourseProgressSummary, Long> {
+    boolean existsByUserLoginAndCourseId(String userLogin, Long courseId);
+
+    List<UserCourseProgressSummary> findByUserLoginAndCourseIdIn(String userLogin, Collection<Long> courseIds);
+
+    List<UserCourseProgressSummary> findByUserLoginInAndCourseIdIn(Collection<String> userLogins, Collection<Long> courseIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select summary from UserCourseProgressSummary summary where summary.userLogin = :userLogin and summary.courseId = :courseId")
+    Optional<UserCourseProgressSummary> findOneForUpdate(@Param("userLogin") String userLogin, @Param("courseId") Long courseId);
+
+    @Modifying
+    @Query("update UserCourseProgressSummary summary set summary.totalLessons = :totalLessons where summary.courseId = :courseId")
+    int updateTotalLessons(@Param("courseId") Long courseId, @Param("totalLessons") int totalLessons);
+}
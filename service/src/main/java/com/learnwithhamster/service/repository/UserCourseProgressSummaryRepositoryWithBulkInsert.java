@@ -0,0 +1,14 @@
+package com.learnwithhamster.service.repository;
+
+import java.util.Map;
+
+public interface UserCourseProgressSummaryRepositoryWithBulkInsert {
+    /**
+     * Create the missing summaries of a user with a single multi-row insert, keeping the existing summaries untouched.
+     *
+     * @param userLogin the login of the user.
+     * @param totalLessonsByCourseId the number of lessons of each course to create a summary for.
+     * @return the number of affected rows.
+     */
+    int insertIgnoringExisting(String userLogin, Map<Long, Integer> totalLessonsByCourseId);
+}
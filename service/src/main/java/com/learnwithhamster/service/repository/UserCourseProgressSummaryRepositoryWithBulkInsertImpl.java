@@ -0,0 +1,46 @@
+package com.learnwithhamster.service.repository;
+
+import com.learnwithhamster.service.domain.UserCourseProgressSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.Map;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * Utility repository to create many progress summaries in one statement.
+ */
+public class UserCourseProgressSummaryRepositoryWithBulkInsertImpl implements UserCourseProgressSummaryRepositoryWithBulkInsert {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertIgnoringExisting(String userLogin, Map<Long, Integer> totalLessonsByCourseId) {
+        if (totalLessonsByCourseId.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(
+            "insert into user_course_progress_summary (user_login, course_id, completed_lessons, total_lessons) values "
+        );
+        int parameter = 1;
+        for (int i = 0; i < totalLessonsByCourseId.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?").append(parameter++).append(", ?").append(parameter++).append(", 0, ?").append(parameter++).append(')');
+        }
+        sql.append(" on duplicate key update user_login = user_login");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        // Only this table is written, the second level cache of the other entities stays valid
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(UserCourseProgressSummary.class);
+        parameter = 1;
+        for (Map.Entry<Long, Integer> entry : totalLessonsByCourseId.entrySet()) {
+            query.setParameter(parameter++, userLogin);
+            query.setParameter(parameter++, entry.getKey());
+            query.setParameter(parameter++, entry.getValue());
+        }
+        return query.executeUpdate();
+    }
+}
@@ -1,9 +1,13 @@
 package com.learnwithhamster.service.repository;
 
 import com.learnwithhamster.service.domain.UserLessonProgress;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -14,4 +18,33 @@ public interface UserLessonProgressRepository extends JpaRepository<UserLessonPr
     List<UserLessonProgress> findByUserLoginAndCourseId(String userLogin, Long courseId);
 
     Optional<UserLessonProgress> findByUserLoginAndLessonId(String userLogin, Long lessonId);
+
+    @Query(
+        "select progress.userLogin as userLogin, progress.courseId as courseId, count(progress) as completedLessons" +
+        " from UserLessonProgress progress" +
+        " where progress.completed = true and progress.userLogin in :userLogins and progress.courseId in :courseIds" +
+        " group by progress.userLogin, progress.courseId"
+    )
+    List<CompletedLessons> countCompletedLessons(
+        @Param("userLogins") Collection<String> userLogins,
+        @Param("courseIds") Collection<Long> courseIds
+    );
+
+    @Query(
+        "select progress.lessonId from UserLessonProgress progress" +
+        " group by progress.lessonId" +
+        " order by count(progress) desc, progress.lessonId"
+    )
+    List<Long> findMostViewedLessonIds(Pageable pageable);
+
+    /**
+     * The number of lessons a user completed in a course.
+     */
+    interface CompletedLessons {
+        String getUserLogin();
+
+        Long getCourseId();
+
+        long getCompletedLessons();
+    }
 }
@@ -0,0 +1,43 @@
+package com.learnwithhamster.service.service;
+
+import java.util.List;
+
+/**
+ * Names of the caches of catalog DTOs, managed by the {@code catalogCacheManager}.
+ * <p>
+ * Each entity has a cache of its DTOs keyed by id, and a cache of its pages or lists keyed by the request.
+ */
+public final class CatalogCaches {
+
+    public static final String CACHE_MANAGER = "catalogCacheManager";
+
+    public static final String COURSE = "catalog-course";
+    public static final String COURSE_PAGES = "catalog-course-pages";
+
+    public static final String LESSON = "catalog-lesson";
+    public static final String LESSON_PAGES = "catalog-lesson-pages";
+
+    public static final String PROGRAM = "catalog-program";
+    public static final String PROGRAM_PAGES = "catalog-program-pages";
+
+    public static final String DISCIPLINE = "catalog-discipline";
+    public static final String DISCIPLINE_PAGES = "catalog-discipline-pages";
+
+    public static final String RESOURCE = "catalog-resource";
+    public static final String RESOURCE_LISTS = "catalog-resource-lists";
+
+    public static final List<String> NAMES = List.of(
+        COURSE,
+        COURSE_PAGES,
+        LESSON,
+        LESSON_PAGES,
+        PROGRAM,
+        PROGRAM_PAGES,
+        DISCIPLINE,
+        DISCIPLINE_PAGES,
+        RESOURCE,
+        RESOURCE_LISTS
+    );
+
+    private CatalogCaches() {}
+}
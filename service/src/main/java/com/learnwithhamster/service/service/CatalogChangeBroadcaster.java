@@ -0,0 +1,49 @@
+package com.learnwithhamster.service.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service relaying committed catalog writes to every node of the cluster.
+ * <p>
+ * The local node receives its {@link CatalogChangeCommittedEvent} synchronously after commit,
+ * the other members receive it through a Hazelcast topic.
+ */
+@Service
+public class CatalogChangeBroadcaster {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogChangeBroadcaster.class);
+
+    private static final String TOPIC_NAME = "catalog-changes";
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final ITopic<String> topic;
+
+    public CatalogChangeBroadcaster(HazelcastInstance hazelcastInstance, ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.topic = hazelcastInstance.getTopic(TOPIC_NAME);
+        this.topic.addMessageListener(this::onMessage);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        LOG.debug("Catalog change committed : {}", event.type());
+        applicationEventPublisher.publishEvent(new CatalogChangeCommittedEvent(event.type()));
+        topic.publish(event.type().name());
+    }
+
+    private void onMessage(Message<String> message) {
+        if (message.getPublishingMember() != null && message.getPublishingMember().localMember()) {
+            return;
+        }
+        LOG.debug("Catalog change received from {} : {}", message.getPublishingMember(), message.getMessageObject());
+        applicationEventPublisher.publishEvent(new CatalogChangeCommittedEvent(CatalogEntityType.valueOf(message.getMessageObject())));
+    }
+}
@@ -0,0 +1,8 @@
+package com.learnwithhamster.service.service;
+
+/**
+ * Published on every node of the cluster after a write to a {@link CatalogEntityType} has been committed.
+ *
+ * @param type the type of the written entity.
+ */
+public record CatalogChangeCommittedEvent(CatalogEntityType type) {}
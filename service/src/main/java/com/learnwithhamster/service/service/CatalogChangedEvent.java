@@ -0,0 +1,9 @@
+package com.learnwithhamster.service.service;
+
+/**
+ * Published by the catalog services inside the transaction that writes a {@link CatalogEntityType}.
+ * It is turned into a {@link CatalogChangeCommittedEvent} by {@link CatalogChangeBroadcaster} once that transaction commits.
+ *
+ * @param type the type of the written entity.
+ */
+public record CatalogChangedEvent(CatalogEntityType type) {}
@@ -0,0 +1,12 @@
+package com.learnwithhamster.service.service;
+
+/**
+ * The entity types of the catalog.
+ */
+public enum CatalogEntityType {
+    DISCIPLINE,
+    PROGRAM,
+    COURSE,
+    LESSON,
+    RESOURCE,
+}
@@ -0,0 +1,118 @@
+package com.learnwithhamster.service.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.learnwithhamster.service.config.ApplicationProperties;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service exporting the catalog tables as newline delimited JSON (NDJSON), one object per row.
+ * <p>
+ * The rows are read from a forward-only cursor and written as they come, neither entities nor DTOs being built, so
+ * the memory used does not depend on the size of the table. Each object holds the columns of a row, named in camel
+ * case as the fields of the DTOs, the to-one relationships as their foreign keys such as {@code lessonId}; the
+ * many-to-many relationships are not exported.
+ */
+@Service
+public class CatalogExportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogExportService.class);
+
+    private static final Map<CatalogEntityType, String> TABLES = new EnumMap<>(
+        Map.of(
+            CatalogEntityType.DISCIPLINE,
+            "discipline",
+            CatalogEntityType.PROGRAM,
+            "program",
+            CatalogEntityType.COURSE,
+            "course",
+            CatalogEntityType.LESSON,
+            "lesson",
+            CatalogEntityType.RESOURCE,
+            "resource"
+        )
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectWriter objectWriter;
+
+    public CatalogExportService(DataSource dataSource, ObjectMapper objectMapper, ApplicationProperties applicationProperties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(applicationProperties.getCatalogExport().getFetchSize());
+        // The rows are flushed by the buffers of the generator and of the response, not one by one
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Write all the rows of a type, in the order of their ids.
+     *
+     * @param type the type to export.
+     * @param out the stream to write to, left open.
+     * @throws IOException if the stream cannot be written.
+     */
+    public void export(CatalogEntityType type, OutputStream out) throws IOException {
+        LOG.debug("Request to export the {} table", TABLES.get(type));
+        try (JsonGenerator generator = objectWriter.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Each row ends its own line, rather than being separated from the next one by a space
+            generator.setRootValueSeparator(null);
+            jdbcTemplate.query("select * from " + TABLES.get(type) + " order by id", new RowWriter(generator));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes each row as a line, with the field names computed once from the first row.
+     */
+    private final class RowWriter implements RowCallbackHandler {
+
+        private final JsonGenerator generator;
+
+        private String[] fields;
+
+        private RowWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (fields == null) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                fields = new String[metaData.getColumnCount()];
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = JdbcUtils.convertUnderscoreNameToPropertyName(JdbcUtils.lookupColumnName(metaData, i + 1));
+                }
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < fields.length; i++) {
+                row.put(fields[i], JdbcUtils.getResultSetValue(rs, i + 1));
+            }
+            try {
+                objectWriter.writeValue(generator, row);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                // The client went away, the query is cancelled by the exception
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.learnwithhamster.service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.Discipline;
+import com.learnwithhamster.service.domain.Program;
+import com.learnwithhamster.service.repository.CourseRepository;
+import com.learnwithhamster.service.repository.DisciplineRepository;
+import com.learnwithhamster.service.repository.ProgramRepository;
+import com.learnwithhamster.service.service.dto.CatalogCourseDTO;
+import com.learnwithhamster.service.service.dto.CatalogDTO;
+import com.learnwithhamster.service.service.dto.CatalogDisciplineDTO;
+import com.learnwithhamster.service.service.dto.CatalogProgramDTO;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service holding the serialized {@link CatalogDTO} tree.
+ * <p>
+ * The snapshot is built lazily on the first request following a committed catalog write,
+ * so reads of an unchanged catalog never touch the database nor the JSON serializer.
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final DisciplineRepository disciplineRepository;
+
+    private final ProgramRepository programRepository;
+
+    private final CourseRepository courseRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public CatalogSnapshotService(
+        DisciplineRepository disciplineRepository,
+        ProgramRepository programRepository,
+        CourseRepository courseRepository,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.disciplineRepository = disciplineRepository;
+        this.programRepository = programRepository;
+        this.courseRepository = courseRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener
+    public void onCatalogChangeCommitted(CatalogChangeCommittedEvent event) {
+        // The snapshot holds no resources
+        if (event.type() != CatalogEntityType.RESOURCE) {
+            generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * Get the current catalog snapshot, rebuilding it if a catalog write was committed since it was built.
+     *
+     * @return the snapshot.
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == generation.get()) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            long target = generation.get();
+            if (current == null || current.generation() != target) {
+                current = build(target);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot build(long target) {
+        LOG.debug("Building catalog snapshot for generation {}", target);
+        CatalogDTO catalog = transactionTemplate.execute(status -> loadCatalog());
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(catalog);
+            return new Snapshot(target, json, gzip(json), sha256(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize the catalog", e);
+        }
+    }
+
+    private CatalogDTO loadCatalog() {
+        Map<Long, Program> programs = programRepository
+            .findAll(BY_ID)
+            .stream()
+            .collect(Collectors.toMap(Program::getId, Function.identity()));
+        Map<Long, Course> courses = courseRepository.findAll(BY_ID).stream().collect(Collectors.toMap(Course::getId, Function.identity()));
+        Map<Long, Set<Long>> programIdsByDisciplineId = disciplineRepository.findAllProgramIdsByDisciplineId();
+        Map<Long, Set<Long>> courseIdsByProgramId = programRepository.findAllCourseIdsByProgramId();
+        Map<Long, Set<Long>> lessonIdsByCourseId = courseRepository.findAllLessonIdsByCourseId();
+
+        List<CatalogDisciplineDTO> disciplineNodes = new ArrayList<>();
+        for (Discipline discipline : disciplineRepository.findAll(BY_ID)) {
+            List<CatalogProgramDTO> programNodes = new ArrayList<>();
+            Set<Long> disciplineCourseIds = new HashSet<>();
+            for (Long programId : programIdsByDisciplineId.getOrDefault(discipline.getId(), Set.of())) {
+                Program program = programs.get(programId);
+                List<CatalogCourseDTO> courseNodes = new ArrayList<>();
+                for (Long courseId : courseIdsByProgramId.getOrDefault(programId, Set.of())) {
+                    Course course = courses.get(courseId);
+                    disciplineCourseIds.add(courseId);
+                    courseNodes.add(
+                        new CatalogCourseDTO(
+                            course.getId(),
+                            course.getCourseTitle(),
+                            course.getCourseDescription(),
+                            course.getCoursePrice(),
+                            course.getCourseLevel(),
+                            lessonIdsByCourseId.getOrDefault(courseId, Set.of()).size()
+                        )
+                    );
+                }
+                programNodes.add(
+                    new CatalogProgramDTO(
+                        program.getId(),
+                        program.getProgramName(),
+                        program.getProgramDescription(),
+                        program.getProgramPrice(),
+                        courseNodes
+                    )
+                );
+            }
+            disciplineNodes.add(
+                new CatalogDisciplineDTO(
+                    discipline.getId(),
+                    discipline.getDisciplineName(),
+                    discipline.getDisciplineDescription(),
+                    discipline.getDisciplinePrice(),
+                    disciplineCourseIds.size(),
+                    programNodes
+                )
+            );
+        }
+        return new CatalogDTO(disciplineNodes);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A serialized catalog, in identity and gzip encodings.
+     *
+     * @param generation the catalog generation the snapshot was built for.
+     * @param json the JSON bytes.
+     * @param gzippedJson the gzip-compressed JSON bytes.
+     * @param hash the SHA-256 of the JSON bytes, hex encoded.
+     */
+    public record Snapshot(long generation, byte[] json, byte[] gzippedJson, String hash) {
+        /**
+         * Get the strong entity tag of one of the encodings.
+         *
+         * @param gzipped whether the gzip encoding is served.
+         * @return the quoted entity tag.
+         */
+        public String eTag(boolean gzipped) {
+            return gzipped ? "\"" + hash + "-gzip\"" : "\"" + hash + "\"";
+        }
+    }
+}
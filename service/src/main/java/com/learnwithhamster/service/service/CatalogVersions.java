@@ -0,0 +1,151 @@
+package com.learnwithhamster.service.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service stamping every committed write of a {@link CatalogEntityType} with its commit time, shared by the whole
+ * cluster through a Hazelcast map.
+ * <p>
+ * The version of a type is the latest stamp of the type and of the types its DTOs embed, so that it changes whenever
+ * any of its representations may have changed. It is read without touching the database, to answer conditional
+ * requests before the catalog services run.
+ */
+@Service
+public class CatalogVersions {
+
+    public static final String MAP_NAME = "catalog-versions";
+
+    /**
+     * The types whose writes may change the DTOs of each type, see the evictions of the {@link CatalogCaches}.
+     * The resources only embed the ids of their discipline, program, course and lesson, held by the resource rows.
+     */
+    private static final Map<CatalogEntityType, Set<CatalogEntityType>> DEPENDENCIES = new EnumMap<>(
+        Map.of(
+            CatalogEntityType.DISCIPLINE,
+            EnumSet.of(CatalogEntityType.DISCIPLINE, CatalogEntityType.PROGRAM),
+            CatalogEntityType.PROGRAM,
+            EnumSet.of(CatalogEntityType.PROGRAM, CatalogEntityType.DISCIPLINE, CatalogEntityType.COURSE),
+            CatalogEntityType.COURSE,
+            EnumSet.of(CatalogEntityType.COURSE, CatalogEntityType.PROGRAM, CatalogEntityType.LESSON),
+            CatalogEntityType.LESSON,
+            EnumSet.of(CatalogEntityType.LESSON, CatalogEntityType.COURSE),
+            CatalogEntityType.RESOURCE,
+            EnumSet.of(CatalogEntityType.RESOURCE)
+        )
+    );
+
+    private final IMap<String, Long> stamps;
+
+    public CatalogVersions(HazelcastInstance hazelcastInstance) {
+        this.stamps = hazelcastInstance.getMap(MAP_NAME);
+        // A cluster starting afresh cannot know what was written before it started, its first stamps are its start time
+        long now = System.currentTimeMillis();
+        for (CatalogEntityType type : CatalogEntityType.values()) {
+            stamps.putIfAbsent(type.name(), now);
+        }
+    }
+
+    /**
+     * Stamp the written type once the transaction has committed.
+     * <p>
+     * A read seeing the new stamp must not be served the DTO cached before the write, or its client would then
+     * revalidate stale data with the new entity tag. The {@code @CacheEvict}s of the catalog services are deferred by
+     * the transaction-aware caches to after the commit, so the stamp waits for the completion of the transaction, which
+     * comes once every after commit callback has run.
+     */
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stamp(event.type());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        stamp(event.type());
+                    }
+                }
+            }
+        );
+    }
+
+    private void stamp(CatalogEntityType type) {
+        stamps.executeOnKey(type.name(), new Stamp(System.currentTimeMillis()));
+    }
+
+    /**
+     * Get the types whose representations may change when a type is written.
+     *
+     * @param written the written type.
+     * @return the types, including the written one.
+     */
+    public static Set<CatalogEntityType> dependents(CatalogEntityType written) {
+        Set<CatalogEntityType> dependents = EnumSet.noneOf(CatalogEntityType.class);
+        DEPENDENCIES.forEach((type, dependencies) -> {
+            if (dependencies.contains(written)) {
+                dependents.add(type);
+            }
+        });
+        return dependents;
+    }
+
+    /**
+     * Get the current version of the representations of a type.
+     *
+     * @param type the type.
+     * @return the version.
+     */
+    public Version get(CatalogEntityType type) {
+        Set<String> keys = DEPENDENCIES.get(type).stream().map(Enum::name).collect(Collectors.toSet());
+        long stamp = stamps.getAll(keys).values().stream().mapToLong(Long::longValue).max().orElse(0);
+        return new Version(type, stamp);
+    }
+
+    /**
+     * A version of the representations of a type.
+     *
+     * @param type the type.
+     * @param stamp the commit time of the latest write changing them, in milliseconds since the epoch.
+     */
+    public record Version(CatalogEntityType type, long stamp) {
+        /**
+         * Get the weak entity tag of the version, the representations being served in several encodings.
+         *
+         * @return the entity tag.
+         */
+        public String eTag() {
+            return "W/\"" + type.name().toLowerCase() + "-" + Long.toHexString(stamp) + "\"";
+        }
+
+        public Instant lastModified() {
+            return Instant.ofEpochMilli(stamp);
+        }
+    }
+
+    /**
+     * Sets the stamp of a type, keeping the stamps increasing even if the clocks of the members drift apart.
+     */
+    private record Stamp(long now) implements EntryProcessor<String, Long, Long> {
+        @Override
+        public Long process(Map.Entry<String, Long> entry) {
+            Long previous = entry.getValue();
+            long stamp = previous == null ? now : Math.max(now, previous + 1);
+            entry.setValue(stamp);
+            return stamp;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.learnwithhamster.service.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.MapPartitionLostEvent;
+import com.learnwithhamster.service.config.ApplicationProperties;
+import com.learnwithhamster.service.repository.CourseRepository;
+import com.learnwithhamster.service.repository.DisciplineRepository;
+import com.learnwithhamster.service.repository.ProgramRepository;
+import com.learnwithhamster.service.repository.UserLessonProgressRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service loading the hot catalog into the catalog caches, so that the first reads after a deploy do not all miss and
+ * hit the database together.
+ * <p>
+ * All the disciplines, programs and courses, then the most viewed lessons, are read through their cached services by
+ * a bounded pool of workers, until done or until {@code application.catalog-warm-up.time-budget-ms} is elapsed. It
+ * runs once the application is ready, the {@code catalogWarmUp} health indicator keeping the instance out of the
+ * readiness group meanwhile, which also fills the near caches of a member joining the cluster.
+ * <p>
+ * The entries of a member leaving the cluster are served by their backups, the members left have nothing to reload.
+ * Only when a partition of a catalog cache is lost with all its backups does the oldest member of the cluster run the
+ * warm-up again in the background, as the caches are shared by the whole cluster.
+ */
+@Service
+public class CatalogWarmUpService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogWarmUpService.class);
+
+    public static final String DURATION_METER_NAME = "catalog.warm-up";
+    public static final String ENTRIES_METER_NAME = "catalog.warm-up.entries";
+
+    private static final int ID_PAGE_SIZE = 1000;
+
+    private final ApplicationProperties.CatalogWarmUp properties;
+
+    private final boolean catalogCacheEnabled;
+
+    private final DisciplineRepository disciplineRepository;
+
+    private final ProgramRepository programRepository;
+
+    private final CourseRepository courseRepository;
+
+    private final UserLessonProgressRepository userLessonProgressRepository;
+
+    private final DisciplineService disciplineService;
+
+    private final ProgramService programService;
+
+    private final CourseService courseService;
+
+    private final LessonService lessonService;
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter entries;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("catalog-warm-up-"));
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile boolean warmedUp;
+
+    public CatalogWarmUpService(
+        ApplicationProperties applicationProperties,
+        DisciplineRepository disciplineRepository,
+        ProgramRepository programRepository,
+        CourseRepository courseRepository,
+        UserLessonProgressRepository userLessonProgressRepository,
+        DisciplineService disciplineService,
+        ProgramService programService,
+        CourseService courseService,
+        LessonService lessonService,
+        HazelcastInstance hazelcastInstance,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = applicationProperties.getCatalogWarmUp();
+        this.catalogCacheEnabled = applicationProperties.getCatalogCache().isEnabled();
+        this.disciplineRepository = disciplineRepository;
+        this.programRepository = programRepository;
+        this.courseRepository = courseRepository;
+        this.userLessonProgressRepository = userLessonProgressRepository;
+        this.disciplineService = disciplineService;
+        this.programService = programService;
+        this.courseService = courseService;
+        this.lessonService = lessonService;
+        this.hazelcastInstance = hazelcastInstance;
+        this.meterRegistry = meterRegistry;
+        this.entries = Counter.builder(ENTRIES_METER_NAME)
+            .description("Number of catalog entries loaded into the caches by the warm-ups")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Whether the warm-up applies, the catalog caches being enabled.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled() && catalogCacheEnabled;
+    }
+
+    /**
+     * Whether the first warm-up is over, completed or stopped by the time budget.
+     */
+    public boolean isWarmedUp() {
+        return !isEnabled() || warmedUp;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!isEnabled()) {
+            return;
+        }
+        CatalogCaches.NAMES.forEach(name -> hazelcastInstance.getMap(name).addPartitionLostListener(this::onPartitionLost));
+        start();
+    }
+
+    private void onPartitionLost(MapPartitionLostEvent event) {
+        if (!hazelcastInstance.getCluster().getMembers().iterator().next().localMember()) {
+            return;
+        }
+        LOG.info("Partition {} of {} lost, warming up the catalog caches", event.getPartitionId(), event.getName());
+        start();
+    }
+
+    /**
+     * Start a warm-up in the background.
+     *
+     * @return false if a warm-up is already running.
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        jobExecutor.execute(() -> {
+            try {
+                warmUp();
+            } catch (RuntimeException e) {
+                LOG.error("Catalog warm-up failed", e);
+            } finally {
+                warmedUp = true;
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(properties.getTimeBudgetMs());
+        double loadedBefore = entries.count();
+        int workers = Math.max(1, properties.getConcurrency());
+        // A full queue makes the reading thread load the entry itself, which bounds the ids held in memory
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers * 4),
+            new CustomizableThreadFactory("catalog-warm-up-worker-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        boolean completed = false;
+        try {
+            completed =
+                load(pool, deadline, disciplineRepository::findIdsAfter, disciplineService::findOne) &&
+                load(pool, deadline, programRepository::findIdsAfter, programService::findOne) &&
+                load(pool, deadline, courseRepository::findIdsAfter, courseService::findOne) &&
+                load(pool, deadline, findMostViewedLessonIds(), lessonService::findOne);
+            pool.shutdown();
+            completed = completed && pool.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+        long duration = System.nanoTime() - start;
+        Timer.builder(DURATION_METER_NAME)
+            .description("Time taken to warm up the catalog caches")
+            .tag("outcome", completed ? "completed" : "timeout")
+            .register(meterRegistry)
+            .record(duration, TimeUnit.NANOSECONDS);
+        LOG.info(
+            "Catalog warm-up {} in {} ms, {} entries loaded",
+            completed ? "completed" : "stopped by its time budget",
+            TimeUnit.NANOSECONDS.toMillis(duration),
+            (long) (entries.count() - loadedBefore)
+        );
+    }
+
+    /**
+     * Submit the loading of all the ids returned page by page by {@code findIdsAfter}.
+     *
+     * @return false if the deadline was reached before all the ids were submitted.
+     */
+    private boolean load(
+        ThreadPoolExecutor pool,
+        long deadline,
+        BiFunction<Long, Pageable, List<Long>> findIdsAfter,
+        Function<Long, Optional<?>> loader
+    ) {
+        long after = 0;
+        List<Long> ids;
+        while (!(ids = findIdsAfter.apply(after, PageRequest.of(0, ID_PAGE_SIZE))).isEmpty()) {
+            if (!load(pool, deadline, ids, loader)) {
+                return false;
+            }
+            after = ids.get(ids.size() - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Submit the loading of the given ids.
+     *
+     * @return false if the deadline was reached before all the ids were submitted.
+     */
+    private boolean load(ThreadPoolExecutor pool, long deadline, List<Long> ids, Function<Long, Optional<?>> loader) {
+        for (Long id : ids) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            pool.execute(() -> {
+                try {
+                    if (loader.apply(id).isPresent()) {
+                        entries.increment();
+                    }
+                } catch (RuntimeException e) {
+                    LOG.debug("Could not warm up catalog entry {}: {}", id, e.getMessage());
+                }
+            });
+        }
+        return true;
+    }
+
+    private List<Long> findMostViewedLessonIds() {
+        int limit = properties.getMostViewedLessons();
+        return limit > 0 ? userLessonProgressRepository.findMostViewedLessonIds(PageRequest.of(0, limit)) : List.of();
+    }
+}
@@ -0,0 +1,17 @@
+package com.learnwithhamster.service.service;
+
+import com.learnwithhamster.service.service.dto.CourseDetailDTO;
+import java.util.Optional;
+
+/**
+ * Service Interface for reading the {@link CourseDetailDTO} aggregate of a {@link com.learnwithhamster.service.domain.Course}.
+ */
+public interface CourseDetailService {
+    /**
+     * Get the course with its ordered lessons, their resources and the current user's enrollment and progress.
+     *
+     * @param id the id of the course.
+     * @return the aggregate, or empty if the course does not exist.
+     */
+    Optional<CourseDetailDTO> findDetail(Long id);
+}
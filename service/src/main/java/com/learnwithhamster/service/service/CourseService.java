@@ -4,6 +4,7 @@ import com.learnwithhamster.service.service.dto.CourseDTO;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service Interface for managing {@link com.learnwithhamster.service.domain.Course}.
@@ -49,6 +50,16 @@ public interface CourseService {
      */
     Page<CourseDTO> findAllWithEagerRelationships(Pageable pageable);
 
+    /**
+     * Get the courses following an id, in the order of their ids, without counting them.
+     * The many-to-many relationships are always loaded.
+     *
+     * @param after the id of the last course already read, {@code 0} to start from the first one.
+     * @param size the number of courses to get.
+     * @return the slice of entities.
+     */
+    Slice<CourseDTO> findAllAfter(Long after, int size);
+
     /**
      * Get the "id" course.
      *
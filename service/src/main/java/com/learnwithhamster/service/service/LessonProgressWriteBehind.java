@@ -0,0 +1,309 @@
+package com.learnwithhamster.service.service;
+
+import com.learnwithhamster.service.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service buffering the lesson progress marks in memory and writing them in bulk.
+ * <p>
+ * Marks are kept in stripes selected by user login, so concurrent users rarely contend, and repeated marks of the same
+ * lesson are merged. Every {@code application.progress-write-behind.max-lag-ms}, the buffer is written with multi-row
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE} statements on the {@code ux_user_lesson_progress} unique key, then the
+ * course progress summaries of the written marks are recomputed.
+ * <p>
+ * The buffer holds at most {@code max-buffer} marks: beyond that {@link #add} refuses the mark, which the caller writes
+ * itself. A mark whose batch failed {@code max-attempts} times is given up.
+ */
+@Service
+public class LessonProgressWriteBehind {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LessonProgressWriteBehind.class);
+
+    public static final String BUFFER_METER_NAME = "progress.write-behind.buffer";
+    public static final String FLUSH_METER_NAME = "progress.write-behind.flush";
+    public static final String FAILURES_METER_NAME = "progress.write-behind.failures";
+    public static final String OVERFLOW_METER_NAME = "progress.write-behind.overflow";
+    public static final String DROPPED_METER_NAME = "progress.write-behind.dropped";
+
+    private static final String INSERT =
+        "insert into user_lesson_progress (user_login, lesson_id, course_id, started_at, completed) values ";
+    private static final String ROW = "(?, ?, ?, ?, true)";
+    private static final String ON_DUPLICATE_KEY =
+        " on duplicate key update course_id = coalesce(course_id, values(course_id)), completed = true";
+
+    private final ApplicationProperties.ProgressWriteBehind properties;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final UserCourseProgressSummaryService userCourseProgressSummaryService;
+
+    private final List<Map<Key, Mark>> stripes;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * The marks taken from a stripe and being written, still visible to {@link #getPending}.
+     */
+    private volatile List<Mark> writing = List.of();
+
+    /**
+     * The number of failed writes of the requeued marks, only used under the {@link #flushLock}.
+     */
+    private final Map<Key, Integer> attempts = new HashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Timer flushTimer;
+
+    private final Counter failures;
+
+    private final Counter overflow;
+
+    private final Counter dropped;
+
+    public LessonProgressWriteBehind(
+        ApplicationProperties applicationProperties,
+        JdbcTemplate jdbcTemplate,
+        UserCourseProgressSummaryService userCourseProgressSummaryService,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = applicationProperties.getProgressWriteBehind();
+        this.jdbcTemplate = jdbcTemplate;
+        this.userCourseProgressSummaryService = userCourseProgressSummaryService;
+        int stripeCount = Math.max(1, properties.getStripes());
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new HashMap<>());
+        }
+        Gauge.builder(BUFFER_METER_NAME, size, AtomicInteger::get)
+            .description("Number of lesson progress marks waiting to be written")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder(FLUSH_METER_NAME)
+            .description("Time taken to write the buffered lesson progress marks")
+            .register(meterRegistry);
+        this.failures = Counter.builder(FAILURES_METER_NAME)
+            .description("Number of flushes of lesson progress marks that failed")
+            .baseUnit("errors")
+            .register(meterRegistry);
+        this.overflow = Counter.builder(OVERFLOW_METER_NAME)
+            .description("Number of lesson progress marks refused because the buffer was full")
+            .register(meterRegistry);
+        this.dropped = Counter.builder(DROPPED_METER_NAME)
+            .description("Number of lesson progress marks given up after failed writes")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Buffer a lesson mark of a user.
+     *
+     * @param userLogin the login of the user.
+     * @param lessonId the id of the lesson.
+     * @param courseId the id of the course the lesson was viewed in, if any.
+     * @return the mark as it will be written, or empty if the buffer is full and the mark must be written by the caller.
+     */
+    public Optional<Mark> add(String userLogin, Long lessonId, Long courseId) {
+        Mark merged = merge(new Mark(userLogin, lessonId, courseId, Instant.now()));
+        if (merged == null) {
+            overflow.increment();
+        }
+        return Optional.ofNullable(merged);
+    }
+
+    /**
+     * Get the marks of a user that are not written yet.
+     *
+     * @param userLogin the login of the user.
+     * @return the buffered marks.
+     */
+    public List<Mark> getPending(String userLogin) {
+        List<Mark> pending = new ArrayList<>();
+        writing.stream().filter(mark -> mark.userLogin().equals(userLogin)).forEach(pending::add);
+        Map<Key, Mark> stripe = stripe(userLogin);
+        synchronized (stripe) {
+            stripe.values().stream().filter(mark -> mark.userLogin().equals(userLogin)).forEach(pending::add);
+        }
+        return pending;
+    }
+
+    /**
+     * Write all the buffered marks.
+     */
+    @Scheduled(fixedDelayString = "${application.progress-write-behind.max-lag-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            for (Map<Key, Mark> stripe : stripes) {
+                List<Mark> marks;
+                synchronized (stripe) {
+                    if (stripe.isEmpty()) {
+                        continue;
+                    }
+                    marks = List.copyOf(stripe.values());
+                    writing = marks;
+                    stripe.clear();
+                }
+                size.addAndGet(-marks.size());
+                write(marks);
+            }
+        } finally {
+            writing = List.of();
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        LOG.info("Flushing buffered lesson progress marks");
+        // Waits for a running flush, then writes what is left
+        flushLock.lock();
+        try {
+            flush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(List<Mark> marks) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < marks.size(); from += batchSize) {
+            List<Mark> batch = marks.subList(from, Math.min(from + batchSize, marks.size()));
+            try {
+                flushTimer.record(() -> jdbcTemplate.update(upsert(batch.size()), parameters(batch)));
+            } catch (RuntimeException e) {
+                LOG.warn("Unable to write {} lesson progress marks, they will be retried: {}", batch.size(), e.getMessage());
+                failures.increment();
+                batch.forEach(mark -> retry(mark, e.getMessage()));
+                continue;
+            }
+            if (!attempts.isEmpty()) {
+                batch.forEach(mark -> attempts.remove(new Key(mark.userLogin(), mark.lessonId())));
+            }
+            refreshSummaries(batch);
+        }
+    }
+
+    private void retry(Mark mark, String reason) {
+        Key key = new Key(mark.userLogin(), mark.lessonId());
+        int attempt = attempts.merge(key, 1, Integer::sum);
+        if (attempt < properties.getMaxAttempts() && merge(mark) != null) {
+            return;
+        }
+        LOG.error("Giving up the progress of {} on lesson {} after {} attempts: {}", mark.userLogin(), mark.lessonId(), attempt, reason);
+        attempts.remove(key);
+        dropped.increment();
+    }
+
+    private void refreshSummaries(List<Mark> batch) {
+        Map<String, Set<Long>> courseIdsByUserLogin = new HashMap<>();
+        for (Mark mark : batch) {
+            if (mark.courseId() != null) {
+                courseIdsByUserLogin.computeIfAbsent(mark.userLogin(), userLogin -> new HashSet<>()).add(mark.courseId());
+            }
+        }
+        try {
+            userCourseProgressSummaryService.recompute(courseIdsByUserLogin);
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to refresh the progress summaries of {} users: {}", courseIdsByUserLogin.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Merge a mark into its stripe, unless it is a new mark and the buffer is full.
+     *
+     * @return the merged mark, or {@code null} if the buffer is full.
+     */
+    private Mark merge(Mark mark) {
+        Key key = new Key(mark.userLogin(), mark.lessonId());
+        Map<Key, Mark> stripe = stripe(mark.userLogin());
+        synchronized (stripe) {
+            Mark buffered = stripe.get(key);
+            if (buffered != null) {
+                Mark merged = buffered.merge(mark);
+                stripe.put(key, merged);
+                return merged;
+            }
+            int maxBuffer = properties.getMaxBuffer();
+            if (size.getAndUpdate(count -> count < maxBuffer ? count + 1 : count) >= maxBuffer) {
+                return null;
+            }
+            stripe.put(key, mark);
+            return mark;
+        }
+    }
+
+    private Map<Key, Mark> stripe(String userLogin) {
+        return stripes.get(Math.floorMod(userLogin.hashCode(), stripes.size()));
+    }
+
+    private static String upsert(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + rows * (ROW.length() + 2) + ON_DUPLICATE_KEY.length()).append(INSERT);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+        }
+        return sql.append(ON_DUPLICATE_KEY).toString();
+    }
+
+    private static Object[] parameters(List<Mark> marks) {
+        Object[] parameters = new Object[marks.size() * 4];
+        int i = 0;
+        for (Mark mark : marks) {
+            parameters[i++] = mark.userLogin();
+            parameters[i++] = mark.lessonId();
+            parameters[i++] = mark.courseId();
+            // Written in UTC like Hibernate does with hibernate.jdbc.time_zone
+            parameters[i++] = LocalDateTime.ofInstant(mark.startedAt(), ZoneOffset.UTC);
+        }
+        return parameters;
+    }
+
+    private record Key(String userLogin, Long lessonId) {}
+
+    /**
+     * A buffered lesson mark.
+     *
+     * @param userLogin the login of the user.
+     * @param lessonId the id of the lesson.
+     * @param courseId the id of the course the lesson was viewed in, if any.
+     * @param startedAt the time of the first mark.
+     */
+    public record Mark(String userLogin, Long lessonId, Long courseId, Instant startedAt) {
+        Mark merge(Mark other) {
+            return new Mark(
+                userLogin,
+                lessonId,
+                courseId != null ? courseId : other.courseId(),
+                startedAt.isBefore(other.startedAt()) ? startedAt : other.startedAt()
+            );
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.learnwithhamster.service.service.dto.LessonDTO;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service Interface for managing {@link com.learnwithhamster.service.domain.Lesson}.
@@ -41,6 +42,15 @@ public interface LessonService {
      */
     Page<LessonDTO> findAll(Pageable pageable);
 
+    /**
+     * Get the lessons following an id, in the order of their ids, without counting them.
+     *
+     * @param after the id of the last lesson already read, {@code 0} to start from the first one.
+     * @param size the number of lessons to get.
+     * @return the slice of entities.
+     */
+    Slice<LessonDTO> findAllAfter(Long after, int size);
+
     /**
      * Get the "id" lesson.
      *
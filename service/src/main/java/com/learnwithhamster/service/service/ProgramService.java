@@ -4,6 +4,7 @@ import com.learnwithhamster.service.service.dto.ProgramDTO;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service Interface for managing {@link com.learnwithhamster.service.domain.Program}.
@@ -49,6 +50,16 @@ public interface ProgramService {
      */
     Page<ProgramDTO> findAllWithEagerRelationships(Pageable pageable);
 
+    /**
+     * Get the programs following an id, in the order of their ids, without counting them.
+     * The many-to-many relationships are always loaded.
+     *
+     * @param after the id of the last program already read, {@code 0} to start from the first one.
+     * @param size the number of programs to get.
+     * @return the slice of entities.
+     */
+    Slice<ProgramDTO> findAllAfter(Long after, int size);
+
     /**
      * Get the "id" program.
      *
@@ -1,8 +1,11 @@
 package com.learnwithhamster.service.service;
 
+import com.learnwithhamster.service.domain.enumeration.ResourceType;
 import com.learnwithhamster.service.service.dto.ResourceDTO;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service Interface for managing {@link com.learnwithhamster.service.domain.Resource}.
@@ -39,6 +42,51 @@ public interface ResourceService {
      */
     List<ResourceDTO> findAll();
 
+    /**
+     * Get the resources following an id, in the order of their ids, without counting them.
+     *
+     * @param after the id of the last resource already read, {@code 0} to start from the first one.
+     * @param size the number of resources to get.
+     * @return the slice of entities.
+     */
+    Slice<ResourceDTO> findAllAfter(Long after, int size);
+
+    /**
+     * Get the resources of a lesson, ordered by weight.
+     *
+     * @param lessonId the id of the lesson.
+     * @param resourceTypes the resource types to keep, or {@code null}/empty for all of them.
+     * @return the list of entities.
+     */
+    List<ResourceDTO> findAllByLesson(Long lessonId, Collection<ResourceType> resourceTypes);
+
+    /**
+     * Get the resources of a course, ordered by weight.
+     *
+     * @param courseId the id of the course.
+     * @param resourceTypes the resource types to keep, or {@code null}/empty for all of them.
+     * @return the list of entities.
+     */
+    List<ResourceDTO> findAllByCourse(Long courseId, Collection<ResourceType> resourceTypes);
+
+    /**
+     * Get the resources of a program, ordered by weight.
+     *
+     * @param programId the id of the program.
+     * @param resourceTypes the resource types to keep, or {@code null}/empty for all of them.
+     * @return the list of entities.
+     */
+    List<ResourceDTO> findAllByProgram(Long programId, Collection<ResourceType> resourceTypes);
+
+    /**
+     * Get the resources of a discipline, ordered by weight.
+     *
+     * @param disciplineId the id of the discipline.
+     * @param resourceTypes the resource types to keep, or {@code null}/empty for all of them.
+     * @return the list of entities.
+     */
+    List<ResourceDTO> findAllByDiscipline(Long disciplineId, Collection<ResourceType> resourceTypes);
+
     /**
      * Get the "id" resource.
      *
@@ -0,0 +1,437 @@
+package com.learnwithhamster.service.service;
+
+import com.learnwithhamster.service.config.ApplicationProperties;
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.Discipline;
+import com.learnwithhamster.service.domain.Lesson;
+import com.learnwithhamster.service.domain.Program;
+import com.learnwithhamster.service.domain.Resource;
+import com.learnwithhamster.service.repository.CourseRepository;
+import com.learnwithhamster.service.repository.DisciplineRepository;
+import com.learnwithhamster.service.repository.LessonRepository;
+import com.learnwithhamster.service.repository.ProgramRepository;
+import com.learnwithhamster.service.repository.ResourceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service feeding the Elasticsearch indexes of the catalog entities.
+ * <p>
+ * Written ids are collected per {@link CatalogEntityType} once their transaction commits, so that repeated updates
+ * of the same entity within the linger window are indexed once. Every flush loads the dirty entities with one query
+ * per batch and writes them through the bulk API. A batch that fails is split until the documents that cannot be indexed
+ * are isolated; those are retried up to {@code application.search-indexing.max-attempts} times, while a batch failing
+ * because Elasticsearch or the database is unavailable is retried as is on the next flush.
+ * When {@code application.search-indexing.enabled} is false, documents are indexed right away in the writing transaction.
+ */
+@Service
+public class SearchIndexingPipeline {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchIndexingPipeline.class);
+
+    public static final String QUEUE_METER_NAME = "search.indexing.queue";
+    public static final String BATCH_METER_NAME = "search.indexing.batch";
+    public static final String FAILURES_METER_NAME = "search.indexing.failures";
+    public static final String TYPE_DIMENSION = "type";
+
+    private final ApplicationProperties.SearchIndexing properties;
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<CatalogEntityType, Documents> documents = new EnumMap<>(CatalogEntityType.class);
+
+    public SearchIndexingPipeline(
+        ApplicationProperties applicationProperties,
+        ElasticsearchTemplate elasticsearchTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        DisciplineRepository disciplineRepository,
+        ProgramRepository programRepository,
+        CourseRepository courseRepository,
+        LessonRepository lessonRepository,
+        ResourceRepository resourceRepository
+    ) {
+        this.properties = applicationProperties.getSearchIndexing();
+        this.elasticsearchTemplate = elasticsearchTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        register(
+            meterRegistry,
+            CatalogEntityType.DISCIPLINE,
+            Discipline.class,
+            Discipline::getId,
+            ids -> disciplineRepository.fetchBagRelationships(disciplineRepository.findAllById(ids)),
+            disciplineRepository::findIdsAfter
+        );
+        register(
+            meterRegistry,
+            CatalogEntityType.PROGRAM,
+            Program.class,
+            Program::getId,
+            ids -> programRepository.fetchBagRelationships(programRepository.findAllById(ids)),
+            programRepository::findIdsAfter
+        );
+        register(
+            meterRegistry,
+            CatalogEntityType.COURSE,
+            Course.class,
+            Course::getId,
+            ids -> courseRepository.fetchBagRelationships(courseRepository.findAllById(ids)),
+            courseRepository::findIdsAfter
+        );
+        register(
+            meterRegistry,
+            CatalogEntityType.LESSON,
+            Lesson.class,
+            Lesson::getId,
+            lessonRepository::findAllById,
+            lessonRepository::findIdsAfter
+        );
+        register(
+            meterRegistry,
+            CatalogEntityType.RESOURCE,
+            Resource.class,
+            Resource::getId,
+            ids -> resourceRepository.findAllWithToOneRelationshipsByIdIn(ids),
+            resourceRepository::findIdsAfter
+        );
+    }
+
+    private <T> void register(
+        MeterRegistry meterRegistry,
+        CatalogEntityType type,
+        Class<T> documentClass,
+        Function<T, Long> idOf,
+        Function<Collection<Long>, List<T>> loader,
+        BiFunction<Long, Pageable, List<Long>> idsAfter
+    ) {
+        Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+        String tag = type.name().toLowerCase();
+        Gauge.builder(QUEUE_METER_NAME, dirtyIds, Set::size)
+            .description("Number of entities waiting to be indexed")
+            .tag(TYPE_DIMENSION, tag)
+            .register(meterRegistry);
+        Timer batchTimer = Timer.builder(BATCH_METER_NAME)
+            .description("Time taken to load and bulk index a batch of entities")
+            .tag(TYPE_DIMENSION, tag)
+            .register(meterRegistry);
+        Counter failures = Counter.builder(FAILURES_METER_NAME)
+            .description("Number of batches that could not be indexed")
+            .baseUnit("errors")
+            .tag(TYPE_DIMENSION, tag)
+            .register(meterRegistry);
+        documents.put(
+            type,
+            new Documents(
+                documentClass,
+                entity -> idOf.apply(documentClass.cast(entity)),
+                loader::apply,
+                idsAfter,
+                dirtyIds,
+                new ConcurrentHashMap<>(),
+                batchTimer,
+                failures,
+                new AtomicReference<>()
+            )
+        );
+    }
+
+    /**
+     * Schedule the indexing of an entity once the current transaction commits.
+     *
+     * @param type the type of the entity.
+     * @param id the id of the entity.
+     */
+    public void index(CatalogEntityType type, Long id) {
+        Documents target = documents.get(type);
+        if (!properties.isEnabled()) {
+            indexBatch(target, List.of(id));
+            return;
+        }
+        afterCommit(() -> target.dirtyIds().add(id));
+    }
+
+    /**
+     * Remove an entity from its index once the current transaction commits.
+     *
+     * @param type the type of the entity.
+     * @param id the id of the entity.
+     */
+    public void delete(CatalogEntityType type, Long id) {
+        Documents target = documents.get(type);
+        if (!properties.isEnabled()) {
+            deleteDocument(target, id);
+            return;
+        }
+        afterCommit(() -> {
+            target.dirtyIds().remove(id);
+            target.attempts().remove(id);
+            deleteDocument(target, id);
+        });
+    }
+
+    /**
+     * Get the class of the documents of an entity type.
+     *
+     * @param type the type of the entity.
+     * @return the document class.
+     */
+    public Class<?> getDocumentClass(CatalogEntityType type) {
+        return documents.get(type).documentClass();
+    }
+
+    /**
+     * Get the next ids of an entity type in ascending order, for keyset pagination.
+     *
+     * @param type the type of the entity.
+     * @param after the last id already read, or {@code 0} to start from the beginning.
+     * @param limit the maximum number of ids.
+     * @return the ids.
+     */
+    public List<Long> findIdsAfter(CatalogEntityType type, long after, int limit) {
+        return transactionTemplate.execute(status -> documents.get(type).idsAfter().apply(after, PageRequest.of(0, limit)));
+    }
+
+    /**
+     * Load entities and bulk index them into the given index.
+     *
+     * @param type the type of the entities.
+     * @param ids the ids of the entities.
+     * @param index the target index.
+     * @return the number of indexed documents.
+     */
+    public int indexInto(CatalogEntityType type, Collection<Long> ids, IndexCoordinates index) {
+        return transactionTemplate.execute(status -> {
+            List<?> entities = documents.get(type).loader().apply(ids);
+            if (!entities.isEmpty()) {
+                elasticsearchTemplate.save(entities, index);
+            }
+            return entities.size();
+        });
+    }
+
+    /**
+     * Also apply the writes of an entity type to a second index, until {@link #stopShadowing} is called.
+     * This keeps an index being rebuilt in sync with the writes committed during the rebuild.
+     *
+     * @param type the type of the entity.
+     * @param index the index to write to.
+     */
+    public void startShadowing(CatalogEntityType type, IndexCoordinates index) {
+        documents.get(type).shadow().set(new Shadow(index, ConcurrentHashMap.newKeySet()));
+    }
+
+    /**
+     * Apply again to the index given to {@link #startShadowing} the current state of the entities written since,
+     * once the index is filled.
+     * <p>
+     * A document copied into the index may have been loaded before a write and saved after it, overwriting the newer
+     * document. Reloading the written entities once the copy is over restores them, until no write is left.
+     *
+     * @param type the type of the entities.
+     * @return the number of reloaded entities.
+     */
+    public int resyncShadow(CatalogEntityType type) {
+        Documents target = documents.get(type);
+        Shadow shadow = target.shadow().get();
+        if (shadow == null) {
+            return 0;
+        }
+        int resynced = 0;
+        List<Long> batch;
+        while (!(batch = drain(shadow.writtenIds())).isEmpty()) {
+            List<Long> ids = batch;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<?> entities = target.loader().apply(ids);
+                if (!entities.isEmpty()) {
+                    elasticsearchTemplate.save(entities, shadow.index());
+                }
+                // The entities deleted since are no longer found
+                Set<Long> deletedIds = new HashSet<>(ids);
+                entities.forEach(entity -> deletedIds.remove(target.idOf().apply(entity)));
+                deletedIds.forEach(id -> elasticsearchTemplate.delete(String.valueOf(id), shadow.index()));
+            });
+            resynced += ids.size();
+        }
+        return resynced;
+    }
+
+    /**
+     * Stop writing an entity type to the index given to {@link #startShadowing}.
+     *
+     * @param type the type of the entity.
+     */
+    public void stopShadowing(CatalogEntityType type) {
+        documents.get(type).shadow().set(null);
+    }
+
+    /**
+     * Index all the pending entities, by batches of {@code application.search-indexing.batch-size}.
+     */
+    @Scheduled(fixedDelayString = "${application.search-indexing.linger-ms:1000}")
+    public void flush() {
+        documents.values().forEach(this::flush);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        LOG.info("Flushing pending search indexing");
+        flush();
+    }
+
+    private void flush(Documents target) {
+        // The documents to retry are put back once the flush is over, they are retried by the next one
+        List<Long> retries = new ArrayList<>();
+        List<Long> batch;
+        while (!(batch = drain(target.dirtyIds())).isEmpty()) {
+            if (!index(target, batch, retries)) {
+                break;
+            }
+        }
+        target.dirtyIds().addAll(retries);
+    }
+
+    /**
+     * Index a batch, splitting it on failure so that the documents that cannot be indexed do not hold back the others.
+     *
+     * @return false when Elasticsearch or the database is unavailable, and the batch was put back as is.
+     */
+    private boolean index(Documents target, List<Long> ids, List<Long> retries) {
+        String documentType = target.documentClass().getSimpleName();
+        try {
+            target.batchTimer().record(() -> indexBatch(target, ids));
+            ids.forEach(target.attempts()::remove);
+            return true;
+        } catch (BulkFailureException e) {
+            // The other documents of the batch were indexed
+            target.failures().increment();
+            e.getFailedDocuments().forEach((id, failure) -> retry(target, Long.valueOf(id), failure.errorMessage(), retries));
+            return true;
+        } catch (DataAccessResourceFailureException | TransactionException e) {
+            LOG.warn("Unable to index {} {} documents, they will be retried: {}", ids.size(), documentType, e.getMessage());
+            target.failures().increment();
+            target.dirtyIds().addAll(ids);
+            return false;
+        } catch (RuntimeException e) {
+            target.failures().increment();
+            if (ids.size() == 1) {
+                retry(target, ids.get(0), e.getMessage(), retries);
+                return true;
+            }
+            int half = ids.size() / 2;
+            return index(target, ids.subList(0, half), retries) && index(target, ids.subList(half, ids.size()), retries);
+        }
+    }
+
+    private void retry(Documents target, Long id, String reason, List<Long> retries) {
+        String documentType = target.documentClass().getSimpleName();
+        int attempts = target.attempts().merge(id, 1, Integer::sum);
+        if (attempts < properties.getMaxAttempts()) {
+            LOG.warn("Unable to index {} {}, it will be retried: {}", documentType, id, reason);
+            retries.add(id);
+        } else {
+            LOG.error("Giving up indexing {} {} after {} attempts: {}", documentType, id, attempts, reason);
+            target.attempts().remove(id);
+        }
+    }
+
+    private List<Long> drain(Set<Long> dirtyIds) {
+        List<Long> batch = new ArrayList<>(Math.min(dirtyIds.size(), properties.getBatchSize()));
+        Iterator<Long> iterator = dirtyIds.iterator();
+        while (batch.size() < properties.getBatchSize() && iterator.hasNext()) {
+            Long id = iterator.next();
+            if (dirtyIds.remove(id)) {
+                batch.add(id);
+            }
+        }
+        return batch;
+    }
+
+    private void indexBatch(Documents target, Collection<Long> ids) {
+        // The documents are converted while the session is open, their lazy relationships are still reachable
+        transactionTemplate.executeWithoutResult(status -> {
+            List<?> entities = target.loader().apply(ids);
+            if (!entities.isEmpty()) {
+                elasticsearchTemplate.save(entities);
+                Shadow shadow = target.shadow().get();
+                if (shadow != null) {
+                    shadow.writtenIds().addAll(ids);
+                    elasticsearchTemplate.save(entities, shadow.index());
+                }
+            }
+        });
+    }
+
+    private void deleteDocument(Documents target, Long id) {
+        elasticsearchTemplate.delete(String.valueOf(id), target.documentClass());
+        Shadow shadow = target.shadow().get();
+        if (shadow != null) {
+            shadow.writtenIds().add(id);
+            elasticsearchTemplate.delete(String.valueOf(id), shadow.index());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            }
+        );
+    }
+
+    private record Documents(
+        Class<?> documentClass,
+        Function<Object, Long> idOf,
+        Function<Collection<Long>, List<?>> loader,
+        BiFunction<Long, Pageable, List<Long>> idsAfter,
+        Set<Long> dirtyIds,
+        Map<Long, Integer> attempts,
+        Timer batchTimer,
+        Counter failures,
+        AtomicReference<Shadow> shadow
+    ) {}
+
+    /**
+     * An index being rebuilt, with the ids written to it since the rebuild started.
+     */
+    private record Shadow(IndexCoordinates index, Set<Long> writtenIds) {}
+}
@@ -0,0 +1,261 @@
+package com.learnwithhamster.service.service;
+
+import com.learnwithhamster.service.config.ApplicationProperties;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service rebuilding the search indexes of the catalog without downtime.
+ * <p>
+ * Each table is read by keyset pagination over its ids, and the pages are loaded and bulk indexed by a bounded pool
+ * of workers into a fresh versioned index, so memory does not grow with the table. Writes committed meanwhile are
+ * also applied to the new index, and their entities reloaded once the copy is over, as a copied page may hold an older
+ * state of them. The index alias is then swapped atomically, and the previous index dropped.
+ */
+@Service
+public class SearchReindexService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchReindexService.class);
+
+    private final ApplicationProperties.SearchIndexing properties;
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+
+    private final SearchIndexingPipeline searchIndexingPipeline;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("search-reindex-"));
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Map<CatalogEntityType, Progress> progress = new LinkedHashMap<>();
+
+    public SearchReindexService(
+        ApplicationProperties applicationProperties,
+        ElasticsearchTemplate elasticsearchTemplate,
+        SearchIndexingPipeline searchIndexingPipeline
+    ) {
+        this.properties = applicationProperties.getSearchIndexing();
+        this.elasticsearchTemplate = elasticsearchTemplate;
+        this.searchIndexingPipeline = searchIndexingPipeline;
+    }
+
+    /**
+     * Start rebuilding the indexes of the given types in the background.
+     *
+     * @param types the types to reindex, all of them if empty.
+     * @return false if a reindex is already running.
+     */
+    public boolean start(Collection<CatalogEntityType> types) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Set<CatalogEntityType> targets = types.isEmpty() ? EnumSet.allOf(CatalogEntityType.class) : EnumSet.copyOf(types);
+        synchronized (progress) {
+            progress.clear();
+            targets.forEach(type -> progress.put(type, new Progress()));
+        }
+        jobExecutor.execute(() -> {
+            try {
+                targets.forEach(this::reindex);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Get the progress of the last reindex.
+     *
+     * @return the progress, by type.
+     */
+    public Status getStatus() {
+        synchronized (progress) {
+            List<TypeStatus> types = new ArrayList<>();
+            progress.forEach((type, typeProgress) -> types.add(typeProgress.toStatus(type)));
+            return new Status(running.get(), types);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void reindex(CatalogEntityType type) {
+        Progress typeProgress;
+        synchronized (progress) {
+            typeProgress = progress.get(type);
+        }
+        Class<?> documentClass = searchIndexingPipeline.getDocumentClass(type);
+        IndexOperations aliasOps = elasticsearchTemplate.indexOps(documentClass);
+        String alias = aliasOps.getIndexCoordinates().getIndexName();
+        IndexCoordinates newIndex = IndexCoordinates.of(alias + "_" + System.currentTimeMillis());
+        typeProgress.start(newIndex.getIndexName());
+        LOG.info("Reindexing {} into {}", alias, newIndex.getIndexName());
+
+        IndexOperations newIndexOps = elasticsearchTemplate.indexOps(newIndex);
+        try {
+            newIndexOps.create(aliasOps.createSettings(documentClass), aliasOps.createMapping(documentClass));
+            searchIndexingPipeline.startShadowing(type, newIndex);
+            copy(type, newIndex, typeProgress);
+            int resynced = searchIndexingPipeline.resyncShadow(type);
+            LOG.debug("Reloaded {} entities written during the copy into {}", resynced, newIndex.getIndexName());
+            newIndexOps.refresh();
+            swapAlias(aliasOps, alias, newIndex.getIndexName());
+            typeProgress.finish(null);
+            LOG.info("Reindexed {} documents into {}", typeProgress.documents.get(), newIndex.getIndexName());
+        } catch (RuntimeException e) {
+            LOG.error("Reindex of {} failed, keeping the current index", alias, e);
+            typeProgress.finish(e.getMessage());
+            if (newIndexOps.exists()) {
+                newIndexOps.delete();
+            }
+        } finally {
+            searchIndexingPipeline.stopShadowing(type);
+        }
+    }
+
+    private void copy(CatalogEntityType type, IndexCoordinates newIndex, Progress typeProgress) {
+        int workers = Math.max(1, properties.getReindexWorkers());
+        // A full queue makes the reading thread index the page itself, which bounds the pages held in memory
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers),
+            new CustomizableThreadFactory("search-reindex-worker-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        List<Future<?>> pending = new ArrayList<>();
+        try {
+            long after = 0;
+            List<Long> ids;
+            while (!(ids = searchIndexingPipeline.findIdsAfter(type, after, properties.getReindexPageSize())).isEmpty()) {
+                after = ids.get(ids.size() - 1);
+                List<Long> page = ids;
+                pending.add(pool.submit(() -> typeProgress.documents.addAndGet(searchIndexingPipeline.indexInto(type, page, newIndex))));
+                Iterator<Future<?>> iterator = pending.iterator();
+                while (iterator.hasNext()) {
+                    Future<?> future = iterator.next();
+                    if (future.isDone()) {
+                        await(future);
+                        iterator.remove();
+                    }
+                }
+            }
+            for (Future<?> future : pending) {
+                await(future);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reindex interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void swapAlias(IndexOperations aliasOps, String alias, String newIndexName) {
+        List<AliasAction> actions = new ArrayList<>();
+        actions.add(new AliasAction.Add(AliasActionParameters.builder().withIndices(newIndexName).withAliases(alias).build()));
+        if (aliasOps.exists()) {
+            // Before the first reindex the alias name is still a concrete index, it is dropped in the same request
+            for (String oldIndexName : aliasOps.getAliasesForIndex(alias).keySet()) {
+                actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder().withIndices(oldIndexName).build()));
+            }
+        }
+        aliasOps.alias(new AliasActions(actions.toArray(AliasAction[]::new)));
+    }
+
+    private static final class Progress {
+
+        private final AtomicLong documents = new AtomicLong();
+
+        private volatile String index;
+
+        private volatile Instant startedAt;
+
+        private volatile Instant finishedAt;
+
+        private volatile String error;
+
+        void start(String index) {
+            this.index = index;
+            this.startedAt = Instant.now();
+        }
+
+        void finish(String error) {
+            this.error = error;
+            this.finishedAt = Instant.now();
+        }
+
+        TypeStatus toStatus(CatalogEntityType type) {
+            String state = startedAt == null ? "PENDING" : finishedAt == null ? "RUNNING" : error == null ? "DONE" : "FAILED";
+            double documentsPerSecond = 0;
+            if (startedAt != null) {
+                long millis = Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now()).toMillis();
+                documentsPerSecond = millis > 0 ? documents.get() * 1000d / millis : 0;
+            }
+            return new TypeStatus(type, state, index, documents.get(), documentsPerSecond, startedAt, finishedAt, error);
+        }
+    }
+
+    /**
+     * The progress of a reindex.
+     *
+     * @param running whether the reindex is still running.
+     * @param types the progress of each reindexed type.
+     */
+    public record Status(boolean running, List<TypeStatus> types) {}
+
+    /**
+     * The progress of the reindex of one type.
+     */
+    public record TypeStatus(
+        CatalogEntityType type,
+        String state,
+        String index,
+        long documents,
+        double documentsPerSecond,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+    ) {}
+}
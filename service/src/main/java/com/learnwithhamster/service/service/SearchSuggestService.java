@@ -0,0 +1,163 @@
+package com.learnwithhamster.service.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learnwithhamster.service.config.ApplicationProperties;
+import com.learnwithhamster.service.service.dto.SuggestionDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service suggesting catalog entities while the user types.
+ * <p>
+ * The {@code suggest} search_as_you_type sub-fields of the titles and names of all the catalog indexes are matched
+ * with a single {@code bool_prefix} multi-index request, so partial words match without wildcard scans and
+ * the user input is never parsed as a query string. Results of the hot prefixes are kept for a few seconds.
+ */
+@Service
+public class SearchSuggestService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchSuggestService.class);
+
+    public static final String QUERY_METER_NAME = "search.suggest.query";
+    public static final String CACHE_NAME = "searchSuggest";
+
+    private static final String SUGGEST_SUFFIX = ".suggest";
+
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    private final ApplicationProperties.SearchSuggest properties;
+
+    private final Map<CatalogEntityType, String> titleFields = new EnumMap<>(CatalogEntityType.class);
+
+    private final List<String> indexNames = new ArrayList<>();
+
+    private final List<String> queryFields = new ArrayList<>();
+
+    private final Cache<Key, List<SuggestionDTO>> cache;
+
+    private final Timer queryTimer;
+
+    public SearchSuggestService(
+        ElasticsearchClient elasticsearchClient,
+        ElasticsearchTemplate elasticsearchTemplate,
+        SearchIndexingPipeline searchIndexingPipeline,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.properties = applicationProperties.getSearchSuggest();
+        titleFields.put(CatalogEntityType.DISCIPLINE, "disciplineName");
+        titleFields.put(CatalogEntityType.PROGRAM, "programName");
+        titleFields.put(CatalogEntityType.COURSE, "courseTitle");
+        titleFields.put(CatalogEntityType.LESSON, "lessonTitle");
+        titleFields.put(CatalogEntityType.RESOURCE, "resourceName");
+        titleFields.forEach((type, field) -> {
+            Class<?> documentClass = searchIndexingPipeline.getDocumentClass(type);
+            indexNames.add(elasticsearchTemplate.getIndexCoordinatesFor(documentClass).getIndexName());
+            // The shingle sub-fields of search_as_you_type score the consecutive words of the input higher
+            queryFields.add(field + SUGGEST_SUFFIX);
+            queryFields.add(field + SUGGEST_SUFFIX + "._2gram");
+            queryFields.add(field + SUGGEST_SUFFIX + "._3gram");
+        });
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(properties.getCacheTtlMs()))
+            .maximumSize(properties.getCacheMaxSize())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.queryTimer = Timer.builder(QUERY_METER_NAME)
+            .description("Time taken by the search-as-you-type requests to Elasticsearch")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * Suggest the catalog entities whose title or name starts with the words typed so far.
+     *
+     * @param query the text typed by the user.
+     * @param size the number of suggestions, capped by {@code application.search-suggest.max-results}.
+     * @return the best matching suggestions first.
+     */
+    public List<SuggestionDTO> suggest(String query, int size) {
+        String text = normalize(query);
+        int limit = Math.min(Math.max(size, 1), properties.getMaxResults());
+        if (text.isEmpty()) {
+            return List.of();
+        }
+        return cache.get(new Key(text, limit), this::search);
+    }
+
+    private List<SuggestionDTO> search(Key key) {
+        LOG.debug("Request to suggest {} entities for {}", key.size(), key.text());
+        SearchResponse<ObjectNode> response = queryTimer.record(() -> {
+            try {
+                return elasticsearchClient.search(
+                    s ->
+                        s
+                            .index(indexNames)
+                            .ignoreUnavailable(true)
+                            .size(key.size())
+                            .trackTotalHits(t -> t.enabled(false))
+                            .source(src -> src.filter(f -> f.includes(List.copyOf(titleFields.values()))))
+                            .query(q -> q.multiMatch(mm -> mm.query(key.text()).type(TextQueryType.BoolPrefix).fields(queryFields))),
+                    ObjectNode.class
+                );
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        List<SuggestionDTO> suggestions = new ArrayList<>(response.hits().hits().size());
+        for (Hit<ObjectNode> hit : response.hits().hits()) {
+            toSuggestion(hit).ifPresent(suggestions::add);
+        }
+        return List.copyOf(suggestions);
+    }
+
+    private Optional<SuggestionDTO> toSuggestion(Hit<ObjectNode> hit) {
+        // The indexes are aliases of versioned indexes after a reindex, so the type is told by the returned field
+        ObjectNode source = hit.source();
+        if (source == null || hit.id() == null) {
+            return Optional.empty();
+        }
+        for (Map.Entry<CatalogEntityType, String> titleField : titleFields.entrySet()) {
+            JsonNode title = source.get(titleField.getValue());
+            if (title != null && !title.isNull()) {
+                return Optional.of(new SuggestionDTO(titleField.getKey(), Long.valueOf(hit.id()), title.asText()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        String text = query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return text.length() > MAX_QUERY_LENGTH ? text.substring(0, MAX_QUERY_LENGTH) : text;
+    }
+
+    private record Key(String text, int size) {}
+}
@@ -0,0 +1,99 @@
+package com.learnwithhamster.service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loader coalescing the concurrent loads of the same catalog entity: the first caller runs the load, and the callers
+ * arriving while it is in flight wait for its result instead of running the same queries.
+ * <p>
+ * Only in-flight loads are shared, nothing is kept once a load completes. A load may have read the entity before a
+ * write committed, so once a catalog write is committed, on any node, the loads in flight of every type whose
+ * representations it may change are no longer joined: a caller arriving after the commit runs a new load, and reads
+ * the written data. The callers that joined a load before the commit get its result, as they would from a plain read
+ * started at the same time as that load.
+ * <p>
+ * The same result instance is handed to every waiting caller: it must not be modified. A failed load fails all its
+ * callers.
+ */
+@Service
+public class SingleFlightLoader {
+
+    public static final String LOADS_METER_NAME = "catalog.single-flight.loads";
+    public static final String COALESCED_METER_NAME = "catalog.single-flight.coalesced";
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Map<CatalogEntityType, Counter> loads = new ConcurrentHashMap<>();
+
+    private final Map<CatalogEntityType, Counter> coalesced = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightLoader(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Load a value, or wait for the load of the same key already in flight.
+     *
+     * @param type the type of the loaded entity.
+     * @param key the key of the value.
+     * @param loader the load, run by the first caller only.
+     * @return the loaded value.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V load(CatalogEntityType type, Object key, Supplier<V> loader) {
+        Key flightKey = new Key(type, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            counter(coalesced, COALESCED_METER_NAME, type, "Number of loads that waited for the same load in flight").increment();
+            try {
+                return (V) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        counter(loads, LOADS_METER_NAME, type, "Number of loads run by the single-flight loader").increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * Stop sharing the loads in flight that may have read the entities written by a committed write.
+     */
+    @EventListener
+    public void onCatalogChangeCommitted(CatalogChangeCommittedEvent event) {
+        Set<CatalogEntityType> stale = CatalogVersions.dependents(event.type());
+        // The loads keep running for the callers that joined them, they remove their own entries once complete
+        inFlight.keySet().removeIf(flightKey -> stale.contains(flightKey.type()));
+    }
+
+    private Counter counter(Map<CatalogEntityType, Counter> counters, String meterName, CatalogEntityType type, String description) {
+        return counters.computeIfAbsent(type, key ->
+            Counter.builder(meterName).description(description).tag("name", key.name().toLowerCase()).register(meterRegistry)
+        );
+    }
+
+    private record Key(CatalogEntityType type, Object key) {}
+}
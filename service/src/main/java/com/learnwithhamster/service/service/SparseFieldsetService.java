@@ -0,0 +1,100 @@
+package com.learnwithhamster.service.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service reading pages of entities restricted to some of their columns (sparse fieldsets).
+ * <p>
+ * The columns are selected with a tuple query, so neither the other columns nor the relationships are read, and each
+ * entity is returned as the map of its selected fields, in the requested order.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SparseFieldsetService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SparseFieldsetService.class);
+
+    private final EntityManager entityManager;
+
+    public SparseFieldsetService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Get the fields of an entity that can be selected: its columns, the relationships excepted.
+     *
+     * @param entityClass the class of the entity.
+     * @return the names of the fields.
+     */
+    public Set<String> getSelectableFields(Class<?> entityClass) {
+        return entityManager
+            .getMetamodel()
+            .entity(entityClass)
+            .getSingularAttributes()
+            .stream()
+            .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+            .map(Attribute::getName)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Get a page of entities restricted to some of their fields.
+     *
+     * @param entityClass the class of the entity.
+     * @param fields the fields to select, among the {@link #getSelectableFields(Class) selectable fields}.
+     * @param pageable the pagination information, sorted on selectable fields only.
+     * @param <T> the type of the entity.
+     * @return the page of entities, each one as the map of its fields.
+     */
+    public <T> Page<Map<String, Object>> findAll(Class<T> entityClass, List<String> fields, Pageable pageable) {
+        LOG.debug("Request to get a page of {} with fields : {}", entityClass.getSimpleName(), fields);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        query.multiselect(fields.stream().<Selection<?>>map(field -> root.get(field).alias(field)).toList());
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = typedQuery.getResultList().stream().map(SparseFieldsetService::toMap).toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityClass));
+    }
+
+    private long count(Class<?> entityClass) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(entityClass)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            fields.put(element.getAlias(), tuple.get(element));
+        }
+        return fields;
+    }
+}
@@ -1,6 +1,8 @@
 package com.learnwithhamster.service.service;
 
+import com.learnwithhamster.service.service.dto.MyLearningDTO;
 import com.learnwithhamster.service.service.dto.UserCourseEnrollmentDTO;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,6 +17,15 @@ public interface UserCourseEnrollmentService {
      */
     UserCourseEnrollmentDTO enroll(Long courseId);
 
+    /**
+     * Idempotently enroll the current user in many courses at once.
+     * Courses that do not exist are skipped.
+     *
+     * @param courseIds the course IDs.
+     * @return the enrollment records of the existing courses.
+     */
+    List<UserCourseEnrollmentDTO> enrollAll(Collection<Long> courseIds);
+
     /**
      * Unenroll the current user from a course.
      *
@@ -36,4 +47,11 @@ public interface UserCourseEnrollmentService {
      * @return true if enrolled.
      */
     boolean isEnrolled(Long courseId);
+
+    /**
+     * Get the courses the current user is enrolled in, with their progress, most recent enrollments first.
+     *
+     * @return list of courses.
+     */
+    List<MyLearningDTO> getMyLearning();
 }
@@ -0,0 +1,44 @@
+package com.learnwithhamster.service.service;
+
+import com.learnwithhamster.service.service.dto.UserCourseProgressSummaryDTO;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service Interface for maintaining {@link com.learnwithhamster.service.domain.UserCourseProgressSummary}.
+ */
+public interface UserCourseProgressSummaryService {
+    /**
+     * Record the activity of a user in a course, in the transaction writing the lesson progress.
+     *
+     * @param userLogin the login of the user.
+     * @param courseId the course ID.
+     * @param lessonCompleted whether a lesson of the course was completed for the first time.
+     */
+    void recordProgress(String userLogin, Long courseId, boolean lessonCompleted);
+
+    /**
+     * Recompute the summaries from the lesson progress rows, after they were written in bulk.
+     *
+     * @param courseIdsByUserLogin the course IDs to recompute, by user login.
+     */
+    void recompute(Map<String, Set<Long>> courseIdsByUserLogin);
+
+    /**
+     * Refresh the number of lessons of a course in its summaries.
+     *
+     * @param courseId the course ID.
+     */
+    void updateTotalLessons(Long courseId);
+
+    /**
+     * Get the summaries of the current user for the given courses.
+     * Courses without any progress have no summary.
+     *
+     * @param courseIds the course IDs.
+     * @return the list of summaries.
+     */
+    List<UserCourseProgressSummaryDTO> findAllForCurrentUser(Collection<Long> courseIds);
+}
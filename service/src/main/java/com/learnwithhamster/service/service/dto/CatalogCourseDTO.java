@@ -0,0 +1,10 @@
+package com.learnwithhamster.service.service.dto;
+
+import com.learnwithhamster.service.domain.enumeration.Level;
+import java.io.Serializable;
+
+/**
+ * A {@link com.learnwithhamster.service.domain.Course} leaf of the {@link CatalogDTO}.
+ */
+public record CatalogCourseDTO(Long id, String courseTitle, String courseDescription, Long coursePrice, Level courseLevel, int lessonCount)
+    implements Serializable {}
@@ -0,0 +1,11 @@
+package com.learnwithhamster.service.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A read-only snapshot of the catalog tree: disciplines, their programs and the courses of those programs.
+ *
+ * @param disciplines the disciplines, ordered by id.
+ */
+public record CatalogDTO(List<CatalogDisciplineDTO> disciplines) implements Serializable {}
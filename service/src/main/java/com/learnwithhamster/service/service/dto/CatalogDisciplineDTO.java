@@ -0,0 +1,19 @@
+package com.learnwithhamster.service.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A {@link com.learnwithhamster.service.domain.Discipline} node of the {@link CatalogDTO}.
+ *
+ * @param courseCount the number of distinct courses reachable through the programs.
+ */
+public record CatalogDisciplineDTO(
+    Long id,
+    String disciplineName,
+    String disciplineDescription,
+    Long disciplinePrice,
+    int courseCount,
+    List<CatalogProgramDTO> programs
+)
+    implements Serializable {}
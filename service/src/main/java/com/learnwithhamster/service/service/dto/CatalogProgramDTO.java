@@ -0,0 +1,10 @@
+package com.learnwithhamster.service.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A {@link com.learnwithhamster.service.domain.Program} node of the {@link CatalogDTO}.
+ */
+public record CatalogProgramDTO(Long id, String programName, String programDescription, Long programPrice, List<CatalogCourseDTO> courses)
+    implements Serializable {}
@@ -0,0 +1,156 @@
+package com.learnwithhamster.service.service.dto;
+
+import com.learnwithhamster.service.domain.enumeration.Level;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A read model of a {@link com.learnwithhamster.service.domain.Course} with its ordered lessons, their resources,
+ * and the current user's enrollment and progress.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class CourseDetailDTO implements Serializable {
+
+    private Long id;
+
+    private String courseTitle;
+
+    private String courseDescription;
+
+    private Long coursePrice;
+
+    private Level courseLevel;
+
+    private List<LessonDetailDTO> lessons = new ArrayList<>();
+
+    private List<ResourceDTO> resources = new ArrayList<>();
+
+    private boolean enrolled;
+
+    private Instant enrolledAt;
+
+    private Set<Long> completedLessonIds = new LinkedHashSet<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCourseTitle() {
+        return courseTitle;
+    }
+
+    public void setCourseTitle(String courseTitle) {
+        this.courseTitle = courseTitle;
+    }
+
+    public String getCourseDescription() {
+        return courseDescription;
+    }
+
+    public void setCourseDescription(String courseDescription) {
+        this.courseDescription = courseDescription;
+    }
+
+    public Long getCoursePrice() {
+        return coursePrice;
+    }
+
+    public void setCoursePrice(Long coursePrice) {
+        this.coursePrice = coursePrice;
+    }
+
+    public Level getCourseLevel() {
+        return courseLevel;
+    }
+
+    public void setCourseLevel(Level courseLevel) {
+        this.courseLevel = courseLevel;
+    }
+
+    public List<LessonDetailDTO> getLessons() {
+        return lessons;
+    }
+
+    public void setLessons(List<LessonDetailDTO> lessons) {
+        this.lessons = lessons;
+    }
+
+    public List<ResourceDTO> getResources() {
+        return resources;
+    }
+
+    public void setResources(List<ResourceDTO> resources) {
+        this.resources = resources;
+    }
+
+    public boolean isEnrolled() {
+        return enrolled;
+    }
+
+    public void setEnrolled(boolean enrolled) {
+        this.enrolled = enrolled;
+    }
+
+    public Instant getEnrolledAt() {
+        return enrolledAt;
+    }
+
+    public void setEnrolledAt(Instant enrolledAt) {
+        this.enrolledAt = enrolledAt;
+    }
+
+    public Set<Long> getCompletedLessonIds() {
+        return completedLessonIds;
+    }
+
+    public void setCompletedLessonIds(Set<Long> completedLessonIds) {
+        this.completedLessonIds = completedLessonIds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CourseDetailDTO)) {
+            return false;
+        }
+
+        CourseDetailDTO courseDetailDTO = (CourseDetailDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, courseDetailDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CourseDetailDTO{" +
+            "id=" + getId() +
+            ", courseTitle='" + getCourseTitle() + "'" +
+            ", courseDescription='" + getCourseDescription() + "'" +
+            ", coursePrice=" + getCoursePrice() +
+            ", courseLevel='" + getCourseLevel() + "'" +
+            ", lessons=" + getLessons() +
+            ", resources=" + getResources() +
+            ", enrolled='" + isEnrolled() + "'" +
+            ", enrolledAt='" + getEnrolledAt() + "'" +
+            ", completedLessonIds=" + getCompletedLessonIds() +
+            "}";
+    }
+}
@@ -0,0 +1,98 @@
+package com.learnwithhamster.service.service.dto;
+
+import com.learnwithhamster.service.domain.enumeration.Language;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A read model of a {@link com.learnwithhamster.service.domain.Lesson} inside a {@link CourseDetailDTO},
+ * carrying its resources ordered by weight.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class LessonDetailDTO implements Serializable {
+
+    private Long id;
+
+    private String lessonTitle;
+
+    private String lessonDescription;
+
+    private Language language;
+
+    private List<ResourceDTO> resources = new ArrayList<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getLessonTitle() {
+        return lessonTitle;
+    }
+
+    public void setLessonTitle(String lessonTitle) {
+        this.lessonTitle = lessonTitle;
+    }
+
+    public String getLessonDescription() {
+        return lessonDescription;
+    }
+
+    public void setLessonDescription(String lessonDescription) {
+        this.lessonDescription = lessonDescription;
+    }
+
+    public Language getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(Language language) {
+        this.language = language;
+    }
+
+    public List<ResourceDTO> getResources() {
+        return resources;
+    }
+
+    public void setResources(List<ResourceDTO> resources) {
+        this.resources = resources;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LessonDetailDTO)) {
+            return false;
+        }
+
+        LessonDetailDTO lessonDetailDTO = (LessonDetailDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, lessonDetailDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "LessonDetailDTO{" +
+            "id=" + getId() +
+            ", lessonTitle='" + getLessonTitle() + "'" +
+            ", lessonDescription='" + getLessonDescription() + "'" +
+            ", language='" + getLanguage() + "'" +
+            ", resources=" + getResources() +
+            "}";
+    }
+}
@@ -0,0 +1,20 @@
+package com.learnwithhamster.service.service.dto;
+
+import com.learnwithhamster.service.domain.enumeration.Level;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A course the current user is enrolled in, with its progress.
+ */
+public record MyLearningDTO(
+    Long courseId,
+    String courseTitle,
+    Long coursePrice,
+    Level courseLevel,
+    Instant enrolledAt,
+    int completedLessons,
+    int totalLessons,
+    Instant lastActivityAt,
+    Instant completedAt
+) implements Serializable {}
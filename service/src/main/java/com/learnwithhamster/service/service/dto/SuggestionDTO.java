@@ -0,0 +1,9 @@
+package com.learnwithhamster.service.service.dto;
+
+import com.learnwithhamster.service.service.CatalogEntityType;
+import java.io.Serializable;
+
+/**
+ * A search-as-you-type suggestion, pointing to a catalog entity by its type and id.
+ */
+public record SuggestionDTO(CatalogEntityType type, Long id, String title) implements Serializable {}
@@ -0,0 +1,122 @@
+package com.learnwithhamster.service.service.dto;
+
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.learnwithhamster.service.domain.UserCourseProgressSummary} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class UserCourseProgressSummaryDTO implements Serializable {
+
+    private Long id;
+
+    @NotNull
+    private String userLogin;
+
+    @NotNull
+    private Long courseId;
+
+    @NotNull
+    private Integer completedLessons;
+
+    @NotNull
+    private Integer totalLessons;
+
+    private Instant lastActivityAt;
+
+    private Instant completedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUserLogin() {
+        return userLogin;
+    }
+
+    public void setUserLogin(String userLogin) {
+        this.userLogin = userLogin;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getCompletedLessons() {
+        return completedLessons;
+    }
+
+    public void setCompletedLessons(Integer completedLessons) {
+        this.completedLessons = completedLessons;
+    }
+
+    public Integer getTotalLessons() {
+        return totalLessons;
+    }
+
+    public void setTotalLessons(Integer totalLessons) {
+        this.totalLessons = totalLessons;
+    }
+
+    public Instant getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(Instant lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserCourseProgressSummaryDTO)) {
+            return false;
+        }
+
+        UserCourseProgressSummaryDTO that = (UserCourseProgressSummaryDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "UserCourseProgressSummaryDTO{" +
+            "id=" + getId() +
+            ", userLogin='" + getUserLogin() + "'" +
+            ", courseId=" + getCourseId() +
+            ", completedLessons=" + getCompletedLessons() +
+            ", totalLessons=" + getTotalLessons() +
+            ", lastActivityAt='" + getLastActivityAt() + "'" +
+            ", completedAt='" + getCompletedAt() + "'" +
+            "}";
+    }
+}
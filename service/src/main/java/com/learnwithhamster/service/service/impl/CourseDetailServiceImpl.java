@@ -0,0 +1,120 @@
+package com.learnwithhamster.service.service.impl;
+
+import com.learnwithhamster.service.domain.Lesson;
+import com.learnwithhamster.service.domain.Resource;
+import com.learnwithhamster.service.domain.UserLessonProgress;
+import com.learnwithhamster.service.repository.CourseRepository;
+import com.learnwithhamster.service.repository.LessonRepository;
+import com.learnwithhamster.service.repository.ResourceRepository;
+import com.learnwithhamster.service.repository.UserCourseEnrollmentRepository;
+import com.learnwithhamster.service.repository.UserLessonProgressRepository;
+import com.learnwithhamster.service.security.SecurityUtils;
+import com.learnwithhamster.service.service.CourseDetailService;
+import com.learnwithhamster.service.service.LessonProgressWriteBehind;
+import com.learnwithhamster.service.service.dto.CourseDetailDTO;
+import com.learnwithhamster.service.service.dto.LessonDetailDTO;
+import com.learnwithhamster.service.service.mapper.CourseDetailMapper;
+import com.learnwithhamster.service.service.mapper.ResourceMapper;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading the {@link CourseDetailDTO} aggregate.
+ * <p>
+ * The aggregate is built from a fixed number of statements whatever the size of the catalog:
+ * the course, its lessons, the resources of the course and its lessons, and (when a user is logged in)
+ * the enrollment and progress rows of that user.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CourseDetailServiceImpl implements CourseDetailService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CourseDetailServiceImpl.class);
+
+    private final CourseRepository courseRepository;
+
+    private final LessonRepository lessonRepository;
+
+    private final ResourceRepository resourceRepository;
+
+    private final UserCourseEnrollmentRepository userCourseEnrollmentRepository;
+
+    private final UserLessonProgressRepository userLessonProgressRepository;
+
+    private final LessonProgressWriteBehind lessonProgressWriteBehind;
+
+    private final CourseDetailMapper courseDetailMapper;
+
+    private final ResourceMapper resourceMapper;
+
+    public CourseDetailServiceImpl(
+        CourseRepository courseRepository,
+        LessonRepository lessonRepository,
+        ResourceRepository resourceRepository,
+        UserCourseEnrollmentRepository userCourseEnrollmentRepository,
+        UserLessonProgressRepository userLessonProgressRepository,
+        LessonProgressWriteBehind lessonProgressWriteBehind,
+        CourseDetailMapper courseDetailMapper,
+        ResourceMapper resourceMapper
+    ) {
+        this.courseRepository = courseRepository;
+        this.lessonRepository = lessonRepository;
+        this.resourceRepository = resourceRepository;
+        this.userCourseEnrollmentRepository = userCourseEnrollmentRepository;
+        this.userLessonProgressRepository = userLessonProgressRepository;
+        this.lessonProgressWriteBehind = lessonProgressWriteBehind;
+        this.courseDetailMapper = courseDetailMapper;
+        this.resourceMapper = resourceMapper;
+    }
+
+    @Override
+    public Optional<CourseDetailDTO> findDetail(Long id) {
+        LOG.debug("Request to get CourseDetail : {}", id);
+        return courseRepository.findById(id).map(courseDetailMapper::toDetailDto).map(this::fill);
+    }
+
+    private CourseDetailDTO fill(CourseDetailDTO detail) {
+        Map<Long, LessonDetailDTO> lessonsById = new LinkedHashMap<>();
+        for (Lesson lesson : lessonRepository.findAllByCourseId(detail.getId())) {
+            lessonsById.put(lesson.getId(), courseDetailMapper.toLessonDetailDto(lesson));
+        }
+        detail.getLessons().addAll(lessonsById.values());
+
+        // Resources arrive ordered by weight; attach each to its lesson, the rest belong to the course itself.
+        for (Resource resource : resourceRepository.findAllForCourseDetail(detail.getId())) {
+            LessonDetailDTO lesson = resource.getLesson() != null ? lessonsById.get(resource.getLesson().getId()) : null;
+            if (lesson != null) {
+                lesson.getResources().add(resourceMapper.toDto(resource));
+            } else {
+                detail.getResources().add(resourceMapper.toDto(resource));
+            }
+        }
+
+        SecurityUtils.getCurrentUserLogin().ifPresent(userLogin -> {
+            userCourseEnrollmentRepository
+                .findByUserLoginAndCourseId(userLogin, detail.getId())
+                .ifPresent(enrollment -> {
+                    detail.setEnrolled(true);
+                    detail.setEnrolledAt(enrollment.getEnrolledAt());
+                });
+            userLessonProgressRepository
+                .findByUserLoginAndCourseId(userLogin, detail.getId())
+                .stream()
+                .filter(progress -> Boolean.TRUE.equals(progress.getCompleted()))
+                .map(UserLessonProgress::getLessonId)
+                .forEach(detail.getCompletedLessonIds()::add);
+            lessonProgressWriteBehind
+                .getPending(userLogin)
+                .stream()
+                .filter(mark -> detail.getId().equals(mark.courseId()))
+                .map(LessonProgressWriteBehind.Mark::lessonId)
+                .forEach(detail.getCompletedLessonIds()::add);
+        });
+        return detail;
+    }
+}
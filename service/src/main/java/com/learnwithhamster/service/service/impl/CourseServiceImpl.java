@@ -3,14 +3,31 @@ package com.learnwithhamster.service.service.impl;
 import com.learnwithhamster.service.domain.Course;
 import com.learnwithhamster.service.repository.CourseRepository;
 import com.learnwithhamster.service.repository.search.CourseSearchRepository;
+import com.learnwithhamster.service.service.CatalogCaches;
+import com.learnwithhamster.service.service.CatalogChangedEvent;
+import com.learnwithhamster.service.service.CatalogEntityType;
 import com.learnwithhamster.service.service.CourseService;
+import com.learnwithhamster.service.service.SearchIndexingPipeline;
+import com.learnwithhamster.service.service.SingleFlightLoader;
+import com.learnwithhamster.service.service.UserCourseProgressSummaryService;
 import com.learnwithhamster.service.service.dto.CourseDTO;
 import com.learnwithhamster.service.service.mapper.CourseMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +36,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional
+@CacheConfig(cacheManager = CatalogCaches.CACHE_MANAGER)
 public class CourseServiceImpl implements CourseService {
 
     private static final Logger LOG = LoggerFactory.getLogger(CourseServiceImpl.class);
@@ -29,31 +47,77 @@ public class CourseServiceImpl implements CourseService {
 
     private final CourseSearchRepository courseSearchRepository;
 
-    public CourseServiceImpl(CourseRepository courseRepository, CourseMapper courseMapper, CourseSearchRepository courseSearchRepository) {
+    private final SearchIndexingPipeline searchIndexingPipeline;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final UserCourseProgressSummaryService userCourseProgressSummaryService;
+
+    private final SingleFlightLoader singleFlightLoader;
+
+    public CourseServiceImpl(
+        CourseRepository courseRepository,
+        CourseMapper courseMapper,
+        CourseSearchRepository courseSearchRepository,
+        SearchIndexingPipeline searchIndexingPipeline,
+        ApplicationEventPublisher applicationEventPublisher,
+        UserCourseProgressSummaryService userCourseProgressSummaryService,
+        SingleFlightLoader singleFlightLoader
+    ) {
         this.courseRepository = courseRepository;
         this.courseMapper = courseMapper;
         this.courseSearchRepository = courseSearchRepository;
+        this.searchIndexingPipeline = searchIndexingPipeline;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.userCourseProgressSummaryService = userCourseProgressSummaryService;
+        this.singleFlightLoader = singleFlightLoader;
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON_PAGES, allEntries = true)
+        }
+    )
     public CourseDTO save(CourseDTO courseDTO) {
         LOG.debug("Request to save Course : {}", courseDTO);
         Course course = courseMapper.toEntity(courseDTO);
         course = courseRepository.save(course);
-        courseSearchRepository.index(course);
+        searchIndexingPipeline.index(CatalogEntityType.COURSE, course.getId());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.COURSE));
         return courseMapper.toDto(course);
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.COURSE, key = "#courseDTO.id"),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON_PAGES, allEntries = true)
+        }
+    )
     public CourseDTO update(CourseDTO courseDTO) {
         LOG.debug("Request to update Course : {}", courseDTO);
         Course course = courseMapper.toEntity(courseDTO);
         course = courseRepository.save(course);
-        courseSearchRepository.index(course);
+        userCourseProgressSummaryService.updateTotalLessons(course.getId());
+        searchIndexingPipeline.index(CatalogEntityType.COURSE, course.getId());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.COURSE));
         return courseMapper.toDto(course);
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.COURSE, key = "#courseDTO.id"),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON_PAGES, allEntries = true)
+        }
+    )
     public Optional<CourseDTO> partialUpdate(CourseDTO courseDTO) {
         LOG.debug("Request to partially update Course : {}", courseDTO);
 
@@ -66,7 +130,9 @@ public class CourseServiceImpl implements CourseService {
             })
             .map(courseRepository::save)
             .map(savedCourse -> {
-                courseSearchRepository.index(savedCourse);
+                userCourseProgressSummaryService.updateTotalLessons(savedCourse.getId());
+                searchIndexingPipeline.index(CatalogEntityType.COURSE, savedCourse.getId());
+                applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.COURSE));
                 return savedCourse;
             })
             .map(courseMapper::toDto);
@@ -74,27 +140,79 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.COURSE_PAGES, key = "'all:' + #pageable")
     public Page<CourseDTO> findAll(Pageable pageable) {
         LOG.debug("Request to get all Courses");
         return courseRepository.findAll(pageable).map(courseMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.COURSE_PAGES, key = "'eager:' + #pageable")
     public Page<CourseDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return courseRepository.findAllWithEagerRelationships(pageable).map(courseMapper::toDto);
+        // The page is read as plain columns, then the relationship ids of the whole page with one query per join table
+        Page<CourseRepository.Columns> page = courseRepository.findAllProjectedBy(pageable);
+        List<Long> ids = page.map(CourseRepository.Columns::getId).getContent();
+        Map<Long, Set<Long>> lessonIds = courseRepository.findLessonIdsByCourseIdIn(ids);
+        Map<Long, Set<Long>> programIds = courseRepository.findProgramIdsByCourseIdIn(ids);
+        return page.map(columns ->
+            courseMapper.toDto(
+                columns,
+                lessonIds.getOrDefault(columns.getId(), Set.of()),
+                programIds.getOrDefault(columns.getId(), Set.of())
+            )
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CourseDTO> findAllAfter(Long after, int size) {
+        LOG.debug("Request to get the Courses after : {}", after);
+        // One more row than asked tells whether a next slice exists, without a count query
+        List<CourseRepository.Columns> rows = courseRepository.findAllProjectedByIdGreaterThanOrderByIdAsc(after, Limit.of(size + 1));
+        boolean hasNext = rows.size() > size;
+        List<CourseRepository.Columns> slice = hasNext ? rows.subList(0, size) : rows;
+        List<Long> ids = slice.stream().map(CourseRepository.Columns::getId).toList();
+        Map<Long, Set<Long>> lessonIds = courseRepository.findLessonIdsByCourseIdIn(ids);
+        Map<Long, Set<Long>> programIds = courseRepository.findProgramIdsByCourseIdIn(ids);
+        List<CourseDTO> courses = slice
+            .stream()
+            .map(columns ->
+                courseMapper.toDto(
+                    columns,
+                    lessonIds.getOrDefault(columns.getId(), Set.of()),
+                    programIds.getOrDefault(columns.getId(), Set.of())
+                )
+            )
+            .toList();
+        return new SliceImpl<>(courses, Pageable.ofSize(size), hasNext);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.COURSE, key = "#id", unless = "#result == null")
     public Optional<CourseDTO> findOne(Long id) {
         LOG.debug("Request to get Course : {}", id);
-        return courseRepository.findOneWithEagerRelationships(id).map(courseMapper::toDto);
+        return singleFlightLoader.load(CatalogEntityType.COURSE, id, () ->
+            courseRepository.findOneWithEagerRelationships(id).map(courseMapper::toDto)
+        );
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.COURSE, key = "#id"),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM_PAGES, allEntries = true)
+        }
+    )
     public void delete(Long id) {
         LOG.debug("Request to delete Course : {}", id);
         courseRepository.deleteById(id);
-        courseSearchRepository.deleteFromIndexById(id);
+        searchIndexingPipeline.delete(CatalogEntityType.COURSE, id);
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.COURSE));
     }
 
     @Override
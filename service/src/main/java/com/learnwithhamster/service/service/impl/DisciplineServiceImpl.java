@@ -3,16 +3,28 @@ package com.learnwithhamster.service.service.impl;
 import com.learnwithhamster.service.domain.Discipline;
 import com.learnwithhamster.service.repository.DisciplineRepository;
 import com.learnwithhamster.service.repository.search.DisciplineSearchRepository;
+import com.learnwithhamster.service.service.CatalogCaches;
+import com.learnwithhamster.service.service.CatalogChangedEvent;
+import com.learnwithhamster.service.service.CatalogEntityType;
 import com.learnwithhamster.service.service.DisciplineService;
+import com.learnwithhamster.service.service.SearchIndexingPipeline;
+import com.learnwithhamster.service.service.SingleFlightLoader;
 import com.learnwithhamster.service.service.dto.DisciplineDTO;
 import com.learnwithhamster.service.service.mapper.DisciplineMapper;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional
+@CacheConfig(cacheManager = CatalogCaches.CACHE_MANAGER)
 public class DisciplineServiceImpl implements DisciplineService {
 
     private static final Logger LOG = LoggerFactory.getLogger(DisciplineServiceImpl.class);
@@ -33,35 +46,72 @@ public class DisciplineServiceImpl implements DisciplineService {
 
     private final DisciplineSearchRepository disciplineSearchRepository;
 
+    private final SearchIndexingPipeline searchIndexingPipeline;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final SingleFlightLoader singleFlightLoader;
+
     public DisciplineServiceImpl(
         DisciplineRepository disciplineRepository,
         DisciplineMapper disciplineMapper,
-        DisciplineSearchRepository disciplineSearchRepository
+        DisciplineSearchRepository disciplineSearchRepository,
+        SearchIndexingPipeline searchIndexingPipeline,
+        ApplicationEventPublisher applicationEventPublisher,
+        SingleFlightLoader singleFlightLoader
     ) {
         this.disciplineRepository = disciplineRepository;
         this.disciplineMapper = disciplineMapper;
         this.disciplineSearchRepository = disciplineSearchRepository;
+        this.searchIndexingPipeline = searchIndexingPipeline;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.singleFlightLoader = singleFlightLoader;
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.DISCIPLINE_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM_PAGES, allEntries = true)
+        }
+    )
     public DisciplineDTO save(DisciplineDTO disciplineDTO) {
         LOG.debug("Request to save Discipline : {}", disciplineDTO);
         Discipline discipline = disciplineMapper.toEntity(disciplineDTO);
         discipline = disciplineRepository.save(discipline);
-        disciplineSearchRepository.index(discipline);
+        searchIndexingPipeline.index(CatalogEntityType.DISCIPLINE, discipline.getId());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.DISCIPLINE));
         return disciplineMapper.toDto(discipline);
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.DISCIPLINE, key = "#disciplineDTO.id"),
+            @CacheEvict(cacheNames = CatalogCaches.DISCIPLINE_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM_PAGES, allEntries = true)
+        }
+    )
     public DisciplineDTO update(DisciplineDTO disciplineDTO) {
         LOG.debug("Request to update Discipline : {}", disciplineDTO);
         Discipline discipline = disciplineMapper.toEntity(disciplineDTO);
         discipline = disciplineRepository.save(discipline);
-        disciplineSearchRepository.index(discipline);
+        searchIndexingPipeline.index(CatalogEntityType.DISCIPLINE, discipline.getId());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.DISCIPLINE));
         return disciplineMapper.toDto(discipline);
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.DISCIPLINE, key = "#disciplineDTO.id"),
+            @CacheEvict(cacheNames = CatalogCaches.DISCIPLINE_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM_PAGES, allEntries = true)
+        }
+    )
     public Optional<DisciplineDTO> partialUpdate(DisciplineDTO disciplineDTO) {
         LOG.debug("Request to partially update Discipline : {}", disciplineDTO);
 
@@ -74,7 +124,8 @@ public class DisciplineServiceImpl implements DisciplineService {
             })
             .map(disciplineRepository::save)
             .map(savedDiscipline -> {
-                disciplineSearchRepository.index(savedDiscipline);
+                searchIndexingPipeline.index(CatalogEntityType.DISCIPLINE, savedDiscipline.getId());
+                applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.DISCIPLINE));
                 return savedDiscipline;
             })
             .map(disciplineMapper::toDto);
@@ -82,27 +133,46 @@ public class DisciplineServiceImpl implements DisciplineService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.DISCIPLINE_PAGES, key = "'all'")
     public List<DisciplineDTO> findAll() {
         LOG.debug("Request to get all Disciplines");
         return disciplineRepository.findAll().stream().map(disciplineMapper::toDto).collect(Collectors.toCollection(LinkedList::new));
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.DISCIPLINE_PAGES, key = "'eager:' + #pageable")
     public Page<DisciplineDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return disciplineRepository.findAllWithEagerRelationships(pageable).map(disciplineMapper::toDto);
+        // The page is read as plain columns, then the relationship ids of the whole page with one query per join table
+        Page<DisciplineRepository.Columns> page = disciplineRepository.findAllProjectedBy(pageable);
+        List<Long> ids = page.map(DisciplineRepository.Columns::getId).getContent();
+        Map<Long, Set<Long>> programIds = disciplineRepository.findProgramIdsByDisciplineIdIn(ids);
+        return page.map(columns -> disciplineMapper.toDto(columns, programIds.getOrDefault(columns.getId(), Set.of())));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.DISCIPLINE, key = "#id", unless = "#result == null")
     public Optional<DisciplineDTO> findOne(Long id) {
         LOG.debug("Request to get Discipline : {}", id);
-        return disciplineRepository.findOneWithEagerRelationships(id).map(disciplineMapper::toDto);
+        return singleFlightLoader.load(CatalogEntityType.DISCIPLINE, id, () ->
+            disciplineRepository.findOneWithEagerRelationships(id).map(disciplineMapper::toDto)
+        );
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.DISCIPLINE, key = "#id"),
+            @CacheEvict(cacheNames = CatalogCaches.DISCIPLINE_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM_PAGES, allEntries = true)
+        }
+    )
     public void delete(Long id) {
         LOG.debug("Request to delete Discipline : {}", id);
         disciplineRepository.deleteById(id);
-        disciplineSearchRepository.deleteFromIndexById(id);
+        searchIndexingPipeline.delete(CatalogEntityType.DISCIPLINE, id);
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.DISCIPLINE));
     }
 
     @Override
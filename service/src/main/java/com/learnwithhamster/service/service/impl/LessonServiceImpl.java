@@ -3,14 +3,27 @@ package com.learnwithhamster.service.service.impl;
 import com.learnwithhamster.service.domain.Lesson;
 import com.learnwithhamster.service.repository.LessonRepository;
 import com.learnwithhamster.service.repository.search.LessonSearchRepository;
+import com.learnwithhamster.service.service.CatalogCaches;
+import com.learnwithhamster.service.service.CatalogChangedEvent;
+import com.learnwithhamster.service.service.CatalogEntityType;
 import com.learnwithhamster.service.service.LessonService;
+import com.learnwithhamster.service.service.SearchIndexingPipeline;
+import com.learnwithhamster.service.service.SingleFlightLoader;
 import com.learnwithhamster.service.service.dto.LessonDTO;
 import com.learnwithhamster.service.service.mapper.LessonMapper;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional
+@CacheConfig(cacheManager = CatalogCaches.CACHE_MANAGER)
 public class LessonServiceImpl implements LessonService {
 
     private static final Logger LOG = LoggerFactory.getLogger(LessonServiceImpl.class);
@@ -29,31 +43,66 @@ public class LessonServiceImpl implements LessonService {
 
     private final LessonSearchRepository lessonSearchRepository;
 
-    public LessonServiceImpl(LessonRepository lessonRepository, LessonMapper lessonMapper, LessonSearchRepository lessonSearchRepository) {
+    private final SearchIndexingPipeline searchIndexingPipeline;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final SingleFlightLoader singleFlightLoader;
+
+    public LessonServiceImpl(
+        LessonRepository lessonRepository,
+        LessonMapper lessonMapper,
+        LessonSearchRepository lessonSearchRepository,
+        SearchIndexingPipeline searchIndexingPipeline,
+        ApplicationEventPublisher applicationEventPublisher,
+        SingleFlightLoader singleFlightLoader
+    ) {
         this.lessonRepository = lessonRepository;
         this.lessonMapper = lessonMapper;
         this.lessonSearchRepository = lessonSearchRepository;
+        this.searchIndexingPipeline = searchIndexingPipeline;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.singleFlightLoader = singleFlightLoader;
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCaches.LESSON_PAGES, allEntries = true)
     public LessonDTO save(LessonDTO lessonDTO) {
         LOG.debug("Request to save Lesson : {}", lessonDTO);
         Lesson lesson = lessonMapper.toEntity(lessonDTO);
         lesson = lessonRepository.save(lesson);
-        lessonSearchRepository.index(lesson);
+        searchIndexingPipeline.index(CatalogEntityType.LESSON, lesson.getId());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.LESSON));
         return lessonMapper.toDto(lesson);
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.LESSON, key = "#lessonDTO.id"),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true)
+        }
+    )
     public LessonDTO update(LessonDTO lessonDTO) {
         LOG.debug("Request to update Lesson : {}", lessonDTO);
         Lesson lesson = lessonMapper.toEntity(lessonDTO);
         lesson = lessonRepository.save(lesson);
-        lessonSearchRepository.index(lesson);
+        searchIndexingPipeline.index(CatalogEntityType.LESSON, lesson.getId());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.LESSON));
         return lessonMapper.toDto(lesson);
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.LESSON, key = "#lessonDTO.id"),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true)
+        }
+    )
     public Optional<LessonDTO> partialUpdate(LessonDTO lessonDTO) {
         LOG.debug("Request to partially update Lesson : {}", lessonDTO);
 
@@ -66,7 +115,8 @@ public class LessonServiceImpl implements LessonService {
             })
             .map(lessonRepository::save)
             .map(savedLesson -> {
-                lessonSearchRepository.index(savedLesson);
+                searchIndexingPipeline.index(CatalogEntityType.LESSON, savedLesson.getId());
+                applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.LESSON));
                 return savedLesson;
             })
             .map(lessonMapper::toDto);
@@ -74,6 +124,7 @@ public class LessonServiceImpl implements LessonService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.LESSON_PAGES, key = "'all:' + #pageable")
     public Page<LessonDTO> findAll(Pageable pageable) {
         LOG.debug("Request to get all Lessons");
         return lessonRepository.findAll(pageable).map(lessonMapper::toDto);
@@ -81,16 +132,39 @@ public class LessonServiceImpl implements LessonService {
 
     @Override
     @Transactional(readOnly = true)
+    public Slice<LessonDTO> findAllAfter(Long after, int size) {
+        LOG.debug("Request to get the Lessons after : {}", after);
+        // One more id than asked tells whether a next slice exists, without a count query
+        List<Long> ids = lessonRepository.findIdsAfter(after, Pageable.ofSize(size + 1));
+        boolean hasNext = ids.size() > size;
+        List<LessonDTO> lessons = ids.isEmpty()
+            ? List.of()
+            : lessonRepository.findAllWithCoursesByIdIn(hasNext ? ids.subList(0, size) : ids).stream().map(lessonMapper::toDto).toList();
+        return new SliceImpl<>(lessons, Pageable.ofSize(size), hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.LESSON, key = "#id", unless = "#result == null")
     public Optional<LessonDTO> findOne(Long id) {
         LOG.debug("Request to get Lesson : {}", id);
-        return lessonRepository.findById(id).map(lessonMapper::toDto);
+        return singleFlightLoader.load(CatalogEntityType.LESSON, id, () -> lessonRepository.findById(id).map(lessonMapper::toDto));
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.LESSON, key = "#id"),
+            @CacheEvict(cacheNames = CatalogCaches.LESSON_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true)
+        }
+    )
     public void delete(Long id) {
         LOG.debug("Request to delete Lesson : {}", id);
         lessonRepository.deleteById(id);
-        lessonSearchRepository.deleteFromIndexById(id);
+        searchIndexingPipeline.delete(CatalogEntityType.LESSON, id);
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.LESSON));
     }
 
     @Override
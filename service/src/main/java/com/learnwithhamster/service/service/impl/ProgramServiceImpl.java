@@ -3,14 +3,30 @@ package com.learnwithhamster.service.service.impl;
 import com.learnwithhamster.service.domain.Program;
 import com.learnwithhamster.service.repository.ProgramRepository;
 import com.learnwithhamster.service.repository.search.ProgramSearchRepository;
+import com.learnwithhamster.service.service.CatalogCaches;
+import com.learnwithhamster.service.service.CatalogChangedEvent;
+import com.learnwithhamster.service.service.CatalogEntityType;
 import com.learnwithhamster.service.service.ProgramService;
+import com.learnwithhamster.service.service.SearchIndexingPipeline;
+import com.learnwithhamster.service.service.SingleFlightLoader;
 import com.learnwithhamster.service.service.dto.ProgramDTO;
 import com.learnwithhamster.service.service.mapper.ProgramMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional
+@CacheConfig(cacheManager = CatalogCaches.CACHE_MANAGER)
 public class ProgramServiceImpl implements ProgramService {
 
     private static final Logger LOG = LoggerFactory.getLogger(ProgramServiceImpl.class);
@@ -29,35 +46,72 @@ public class ProgramServiceImpl implements ProgramService {
 
     private final ProgramSearchRepository programSearchRepository;
 
+    private final SearchIndexingPipeline searchIndexingPipeline;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final SingleFlightLoader singleFlightLoader;
+
     public ProgramServiceImpl(
         ProgramRepository programRepository,
         ProgramMapper programMapper,
-        ProgramSearchRepository programSearchRepository
+        ProgramSearchRepository programSearchRepository,
+        SearchIndexingPipeline searchIndexingPipeline,
+        ApplicationEventPublisher applicationEventPublisher,
+        SingleFlightLoader singleFlightLoader
     ) {
         this.programRepository = programRepository;
         this.programMapper = programMapper;
         this.programSearchRepository = programSearchRepository;
+        this.searchIndexingPipeline = searchIndexingPipeline;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.singleFlightLoader = singleFlightLoader;
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true)
+        }
+    )
     public ProgramDTO save(ProgramDTO programDTO) {
         LOG.debug("Request to save Program : {}", programDTO);
         Program program = programMapper.toEntity(programDTO);
         program = programRepository.save(program);
-        programSearchRepository.index(program);
+        searchIndexingPipeline.index(CatalogEntityType.PROGRAM, program.getId());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.PROGRAM));
         return programMapper.toDto(program);
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM, key = "#programDTO.id"),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true)
+        }
+    )
     public ProgramDTO update(ProgramDTO programDTO) {
         LOG.debug("Request to update Program : {}", programDTO);
         Program program = programMapper.toEntity(programDTO);
         program = programRepository.save(program);
-        programSearchRepository.index(program);
+        searchIndexingPipeline.index(CatalogEntityType.PROGRAM, program.getId());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.PROGRAM));
         return programMapper.toDto(program);
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM, key = "#programDTO.id"),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true)
+        }
+    )
     public Optional<ProgramDTO> partialUpdate(ProgramDTO programDTO) {
         LOG.debug("Request to partially update Program : {}", programDTO);
 
@@ -70,7 +124,8 @@ public class ProgramServiceImpl implements ProgramService {
             })
             .map(programRepository::save)
             .map(savedProgram -> {
-                programSearchRepository.index(savedProgram);
+                searchIndexingPipeline.index(CatalogEntityType.PROGRAM, savedProgram.getId());
+                applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.PROGRAM));
                 return savedProgram;
             })
             .map(programMapper::toDto);
@@ -78,27 +133,79 @@ public class ProgramServiceImpl implements ProgramService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.PROGRAM_PAGES, key = "'all:' + #pageable")
     public Page<ProgramDTO> findAll(Pageable pageable) {
         LOG.debug("Request to get all Programs");
         return programRepository.findAll(pageable).map(programMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.PROGRAM_PAGES, key = "'eager:' + #pageable")
     public Page<ProgramDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return programRepository.findAllWithEagerRelationships(pageable).map(programMapper::toDto);
+        // The page is read as plain columns, then the relationship ids of the whole page with one query per join table
+        Page<ProgramRepository.Columns> page = programRepository.findAllProjectedBy(pageable);
+        List<Long> ids = page.map(ProgramRepository.Columns::getId).getContent();
+        Map<Long, Set<Long>> courseIds = programRepository.findCourseIdsByProgramIdIn(ids);
+        Map<Long, Set<Long>> disciplineIds = programRepository.findDisciplineIdsByProgramIdIn(ids);
+        return page.map(columns ->
+            programMapper.toDto(
+                columns,
+                courseIds.getOrDefault(columns.getId(), Set.of()),
+                disciplineIds.getOrDefault(columns.getId(), Set.of())
+            )
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ProgramDTO> findAllAfter(Long after, int size) {
+        LOG.debug("Request to get the Programs after : {}", after);
+        // One more row than asked tells whether a next slice exists, without a count query
+        List<ProgramRepository.Columns> rows = programRepository.findAllProjectedByIdGreaterThanOrderByIdAsc(after, Limit.of(size + 1));
+        boolean hasNext = rows.size() > size;
+        List<ProgramRepository.Columns> slice = hasNext ? rows.subList(0, size) : rows;
+        List<Long> ids = slice.stream().map(ProgramRepository.Columns::getId).toList();
+        Map<Long, Set<Long>> courseIds = programRepository.findCourseIdsByProgramIdIn(ids);
+        Map<Long, Set<Long>> disciplineIds = programRepository.findDisciplineIdsByProgramIdIn(ids);
+        List<ProgramDTO> programs = slice
+            .stream()
+            .map(columns ->
+                programMapper.toDto(
+                    columns,
+                    courseIds.getOrDefault(columns.getId(), Set.of()),
+                    disciplineIds.getOrDefault(columns.getId(), Set.of())
+                )
+            )
+            .toList();
+        return new SliceImpl<>(programs, Pageable.ofSize(size), hasNext);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.PROGRAM, key = "#id", unless = "#result == null")
     public Optional<ProgramDTO> findOne(Long id) {
         LOG.debug("Request to get Program : {}", id);
-        return programRepository.findOneWithEagerRelationships(id).map(programMapper::toDto);
+        return singleFlightLoader.load(CatalogEntityType.PROGRAM, id, () ->
+            programRepository.findOneWithEagerRelationships(id).map(programMapper::toDto)
+        );
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM, key = "#id"),
+            @CacheEvict(cacheNames = CatalogCaches.PROGRAM_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.COURSE_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.DISCIPLINE, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCaches.DISCIPLINE_PAGES, allEntries = true)
+        }
+    )
     public void delete(Long id) {
         LOG.debug("Request to delete Program : {}", id);
         programRepository.deleteById(id);
-        programSearchRepository.deleteFromIndexById(id);
+        searchIndexingPipeline.delete(CatalogEntityType.PROGRAM, id);
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.PROGRAM));
     }
 
     @Override
@@ -1,11 +1,19 @@
 package com.learnwithhamster.service.service.impl;
 
 import com.learnwithhamster.service.domain.Resource;
+import com.learnwithhamster.service.domain.enumeration.ResourceType;
 import com.learnwithhamster.service.repository.ResourceRepository;
 import com.learnwithhamster.service.repository.search.ResourceSearchRepository;
+import com.learnwithhamster.service.service.CatalogCaches;
+import com.learnwithhamster.service.service.CatalogChangedEvent;
+import com.learnwithhamster.service.service.CatalogEntityType;
 import com.learnwithhamster.service.service.ResourceService;
+import com.learnwithhamster.service.service.SearchIndexingPipeline;
+import com.learnwithhamster.service.service.SingleFlightLoader;
 import com.learnwithhamster.service.service.dto.ResourceDTO;
 import com.learnwithhamster.service.service.mapper.ResourceMapper;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +21,14 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional
+@CacheConfig(cacheManager = CatalogCaches.CACHE_MANAGER)
 public class ResourceServiceImpl implements ResourceService {
 
     private static final Logger LOG = LoggerFactory.getLogger(ResourceServiceImpl.class);
@@ -31,35 +48,62 @@ public class ResourceServiceImpl implements ResourceService {
 
     private final ResourceSearchRepository resourceSearchRepository;
 
+    private final SearchIndexingPipeline searchIndexingPipeline;
+
+    private final SingleFlightLoader singleFlightLoader;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     public ResourceServiceImpl(
         ResourceRepository resourceRepository,
         ResourceMapper resourceMapper,
-        ResourceSearchRepository resourceSearchRepository
+        ResourceSearchRepository resourceSearchRepository,
+        SearchIndexingPipeline searchIndexingPipeline,
+        SingleFlightLoader singleFlightLoader,
+        ApplicationEventPublisher applicationEventPublisher
     ) {
         this.resourceRepository = resourceRepository;
         this.resourceMapper = resourceMapper;
         this.resourceSearchRepository = resourceSearchRepository;
+        this.searchIndexingPipeline = searchIndexingPipeline;
+        this.singleFlightLoader = singleFlightLoader;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCaches.RESOURCE_LISTS, allEntries = true)
     public ResourceDTO save(ResourceDTO resourceDTO) {
         LOG.debug("Request to save Resource : {}", resourceDTO);
         Resource resource = resourceMapper.toEntity(resourceDTO);
         resource = resourceRepository.save(resource);
-        resourceSearchRepository.index(resource);
+        searchIndexingPipeline.index(CatalogEntityType.RESOURCE, resource.getId());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.RESOURCE));
         return resourceMapper.toDto(resource);
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.RESOURCE, key = "#resourceDTO.id"),
+            @CacheEvict(cacheNames = CatalogCaches.RESOURCE_LISTS, allEntries = true)
+        }
+    )
     public ResourceDTO update(ResourceDTO resourceDTO) {
         LOG.debug("Request to update Resource : {}", resourceDTO);
         Resource resource = resourceMapper.toEntity(resourceDTO);
         resource = resourceRepository.save(resource);
-        resourceSearchRepository.index(resource);
+        searchIndexingPipeline.index(CatalogEntityType.RESOURCE, resource.getId());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.RESOURCE));
         return resourceMapper.toDto(resource);
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.RESOURCE, key = "#resourceDTO.id"),
+            @CacheEvict(cacheNames = CatalogCaches.RESOURCE_LISTS, allEntries = true)
+        }
+    )
     public Optional<ResourceDTO> partialUpdate(ResourceDTO resourceDTO) {
         LOG.debug("Request to partially update Resource : {}", resourceDTO);
 
@@ -72,7 +116,8 @@ public class ResourceServiceImpl implements ResourceService {
             })
             .map(resourceRepository::save)
             .map(savedResource -> {
-                resourceSearchRepository.index(savedResource);
+                searchIndexingPipeline.index(CatalogEntityType.RESOURCE, savedResource.getId());
+                applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.RESOURCE));
                 return savedResource;
             })
             .map(resourceMapper::toDto);
@@ -80,6 +125,7 @@ public class ResourceServiceImpl implements ResourceService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.RESOURCE_LISTS, key = "'all'")
     public List<ResourceDTO> findAll() {
         LOG.debug("Request to get all Resources");
         return resourceRepository.findAll().stream().map(resourceMapper::toDto).collect(Collectors.toCollection(LinkedList::new));
@@ -87,16 +133,90 @@ public class ResourceServiceImpl implements ResourceService {
 
     @Override
     @Transactional(readOnly = true)
+    public Slice<ResourceDTO> findAllAfter(Long after, int size) {
+        LOG.debug("Request to get the Resources after : {}", after);
+        // One more id than asked tells whether a next slice exists, without a count query
+        List<Long> ids = resourceRepository.findIdsAfter(after, Pageable.ofSize(size + 1));
+        boolean hasNext = ids.size() > size;
+        List<ResourceDTO> resources = ids.isEmpty()
+            ? List.of()
+            : resourceRepository
+                .findAllWithToOneRelationshipsByIdIn(hasNext ? ids.subList(0, size) : ids)
+                .stream()
+                .sorted(Comparator.comparing(Resource::getId))
+                .map(resourceMapper::toDto)
+                .toList();
+        return new SliceImpl<>(resources, Pageable.ofSize(size), hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResourceDTO> findAllByLesson(Long lessonId, Collection<ResourceType> resourceTypes) {
+        LOG.debug("Request to get Resources of Lesson : {}, types : {}", lessonId, resourceTypes);
+        return resourceMapper.toDto(
+            isUnfiltered(resourceTypes)
+                ? resourceRepository.findAllByLessonIdOrderByWeightAscIdAsc(lessonId)
+                : resourceRepository.findAllByLessonIdAndResourceTypeInOrderByWeightAscIdAsc(lessonId, resourceTypes)
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResourceDTO> findAllByCourse(Long courseId, Collection<ResourceType> resourceTypes) {
+        LOG.debug("Request to get Resources of Course : {}, types : {}", courseId, resourceTypes);
+        return resourceMapper.toDto(
+            isUnfiltered(resourceTypes)
+                ? resourceRepository.findAllByCourseIdOrderByWeightAscIdAsc(courseId)
+                : resourceRepository.findAllByCourseIdAndResourceTypeInOrderByWeightAscIdAsc(courseId, resourceTypes)
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResourceDTO> findAllByProgram(Long programId, Collection<ResourceType> resourceTypes) {
+        LOG.debug("Request to get Resources of Program : {}, types : {}", programId, resourceTypes);
+        return resourceMapper.toDto(
+            isUnfiltered(resourceTypes)
+                ? resourceRepository.findAllByProgramIdOrderByWeightAscIdAsc(programId)
+                : resourceRepository.findAllByProgramIdAndResourceTypeInOrderByWeightAscIdAsc(programId, resourceTypes)
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResourceDTO> findAllByDiscipline(Long disciplineId, Collection<ResourceType> resourceTypes) {
+        LOG.debug("Request to get Resources of Discipline : {}, types : {}", disciplineId, resourceTypes);
+        return resourceMapper.toDto(
+            isUnfiltered(resourceTypes)
+                ? resourceRepository.findAllByDisciplineIdOrderByWeightAscIdAsc(disciplineId)
+                : resourceRepository.findAllByDisciplineIdAndResourceTypeInOrderByWeightAscIdAsc(disciplineId, resourceTypes)
+        );
+    }
+
+    private static boolean isUnfiltered(Collection<ResourceType> resourceTypes) {
+        return resourceTypes == null || resourceTypes.isEmpty();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.RESOURCE, key = "#id", unless = "#result == null")
     public Optional<ResourceDTO> findOne(Long id) {
         LOG.debug("Request to get Resource : {}", id);
-        return resourceRepository.findById(id).map(resourceMapper::toDto);
+        return singleFlightLoader.load(CatalogEntityType.RESOURCE, id, () -> resourceRepository.findById(id).map(resourceMapper::toDto));
     }
 
     @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = CatalogCaches.RESOURCE, key = "#id"),
+            @CacheEvict(cacheNames = CatalogCaches.RESOURCE_LISTS, allEntries = true)
+        }
+    )
     public void delete(Long id) {
         LOG.debug("Request to delete Resource : {}", id);
         resourceRepository.deleteById(id);
-        resourceSearchRepository.deleteFromIndexById(id);
+        searchIndexingPipeline.delete(CatalogEntityType.RESOURCE, id);
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogEntityType.RESOURCE));
     }
 
     @Override
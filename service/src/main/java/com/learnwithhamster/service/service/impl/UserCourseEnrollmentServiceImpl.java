@@ -1,12 +1,15 @@
 package com.learnwithhamster.service.service.impl;
 
 import com.learnwithhamster.service.domain.UserCourseEnrollment;
+import com.learnwithhamster.service.repository.CourseRepository;
 import com.learnwithhamster.service.repository.UserCourseEnrollmentRepository;
 import com.learnwithhamster.service.security.SecurityUtils;
 import com.learnwithhamster.service.service.UserCourseEnrollmentService;
+import com.learnwithhamster.service.service.dto.MyLearningDTO;
 import com.learnwithhamster.service.service.dto.UserCourseEnrollmentDTO;
 import com.learnwithhamster.service.service.mapper.UserCourseEnrollmentMapper;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,13 +27,16 @@ public class UserCourseEnrollmentServiceImpl implements UserCourseEnrollmentServ
 
     private final UserCourseEnrollmentRepository userCourseEnrollmentRepository;
     private final UserCourseEnrollmentMapper userCourseEnrollmentMapper;
+    private final CourseRepository courseRepository;
 
     public UserCourseEnrollmentServiceImpl(
         UserCourseEnrollmentRepository userCourseEnrollmentRepository,
-        UserCourseEnrollmentMapper userCourseEnrollmentMapper
+        UserCourseEnrollmentMapper userCourseEnrollmentMapper,
+        CourseRepository courseRepository
     ) {
         this.userCourseEnrollmentRepository = userCourseEnrollmentRepository;
         this.userCourseEnrollmentMapper = userCourseEnrollmentMapper;
+        this.courseRepository = courseRepository;
     }
 
     @Override
@@ -53,6 +59,25 @@ public class UserCourseEnrollmentServiceImpl implements UserCourseEnrollmentServ
         return userCourseEnrollmentMapper.toDto(enrollment);
     }
 
+    @Override
+    public List<UserCourseEnrollmentDTO> enrollAll(Collection<Long> courseIds) {
+        String userLogin = SecurityUtils.getCurrentUserLogin()
+            .orElseThrow(() -> new RuntimeException("User not authenticated"));
+        LOG.debug("Request to enroll user {} in courses {}", userLogin, courseIds);
+        if (courseIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> existingCourseIds = courseRepository.findIdsByIdIn(courseIds);
+        if (existingCourseIds.isEmpty()) {
+            return List.of();
+        }
+        userCourseEnrollmentRepository.insertIgnoringExisting(userLogin, existingCourseIds, Instant.now());
+        return userCourseEnrollmentMapper.toDto(
+            userCourseEnrollmentRepository.findByUserLoginAndCourseIdIn(userLogin, existingCourseIds)
+        );
+    }
+
     @Override
     public void unenroll(Long courseId) {
         String userLogin = SecurityUtils.getCurrentUserLogin()
@@ -79,4 +104,29 @@ public class UserCourseEnrollmentServiceImpl implements UserCourseEnrollmentServ
             .orElseThrow(() -> new RuntimeException("User not authenticated"));
         return userCourseEnrollmentRepository.findByUserLoginAndCourseId(userLogin, courseId).isPresent();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MyLearningDTO> getMyLearning() {
+        String userLogin = SecurityUtils.getCurrentUserLogin()
+            .orElseThrow(() -> new RuntimeException("User not authenticated"));
+        LOG.debug("Request to get the learning of user {}", userLogin);
+        return userCourseEnrollmentRepository
+            .findLearningByUserLogin(userLogin)
+            .stream()
+            .map(learning ->
+                new MyLearningDTO(
+                    learning.getCourseId(),
+                    learning.getCourseTitle(),
+                    learning.getCoursePrice(),
+                    learning.getCourseLevel(),
+                    learning.getEnrolledAt(),
+                    learning.getCompletedLessons(),
+                    learning.getTotalLessons(),
+                    learning.getLastActivityAt(),
+                    learning.getCompletedAt()
+                )
+            )
+            .toList();
+    }
 }
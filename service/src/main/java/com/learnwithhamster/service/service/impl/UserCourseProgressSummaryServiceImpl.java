@@ -0,0 +1,173 @@
+package com.learnwithhamster.service.service.impl;
+
+import com.learnwithhamster.service.domain.UserCourseProgressSummary;
+import com.learnwithhamster.service.repository.CourseRepository;
+import com.learnwithhamster.service.repository.UserCourseProgressSummaryRepository;
+import com.learnwithhamster.service.repository.UserLessonProgressRepository;
+import com.learnwithhamster.service.security.SecurityUtils;
+import com.learnwithhamster.service.service.UserCourseProgressSummaryService;
+import com.learnwithhamster.service.service.dto.UserCourseProgressSummaryDTO;
+import com.learnwithhamster.service.service.mapper.UserCourseProgressSummaryMapper;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for maintaining {@link com.learnwithhamster.service.domain.UserCourseProgressSummary}.
+ * <p>
+ * Summaries are updated incrementally under a row lock when a lesson is marked, and recomputed from the progress
+ * rows when marks are written in bulk. Missing summaries are created with {@code INSERT ... ON DUPLICATE KEY UPDATE}
+ * on the {@code ux_user_course_progress_summary} unique key, so that concurrent first marks of a course share one row.
+ */
+@Service
+@Transactional
+public class UserCourseProgressSummaryServiceImpl implements UserCourseProgressSummaryService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UserCourseProgressSummaryServiceImpl.class);
+
+    private final UserCourseProgressSummaryRepository userCourseProgressSummaryRepository;
+
+    private final UserCourseProgressSummaryMapper userCourseProgressSummaryMapper;
+
+    private final UserLessonProgressRepository userLessonProgressRepository;
+
+    private final CourseRepository courseRepository;
+
+    public UserCourseProgressSummaryServiceImpl(
+        UserCourseProgressSummaryRepository userCourseProgressSummaryRepository,
+        UserCourseProgressSummaryMapper userCourseProgressSummaryMapper,
+        UserLessonProgressRepository userLessonProgressRepository,
+        CourseRepository courseRepository
+    ) {
+        this.userCourseProgressSummaryRepository = userCourseProgressSummaryRepository;
+        this.userCourseProgressSummaryMapper = userCourseProgressSummaryMapper;
+        this.userLessonProgressRepository = userLessonProgressRepository;
+        this.courseRepository = courseRepository;
+    }
+
+    @Override
+    public void recordProgress(String userLogin, Long courseId, boolean lessonCompleted) {
+        LOG.debug("Request to record progress for user {} on course {}", userLogin, courseId);
+        Instant now = Instant.now();
+        // Checked without locking: a locking read of a missing row would take a gap lock, and the inserts of two first
+        // marks would then deadlock
+        if (!userCourseProgressSummaryRepository.existsByUserLoginAndCourseId(userLogin, courseId)) {
+            int totalLessons = courseRepository.countLessonsById(courseId);
+            userCourseProgressSummaryRepository.insertIgnoringExisting(userLogin, Map.of(courseId, totalLessons));
+        }
+        UserCourseProgressSummary summary = userCourseProgressSummaryRepository
+            .findOneForUpdate(userLogin, courseId)
+            .orElseThrow(() -> new IllegalStateException("Missing progress summary of " + userLogin + " on course " + courseId));
+        if (lessonCompleted) {
+            summary.setCompletedLessons(summary.getCompletedLessons() + 1);
+        }
+        summary.setLastActivityAt(now);
+        markCompleted(summary, now);
+        userCourseProgressSummaryRepository.save(summary);
+    }
+
+    @Override
+    public void recompute(Map<String, Set<Long>> courseIdsByUserLogin) {
+        LOG.debug("Request to recompute progress summaries of {} users", courseIdsByUserLogin.size());
+        Set<Long> courseIds = new HashSet<>();
+        courseIdsByUserLogin.values().forEach(courseIds::addAll);
+        if (courseIds.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        Set<String> userLogins = courseIdsByUserLogin.keySet();
+        Map<String, Map<Long, Long>> completedLessons = new HashMap<>();
+        List<UserLessonProgressRepository.CompletedLessons> counts = userLessonProgressRepository.countCompletedLessons(
+            userLogins,
+            courseIds
+        );
+        for (UserLessonProgressRepository.CompletedLessons count : counts) {
+            completedLessons
+                .computeIfAbsent(count.getUserLogin(), login -> new HashMap<>())
+                .put(count.getCourseId(), count.getCompletedLessons());
+        }
+        Map<String, Map<Long, UserCourseProgressSummary>> existing = summaries(userLogins, courseIds);
+        Map<String, Map<Long, UserCourseProgressSummary>> summaries = insertMissing(courseIdsByUserLogin, existing)
+            ? summaries(userLogins, courseIds)
+            : existing;
+        courseIdsByUserLogin.forEach((userLogin, userCourseIds) -> {
+            for (Long courseId : userCourseIds) {
+                UserCourseProgressSummary summary = summaries.get(userLogin).get(courseId);
+                long completed = completedLessons.getOrDefault(userLogin, Map.of()).getOrDefault(courseId, 0L);
+                summary.setCompletedLessons((int) completed);
+                summary.setLastActivityAt(now);
+                markCompleted(summary, now);
+                userCourseProgressSummaryRepository.save(summary);
+            }
+        });
+    }
+
+    @Override
+    public void updateTotalLessons(Long courseId) {
+        LOG.debug("Request to update the total lessons of the progress summaries of course {}", courseId);
+        userCourseProgressSummaryRepository.updateTotalLessons(courseId, courseRepository.countLessonsById(courseId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserCourseProgressSummaryDTO> findAllForCurrentUser(Collection<Long> courseIds) {
+        String userLogin = SecurityUtils.getCurrentUserLogin().orElseThrow(() -> new RuntimeException("User not authenticated"));
+        LOG.debug("Request to get progress summaries for user {} on courses {}", userLogin, courseIds);
+        return userCourseProgressSummaryMapper.toDto(
+            userCourseProgressSummaryRepository.findByUserLoginAndCourseIdIn(userLogin, courseIds)
+        );
+    }
+
+    private Map<String, Map<Long, UserCourseProgressSummary>> summaries(Set<String> userLogins, Set<Long> courseIds) {
+        Map<String, Map<Long, UserCourseProgressSummary>> summaries = new HashMap<>();
+        List<UserCourseProgressSummary> existing = userCourseProgressSummaryRepository.findByUserLoginInAndCourseIdIn(
+            userLogins,
+            courseIds
+        );
+        for (UserCourseProgressSummary summary : existing) {
+            summaries.computeIfAbsent(summary.getUserLogin(), login -> new HashMap<>()).put(summary.getCourseId(), summary);
+        }
+        return summaries;
+    }
+
+    /**
+     * Create the summaries missing from {@code existing}.
+     *
+     * @return whether any summary was missing.
+     */
+    private boolean insertMissing(
+        Map<String, Set<Long>> courseIdsByUserLogin,
+        Map<String, Map<Long, UserCourseProgressSummary>> existing
+    ) {
+        Map<Long, Integer> totalLessons = new HashMap<>();
+        boolean inserted = false;
+        for (Map.Entry<String, Set<Long>> entry : courseIdsByUserLogin.entrySet()) {
+            Map<Long, Integer> missing = new HashMap<>();
+            for (Long courseId : entry.getValue()) {
+                if (!existing.getOrDefault(entry.getKey(), Map.of()).containsKey(courseId)) {
+                    missing.put(courseId, totalLessons.computeIfAbsent(courseId, courseRepository::countLessonsById));
+                }
+            }
+            if (!missing.isEmpty()) {
+                userCourseProgressSummaryRepository.insertIgnoringExisting(entry.getKey(), missing);
+                inserted = true;
+            }
+        }
+        return inserted;
+    }
+
+    private static void markCompleted(UserCourseProgressSummary summary, Instant now) {
+        boolean allCompleted = summary.getTotalLessons() > 0 && summary.getCompletedLessons() >= summary.getTotalLessons();
+        if (allCompleted && summary.getCompletedAt() == null) {
+            summary.setCompletedAt(now);
+        }
+    }
+}
@@ -3,11 +3,17 @@ package com.learnwithhamster.service.service.impl;
 import com.learnwithhamster.service.domain.UserLessonProgress;
 import com.learnwithhamster.service.repository.UserLessonProgressRepository;
 import com.learnwithhamster.service.security.SecurityUtils;
+import com.learnwithhamster.service.service.LessonProgressWriteBehind;
+import com.learnwithhamster.service.service.UserCourseProgressSummaryService;
 import com.learnwithhamster.service.service.UserLessonProgressService;
 import com.learnwithhamster.service.service.dto.UserLessonProgressDTO;
 import com.learnwithhamster.service.service.mapper.UserLessonProgressMapper;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -24,13 +30,19 @@ public class UserLessonProgressServiceImpl implements UserLessonProgressService
 
     private final UserLessonProgressRepository userLessonProgressRepository;
     private final UserLessonProgressMapper userLessonProgressMapper;
+    private final LessonProgressWriteBehind lessonProgressWriteBehind;
+    private final UserCourseProgressSummaryService userCourseProgressSummaryService;
 
     public UserLessonProgressServiceImpl(
         UserLessonProgressRepository userLessonProgressRepository,
-        UserLessonProgressMapper userLessonProgressMapper
+        UserLessonProgressMapper userLessonProgressMapper,
+        LessonProgressWriteBehind lessonProgressWriteBehind,
+        UserCourseProgressSummaryService userCourseProgressSummaryService
     ) {
         this.userLessonProgressRepository = userLessonProgressRepository;
         this.userLessonProgressMapper = userLessonProgressMapper;
+        this.lessonProgressWriteBehind = lessonProgressWriteBehind;
+        this.userCourseProgressSummaryService = userCourseProgressSummaryService;
     }
 
     @Override
@@ -39,6 +51,14 @@ public class UserLessonProgressServiceImpl implements UserLessonProgressService
             .orElseThrow(() -> new RuntimeException("User not authenticated"));
         LOG.debug("Request to mark progress for user {} on lesson {}", userLogin, lessonId);
 
+        if (lessonProgressWriteBehind.isEnabled()) {
+            Optional<LessonProgressWriteBehind.Mark> buffered = lessonProgressWriteBehind.add(userLogin, lessonId, courseId);
+            if (buffered.isPresent()) {
+                return toDto(buffered.get());
+            }
+            // The buffer is full, the mark is written right away
+        }
+
         UserLessonProgress progress = userLessonProgressRepository
             .findByUserLoginAndLessonId(userLogin, lessonId)
             .orElseGet(() -> {
@@ -51,13 +71,20 @@ public class UserLessonProgressServiceImpl implements UserLessonProgressService
                 return newProgress;
             });
 
+        // A lesson completed outside of any course is new to the summary of the course it is now attached to
+        boolean attachedToCourse = progress.getCourseId() == null && courseId != null;
+        boolean lessonCompleted = progress.getId() == null || !Boolean.TRUE.equals(progress.getCompleted()) || attachedToCourse;
+
         // Update course context if it was null before
-        if (progress.getCourseId() == null && courseId != null) {
+        if (attachedToCourse) {
             progress.setCourseId(courseId);
         }
         progress.setCompleted(true);
 
         progress = userLessonProgressRepository.save(progress);
+        if (progress.getCourseId() != null) {
+            userCourseProgressSummaryService.recordProgress(userLogin, progress.getCourseId(), lessonCompleted);
+        }
         return userLessonProgressMapper.toDto(progress);
     }
 
@@ -68,8 +95,30 @@ public class UserLessonProgressServiceImpl implements UserLessonProgressService
             .orElseThrow(() -> new RuntimeException("User not authenticated"));
         LOG.debug("Request to get course progress for user {} on course {}", userLogin, courseId);
 
-        return userLessonProgressMapper.toDto(
+        List<UserLessonProgressDTO> progress = userLessonProgressMapper.toDto(
             userLessonProgressRepository.findByUserLoginAndCourseId(userLogin, courseId)
         );
+        // Marks still in the write-behind buffer are not in the database yet
+        Map<Long, UserLessonProgressDTO> byLessonId = new LinkedHashMap<>();
+        progress.forEach(dto -> byLessonId.put(dto.getLessonId(), dto));
+        for (LessonProgressWriteBehind.Mark mark : lessonProgressWriteBehind.getPending(userLogin)) {
+            if (courseId.equals(mark.courseId())) {
+                byLessonId.merge(mark.lessonId(), toDto(mark), (dto, pending) -> {
+                    dto.setCompleted(true);
+                    return dto;
+                });
+            }
+        }
+        return new ArrayList<>(byLessonId.values());
+    }
+
+    private static UserLessonProgressDTO toDto(LessonProgressWriteBehind.Mark mark) {
+        UserLessonProgressDTO dto = new UserLessonProgressDTO();
+        dto.setUserLogin(mark.userLogin());
+        dto.setLessonId(mark.lessonId());
+        dto.setCourseId(mark.courseId());
+        dto.setStartedAt(mark.startedAt());
+        dto.setCompleted(true);
+        return dto;
     }
 }
@@ -0,0 +1,24 @@
+package com.learnwithhamster.service.service.mapper;
+
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.Lesson;
+import com.learnwithhamster.service.service.dto.CourseDetailDTO;
+import com.learnwithhamster.service.service.dto.LessonDetailDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Course} and its read model {@link CourseDetailDTO}.
+ * Collections and user state are assembled by the service, so they are never touched here.
+ */
+@Mapper(componentModel = "spring")
+public interface CourseDetailMapper {
+    @Mapping(target = "lessons", ignore = true)
+    @Mapping(target = "resources", ignore = true)
+    @Mapping(target = "enrolled", ignore = true)
+    @Mapping(target = "enrolledAt", ignore = true)
+    @Mapping(target = "completedLessonIds", ignore = true)
+    CourseDetailDTO toDetailDto(Course course);
+
+    @Mapping(target = "resources", ignore = true)
+    LessonDetailDTO toLessonDetailDto(Lesson lesson);
+}
@@ -3,6 +3,7 @@ package com.learnwithhamster.service.service.mapper;
 import com.learnwithhamster.service.domain.Course;
 import com.learnwithhamster.service.domain.Lesson;
 import com.learnwithhamster.service.domain.Program;
+import com.learnwithhamster.service.repository.CourseRepository;
 import com.learnwithhamster.service.service.dto.CourseDTO;
 import com.learnwithhamster.service.service.dto.LessonDTO;
 import com.learnwithhamster.service.service.dto.ProgramDTO;
@@ -19,6 +20,25 @@ public interface CourseMapper extends EntityMapper<CourseDTO, Course> {
     @Mapping(target = "programs", source = "programs", qualifiedByName = "programIdSet")
     CourseDTO toDto(Course s);
 
+    @Mapping(target = "lessons", ignore = true)
+    @Mapping(target = "programs", ignore = true)
+    CourseDTO toDto(CourseRepository.Columns columns);
+
+    /**
+     * Map the columns of a course read along with the ids of its relationships.
+     *
+     * @param columns the columns of the course.
+     * @param lessonIds the ids of its lessons.
+     * @param programIds the ids of its programs.
+     * @return the DTO.
+     */
+    default CourseDTO toDto(CourseRepository.Columns columns, Set<Long> lessonIds, Set<Long> programIds) {
+        CourseDTO dto = toDto(columns);
+        dto.setLessons(lessonIds.stream().map(this::toDtoLessonId).collect(Collectors.toSet()));
+        dto.setPrograms(programIds.stream().map(this::toDtoProgramId).collect(Collectors.toSet()));
+        return dto;
+    }
+
     @Mapping(target = "removeLessons", ignore = true)
     @Mapping(target = "programs", ignore = true)
     @Mapping(target = "removePrograms", ignore = true)
@@ -43,4 +63,18 @@ public interface CourseMapper extends EntityMapper<CourseDTO, Course> {
     default Set<ProgramDTO> toDtoProgramIdSet(Set<Program> program) {
         return program.stream().map(this::toDtoProgramId).collect(Collectors.toSet());
     }
+
+    @Named("lessonIdToDto")
+    default LessonDTO toDtoLessonId(Long id) {
+        LessonDTO lesson = new LessonDTO();
+        lesson.setId(id);
+        return lesson;
+    }
+
+    @Named("programIdToDto")
+    default ProgramDTO toDtoProgramId(Long id) {
+        ProgramDTO program = new ProgramDTO();
+        program.setId(id);
+        return program;
+    }
 }
@@ -2,6 +2,7 @@ package com.learnwithhamster.service.service.mapper;
 
 import com.learnwithhamster.service.domain.Discipline;
 import com.learnwithhamster.service.domain.Program;
+import com.learnwithhamster.service.repository.DisciplineRepository;
 import com.learnwithhamster.service.service.dto.DisciplineDTO;
 import com.learnwithhamster.service.service.dto.ProgramDTO;
 import java.util.Set;
@@ -16,6 +17,22 @@ public interface DisciplineMapper extends EntityMapper<DisciplineDTO, Discipline
     @Mapping(target = "programs", source = "programs", qualifiedByName = "programIdSet")
     DisciplineDTO toDto(Discipline s);
 
+    @Mapping(target = "programs", ignore = true)
+    DisciplineDTO toDto(DisciplineRepository.Columns columns);
+
+    /**
+     * Map the columns of a discipline read along with the ids of its relationships.
+     *
+     * @param columns the columns of the discipline.
+     * @param programIds the ids of its programs.
+     * @return the DTO.
+     */
+    default DisciplineDTO toDto(DisciplineRepository.Columns columns, Set<Long> programIds) {
+        DisciplineDTO dto = toDto(columns);
+        dto.setPrograms(programIds.stream().map(this::toDtoProgramId).collect(Collectors.toSet()));
+        return dto;
+    }
+
     @Mapping(target = "removePrograms", ignore = true)
     Discipline toEntity(DisciplineDTO disciplineDTO);
 
@@ -28,4 +45,11 @@ public interface DisciplineMapper extends EntityMapper<DisciplineDTO, Discipline
     default Set<ProgramDTO> toDtoProgramIdSet(Set<Program> program) {
         return program.stream().map(this::toDtoProgramId).collect(Collectors.toSet());
     }
+
+    @Named("programIdToDto")
+    default ProgramDTO toDtoProgramId(Long id) {
+        ProgramDTO program = new ProgramDTO();
+        program.setId(id);
+        return program;
+    }
 }
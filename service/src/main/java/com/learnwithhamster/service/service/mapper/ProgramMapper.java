@@ -3,6 +3,7 @@ package com.learnwithhamster.service.service.mapper;
 import com.learnwithhamster.service.domain.Course;
 import com.learnwithhamster.service.domain.Discipline;
 import com.learnwithhamster.service.domain.Program;
+import com.learnwithhamster.service.repository.ProgramRepository;
 import com.learnwithhamster.service.service.dto.CourseDTO;
 import com.learnwithhamster.service.service.dto.DisciplineDTO;
 import com.learnwithhamster.service.service.dto.ProgramDTO;
@@ -19,6 +20,25 @@ public interface ProgramMapper extends EntityMapper<ProgramDTO, Program> {
     @Mapping(target = "disciplines", source = "disciplines", qualifiedByName = "disciplineIdSet")
     ProgramDTO toDto(Program s);
 
+    @Mapping(target = "courses", ignore = true)
+    @Mapping(target = "disciplines", ignore = true)
+    ProgramDTO toDto(ProgramRepository.Columns columns);
+
+    /**
+     * Map the columns of a program read along with the ids of its relationships.
+     *
+     * @param columns the columns of the program.
+     * @param courseIds the ids of its courses.
+     * @param disciplineIds the ids of its disciplines.
+     * @return the DTO.
+     */
+    default ProgramDTO toDto(ProgramRepository.Columns columns, Set<Long> courseIds, Set<Long> disciplineIds) {
+        ProgramDTO dto = toDto(columns);
+        dto.setCourses(courseIds.stream().map(this::toDtoCourseId).collect(Collectors.toSet()));
+        dto.setDisciplines(disciplineIds.stream().map(this::toDtoDisciplineId).collect(Collectors.toSet()));
+        return dto;
+    }
+
     @Mapping(target = "removeCourses", ignore = true)
     @Mapping(target = "disciplines", ignore = true)
     @Mapping(target = "removeDisciplines", ignore = true)
@@ -43,4 +63,18 @@ public interface ProgramMapper extends EntityMapper<ProgramDTO, Program> {
     default Set<DisciplineDTO> toDtoDisciplineIdSet(Set<Discipline> discipline) {
         return discipline.stream().map(this::toDtoDisciplineId).collect(Collectors.toSet());
     }
+
+    @Named("courseIdToDto")
+    default CourseDTO toDtoCourseId(Long id) {
+        CourseDTO course = new CourseDTO();
+        course.setId(id);
+        return course;
+    }
+
+    @Named("disciplineIdToDto")
+    default DisciplineDTO toDtoDisciplineId(Long id) {
+        DisciplineDTO discipline = new DisciplineDTO();
+        discipline.setId(id);
+        return discipline;
+    }
 }
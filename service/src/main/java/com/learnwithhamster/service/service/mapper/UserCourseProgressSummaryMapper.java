@@ -0,0 +1,11 @@
+package com.learnwithhamster.service.service.mapper;
+
+import com.learnwithhamster.service.domain.UserCourseProgressSummary;
+import com.learnwithhamster.service.service.dto.UserCourseProgressSummaryDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link UserCourseProgressSummary} and its DTO {@link UserCourseProgressSummaryDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface UserCourseProgressSummaryMapper extends EntityMapper<UserCourseProgressSummaryDTO, UserCourseProgressSummary> {}
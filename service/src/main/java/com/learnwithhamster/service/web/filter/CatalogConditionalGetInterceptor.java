@@ -0,0 +1,45 @@
+package com.learnwithhamster.service.web.filter;
+
+import com.learnwithhamster.service.service.CatalogEntityType;
+import com.learnwithhamster.service.service.CatalogVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers the conditional reads of the resources of a {@link CatalogEntityType} from its {@link CatalogVersions}.
+ * <p>
+ * A request whose {@code If-None-Match} or {@code If-Modified-Since} matches the current version gets a
+ * {@code 304 (Not Modified)} without its handler running, so neither the services, the mapping nor the serialization
+ * are paid. Other reads go on with the ETag, Last-Modified and Cache-Control headers already set. The version is
+ * read before the handler, so a response never carries a version newer than its body.
+ */
+public class CatalogConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final CatalogEntityType type;
+
+    private final CatalogVersions catalogVersions;
+
+    private final String cacheControl;
+
+    public CatalogConditionalGetInterceptor(CatalogEntityType type, CatalogVersions catalogVersions, CacheControl cacheControl) {
+        this.type = type;
+        this.catalogVersions = catalogVersions;
+        this.cacheControl = cacheControl.getHeaderValue();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        CatalogVersions.Version version = catalogVersions.get(type);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        // Sets the ETag and Last-Modified headers, and the 304 status if the client copy is current
+        return !new ServletWebRequest(request, response).checkNotModified(version.eTag(), version.lastModified().toEpochMilli());
+    }
+}
@@ -0,0 +1,120 @@
+package com.learnwithhamster.service.web.rest;
+
+import com.learnwithhamster.service.service.CatalogEntityType;
+import com.learnwithhamster.service.service.CatalogExportService;
+import com.learnwithhamster.service.web.rest.util.ContentEncodingUtil;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller streaming the catalog tables as newline delimited JSON, see {@link CatalogExportService}.
+ * <p>
+ * Each export is written while it is read, so it can be used to get a whole table whatever its size, where the paged
+ * listings would build it in memory. It is gzipped if the client accepts it.
+ */
+@RestController
+@RequestMapping("/api")
+public class CatalogExportResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogExportResource.class);
+
+    private final CatalogExportService catalogExportService;
+
+    public CatalogExportResource(CatalogExportService catalogExportService) {
+        this.catalogExportService = catalogExportService;
+    }
+
+    /**
+     * {@code GET  /disciplines/export} : stream all the disciplines, one per line, in the order of their ids.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the disciplines in body.
+     */
+    @GetMapping(value = "/disciplines/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportDisciplines(
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return export(CatalogEntityType.DISCIPLINE, acceptEncoding);
+    }
+
+    /**
+     * {@code GET  /programs/export} : stream all the programs, one per line, in the order of their ids.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the programs in body.
+     */
+    @GetMapping(value = "/programs/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPrograms(
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return export(CatalogEntityType.PROGRAM, acceptEncoding);
+    }
+
+    /**
+     * {@code GET  /courses/export} : stream all the courses, one per line, in the order of their ids.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the courses in body.
+     */
+    @GetMapping(value = "/courses/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCourses(
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return export(CatalogEntityType.COURSE, acceptEncoding);
+    }
+
+    /**
+     * {@code GET  /lessons/export} : stream all the lessons, one per line, in the order of their ids.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the lessons in body.
+     */
+    @GetMapping(value = "/lessons/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportLessons(
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return export(CatalogEntityType.LESSON, acceptEncoding);
+    }
+
+    /**
+     * {@code GET  /resources/export} : stream all the resources, one per line, in the order of their ids.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the resources in body.
+     */
+    @GetMapping(value = "/resources/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportResources(
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return export(CatalogEntityType.RESOURCE, acceptEncoding);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(CatalogEntityType type, String acceptEncoding) {
+        LOG.debug("REST request to export the {} table", type);
+        boolean gzipped = ContentEncodingUtil.acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            StreamingResponseBody body = out -> {
+                // Closing the gzip stream releases its native deflater even if the export fails, the response stream is left open
+                try (GZIPOutputStream gzip = new GZIPOutputStream(StreamUtils.nonClosing(out))) {
+                    catalogExportService.export(type, gzip);
+                }
+            };
+            return response.header(HttpHeaders.CONTENT_ENCODING, ContentEncodingUtil.GZIP).body(body);
+        }
+        StreamingResponseBody body = out -> catalogExportService.export(type, out);
+        return response.body(body);
+    }
+}
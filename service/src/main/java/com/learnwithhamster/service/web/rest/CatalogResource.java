@@ -0,0 +1,54 @@
+package com.learnwithhamster.service.web.rest;
+
+import com.learnwithhamster.service.service.CatalogSnapshotService;
+import com.learnwithhamster.service.web.rest.util.ContentEncodingUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller serving the catalog snapshot of {@link com.learnwithhamster.service.service.dto.CatalogDTO}.
+ */
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogResource.class);
+
+    private final CatalogSnapshotService catalogSnapshotService;
+
+    public CatalogResource(CatalogSnapshotService catalogSnapshotService) {
+        this.catalogSnapshotService = catalogSnapshotService;
+    }
+
+    /**
+     * {@code GET  /catalog} : get the disciplines, programs and courses tree.
+     * <p>
+     * The body is precomputed and carries a strong ETag, a matching {@code If-None-Match} is answered with {@code 304 (Not Modified)}.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the catalog in body, or with status {@code 304 (Not Modified)}.
+     */
+    @GetMapping("")
+    public ResponseEntity<byte[]> getCatalog(@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        LOG.debug("REST request to get the Catalog");
+        CatalogSnapshotService.Snapshot snapshot = catalogSnapshotService.getSnapshot();
+        boolean gzipped = ContentEncodingUtil.acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(snapshot.eTag(gzipped))
+            .cacheControl(CacheControl.noCache())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, ContentEncodingUtil.GZIP).body(snapshot.gzippedJson());
+        }
+        return response.body(snapshot.json());
+    }
+}
@@ -1,22 +1,31 @@
 package com.learnwithhamster.service.web.rest;
 
+import com.learnwithhamster.service.domain.Course;
 import com.learnwithhamster.service.repository.CourseRepository;
+import com.learnwithhamster.service.service.CourseDetailService;
 import com.learnwithhamster.service.service.CourseService;
+import com.learnwithhamster.service.service.SparseFieldsetService;
 import com.learnwithhamster.service.service.dto.CourseDTO;
+import com.learnwithhamster.service.service.dto.CourseDetailDTO;
 import com.learnwithhamster.service.web.rest.errors.BadRequestAlertException;
 import com.learnwithhamster.service.web.rest.errors.ElasticsearchExceptionMapper;
+import com.learnwithhamster.service.web.rest.util.KeysetPaginationUtil;
+import com.learnwithhamster.service.web.rest.util.SparseFieldsetUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -43,9 +52,20 @@ public class CourseResource {
 
     private final CourseRepository courseRepository;
 
-    public CourseResource(CourseService courseService, CourseRepository courseRepository) {
+    private final CourseDetailService courseDetailService;
+
+    private final SparseFieldsetService sparseFieldsetService;
+
+    public CourseResource(
+        CourseService courseService,
+        CourseRepository courseRepository,
+        CourseDetailService courseDetailService,
+        SparseFieldsetService sparseFieldsetService
+    ) {
         this.courseService = courseService;
         this.courseRepository = courseRepository;
+        this.courseDetailService = courseDetailService;
+        this.sparseFieldsetService = sparseFieldsetService;
     }
 
     /**
@@ -159,6 +179,59 @@ public class CourseResource {
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /courses?after=:cursor} : get a slice of the courses, in the order of their ids, without counting them.
+     * The many-to-many relationships are always loaded.
+     *
+     * @param after the cursor of the slice, from the {@code next} link of the previous slice, empty for the first slice.
+     * @param size the number of courses of the slice.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of courses in body,
+     * or with status {@code 400 (Bad Request)} if the cursor or the size is invalid.
+     */
+    @GetMapping(value = "", params = KeysetPaginationUtil.AFTER_PARAMETER)
+    public ResponseEntity<List<CourseDTO>> getCoursesAfter(
+        @RequestParam(name = KeysetPaginationUtil.AFTER_PARAMETER) String after,
+        @RequestParam(name = KeysetPaginationUtil.SIZE_PARAMETER, defaultValue = "20") int size
+    ) {
+        LOG.debug("REST request to get a slice of Courses after : {}", after);
+        Slice<CourseDTO> slice = courseService.findAllAfter(
+            KeysetPaginationUtil.decode(after, ENTITY_NAME),
+            KeysetPaginationUtil.checkSize(size, ENTITY_NAME)
+        );
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            slice,
+            CourseDTO::getId
+        );
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    /**
+     * {@code GET  /courses?fields=:fields} : get a page of the courses, restricted to some of their fields.
+     * <p>
+     * Only the requested columns are read, for example {@code ?fields=id,courseTitle,coursePrice,courseLevel}, and the relationships are not.
+     *
+     * @param pageable the pagination information, sorted on selectable fields only.
+     * @param fields the comma separated fields to get.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of courses in body,
+     * or with status {@code 400 (Bad Request)} if a field cannot be selected.
+     */
+    @GetMapping(value = "", params = { SparseFieldsetUtil.FIELDS_PARAMETER, "!" + KeysetPaginationUtil.AFTER_PARAMETER })
+    public ResponseEntity<List<Map<String, Object>>> getCoursesFields(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = SparseFieldsetUtil.FIELDS_PARAMETER) String fields
+    ) {
+        LOG.debug("REST request to get a page of Courses with fields : {}", fields);
+        Set<String> selectableFields = sparseFieldsetService.getSelectableFields(Course.class);
+        Page<Map<String, Object>> page = sparseFieldsetService.findAll(
+            Course.class,
+            SparseFieldsetUtil.parse(fields, selectableFields, pageable.getSort(), ENTITY_NAME),
+            pageable
+        );
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
     /**
      * {@code GET  /courses/:id} : get the "id" course.
      *
@@ -172,6 +245,20 @@ public class CourseResource {
         return ResponseUtil.wrapOrNotFound(courseDTO);
     }
 
+    /**
+     * {@code GET  /courses/:id/detail} : get the "id" course with its ordered lessons, their resources
+     * and the current user's enrollment and progress.
+     *
+     * @param id the id of the course to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the courseDetailDTO, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<CourseDetailDTO> getCourseDetail(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get CourseDetail : {}", id);
+        Optional<CourseDetailDTO> courseDetailDTO = courseDetailService.findDetail(id);
+        return ResponseUtil.wrapOrNotFound(courseDetailDTO);
+    }
+
     /**
      * {@code DELETE  /courses/:id} : delete the "id" course.
      *
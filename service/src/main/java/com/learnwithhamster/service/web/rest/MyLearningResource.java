@@ -0,0 +1,36 @@
+package com.learnwithhamster.service.web.rest;
+
+import com.learnwithhamster.service.service.UserCourseEnrollmentService;
+import com.learnwithhamster.service.service.dto.MyLearningDTO;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the dashboard of the current user.
+ */
+@RestController
+@RequestMapping("/api/me")
+public class MyLearningResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MyLearningResource.class);
+
+    private final UserCourseEnrollmentService userCourseEnrollmentService;
+
+    public MyLearningResource(UserCourseEnrollmentService userCourseEnrollmentService) {
+        this.userCourseEnrollmentService = userCourseEnrollmentService;
+    }
+
+    /**
+     * {@code GET  /me/learning} : Get the courses the current user is enrolled in, with their title, price, level and progress.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of courses, most recent enrollments first.
+     */
+    @GetMapping("/learning")
+    public ResponseEntity<List<MyLearningDTO>> getMyLearning() {
+        LOG.debug("REST request to get the learning of the current user");
+        return ResponseEntity.ok(userCourseEnrollmentService.getMyLearning());
+    }
+}
@@ -1,22 +1,29 @@
 package com.learnwithhamster.service.web.rest;
 
+import com.learnwithhamster.service.domain.Program;
 import com.learnwithhamster.service.repository.ProgramRepository;
 import com.learnwithhamster.service.service.ProgramService;
+import com.learnwithhamster.service.service.SparseFieldsetService;
 import com.learnwithhamster.service.service.dto.ProgramDTO;
 import com.learnwithhamster.service.web.rest.errors.BadRequestAlertException;
 import com.learnwithhamster.service.web.rest.errors.ElasticsearchExceptionMapper;
+import com.learnwithhamster.service.web.rest.util.KeysetPaginationUtil;
+import com.learnwithhamster.service.web.rest.util.SparseFieldsetUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -43,9 +50,16 @@ public class ProgramResource {
 
     private final ProgramRepository programRepository;
 
-    public ProgramResource(ProgramService programService, ProgramRepository programRepository) {
+    private final SparseFieldsetService sparseFieldsetService;
+
+    public ProgramResource(
+        ProgramService programService,
+        ProgramRepository programRepository,
+        SparseFieldsetService sparseFieldsetService
+    ) {
         this.programService = programService;
         this.programRepository = programRepository;
+        this.sparseFieldsetService = sparseFieldsetService;
     }
 
     /**
@@ -159,6 +173,59 @@ public class ProgramResource {
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /programs?after=:cursor} : get a slice of the programs, in the order of their ids, without counting them.
+     * The many-to-many relationships are always loaded.
+     *
+     * @param after the cursor of the slice, from the {@code next} link of the previous slice, empty for the first slice.
+     * @param size the number of programs of the slice.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of programs in body,
+     * or with status {@code 400 (Bad Request)} if the cursor or the size is invalid.
+     */
+    @GetMapping(value = "", params = KeysetPaginationUtil.AFTER_PARAMETER)
+    public ResponseEntity<List<ProgramDTO>> getProgramsAfter(
+        @RequestParam(name = KeysetPaginationUtil.AFTER_PARAMETER) String after,
+        @RequestParam(name = KeysetPaginationUtil.SIZE_PARAMETER, defaultValue = "20") int size
+    ) {
+        LOG.debug("REST request to get a slice of Programs after : {}", after);
+        Slice<ProgramDTO> slice = programService.findAllAfter(
+            KeysetPaginationUtil.decode(after, ENTITY_NAME),
+            KeysetPaginationUtil.checkSize(size, ENTITY_NAME)
+        );
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            slice,
+            ProgramDTO::getId
+        );
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    /**
+     * {@code GET  /programs?fields=:fields} : get a page of the programs, restricted to some of their fields.
+     * <p>
+     * Only the requested columns are read, for example {@code ?fields=id,programName,programPrice}, and the relationships are not.
+     *
+     * @param pageable the pagination information, sorted on selectable fields only.
+     * @param fields the comma separated fields to get.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of programs in body,
+     * or with status {@code 400 (Bad Request)} if a field cannot be selected.
+     */
+    @GetMapping(value = "", params = { SparseFieldsetUtil.FIELDS_PARAMETER, "!" + KeysetPaginationUtil.AFTER_PARAMETER })
+    public ResponseEntity<List<Map<String, Object>>> getProgramsFields(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = SparseFieldsetUtil.FIELDS_PARAMETER) String fields
+    ) {
+        LOG.debug("REST request to get a page of Programs with fields : {}", fields);
+        Set<String> selectableFields = sparseFieldsetService.getSelectableFields(Program.class);
+        Page<Map<String, Object>> page = sparseFieldsetService.findAll(
+            Program.class,
+            SparseFieldsetUtil.parse(fields, selectableFields, pageable.getSort(), ENTITY_NAME),
+            pageable
+        );
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
     /**
      * {@code GET  /programs/:id} : get the "id" program.
      *
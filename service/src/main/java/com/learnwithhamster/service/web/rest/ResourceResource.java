@@ -1,20 +1,26 @@
 package com.learnwithhamster.service.web.rest;
 
+import com.learnwithhamster.service.domain.enumeration.ResourceType;
 import com.learnwithhamster.service.repository.ResourceRepository;
 import com.learnwithhamster.service.service.ResourceService;
 import com.learnwithhamster.service.service.dto.ResourceDTO;
 import com.learnwithhamster.service.web.rest.errors.BadRequestAlertException;
 import com.learnwithhamster.service.web.rest.errors.ElasticsearchExceptionMapper;
+import com.learnwithhamster.service.web.rest.util.KeysetPaginationUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -130,16 +136,77 @@ public class ResourceResource {
     }
 
     /**
-     * {@code GET  /resources} : get all the resources.
+     * {@code GET  /resources} : get all the resources, or those of a single owner ordered by weight.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of resources in body.
+     * @param lessonId the id of the owning lesson (optional).
+     * @param courseId the id of the owning course (optional).
+     * @param programId the id of the owning program (optional).
+     * @param disciplineId the id of the owning discipline (optional).
+     * @param resourceType the resource types to keep (optional, requires an owner).
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of resources in body,
+     * or with status {@code 400 (Bad Request)} if more than one owner, or a type without an owner, is given.
      */
     @GetMapping("")
-    public List<ResourceDTO> getAllResources() {
+    public List<ResourceDTO> getAllResources(
+        @RequestParam(name = "lessonId", required = false) Long lessonId,
+        @RequestParam(name = "courseId", required = false) Long courseId,
+        @RequestParam(name = "programId", required = false) Long programId,
+        @RequestParam(name = "disciplineId", required = false) Long disciplineId,
+        @RequestParam(name = "resourceType", required = false) List<ResourceType> resourceType
+    ) {
+        long owners = Stream.of(lessonId, courseId, programId, disciplineId).filter(Objects::nonNull).count();
+        if (owners > 1) {
+            throw new BadRequestAlertException("Only one owner filter can be given", ENTITY_NAME, "multipleowners");
+        }
+        if (lessonId != null) {
+            LOG.debug("REST request to get Resources of Lesson : {}", lessonId);
+            return resourceService.findAllByLesson(lessonId, resourceType);
+        }
+        if (courseId != null) {
+            LOG.debug("REST request to get Resources of Course : {}", courseId);
+            return resourceService.findAllByCourse(courseId, resourceType);
+        }
+        if (programId != null) {
+            LOG.debug("REST request to get Resources of Program : {}", programId);
+            return resourceService.findAllByProgram(programId, resourceType);
+        }
+        if (disciplineId != null) {
+            LOG.debug("REST request to get Resources of Discipline : {}", disciplineId);
+            return resourceService.findAllByDiscipline(disciplineId, resourceType);
+        }
+        if (resourceType != null && !resourceType.isEmpty()) {
+            throw new BadRequestAlertException("A resourceType filter requires an owner filter", ENTITY_NAME, "ownerrequired");
+        }
         LOG.debug("REST request to get all Resources");
         return resourceService.findAll();
     }
 
+    /**
+     * {@code GET  /resources?after=:cursor} : get a slice of the resources, in the order of their ids, without counting them.
+     *
+     * @param after the cursor of the slice, from the {@code next} link of the previous slice, empty for the first slice.
+     * @param size the number of resources of the slice.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of resources in body,
+     * or with status {@code 400 (Bad Request)} if the cursor or the size is invalid.
+     */
+    @GetMapping(value = "", params = KeysetPaginationUtil.AFTER_PARAMETER)
+    public ResponseEntity<List<ResourceDTO>> getResourcesAfter(
+        @RequestParam(name = KeysetPaginationUtil.AFTER_PARAMETER) String after,
+        @RequestParam(name = KeysetPaginationUtil.SIZE_PARAMETER, defaultValue = "20") int size
+    ) {
+        LOG.debug("REST request to get a slice of Resources after : {}", after);
+        Slice<ResourceDTO> slice = resourceService.findAllAfter(
+            KeysetPaginationUtil.decode(after, ENTITY_NAME),
+            KeysetPaginationUtil.checkSize(size, ENTITY_NAME)
+        );
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            slice,
+            ResourceDTO::getId
+        );
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
     /**
      * {@code GET  /resources/:id} : get the "id" resource.
      *
@@ -0,0 +1,41 @@
+package com.learnwithhamster.service.web.rest;
+
+import com.learnwithhamster.service.service.SearchSuggestService;
+import com.learnwithhamster.service.service.dto.SuggestionDTO;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller searching across the catalog entities.
+ */
+@RestController
+@RequestMapping("/api/search")
+public class SearchResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchResource.class);
+
+    private final SearchSuggestService searchSuggestService;
+
+    public SearchResource(SearchSuggestService searchSuggestService) {
+        this.searchSuggestService = searchSuggestService;
+    }
+
+    /**
+     * {@code GET  /search/suggest?q=:q} : suggest the disciplines, programs, courses, lessons and resources
+     * whose name or title starts with the words typed so far.
+     *
+     * @param q the text typed by the user.
+     * @param size the number of suggestions, capped by {@code application.search-suggest.max-results}.
+     * @return the {@link List} of suggestions, best matches first.
+     */
+    @GetMapping("/suggest")
+    public List<SuggestionDTO> suggest(@RequestParam("q") String q, @RequestParam(name = "size", defaultValue = "10") int size) {
+        LOG.debug("REST request to get suggestions for {}", q);
+        return searchSuggestService.suggest(q, size);
+    }
+}
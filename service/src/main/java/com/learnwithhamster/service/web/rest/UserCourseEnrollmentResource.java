@@ -2,7 +2,10 @@ package com.learnwithhamster.service.web.rest;
 
 import com.learnwithhamster.service.service.UserCourseEnrollmentService;
 import com.learnwithhamster.service.service.dto.UserCourseEnrollmentDTO;
+import com.learnwithhamster.service.web.rest.errors.BadRequestAlertException;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +20,10 @@ public class UserCourseEnrollmentResource {
 
     private static final Logger LOG = LoggerFactory.getLogger(UserCourseEnrollmentResource.class);
 
+    private static final String ENTITY_NAME = "serviceUserCourseEnrollment";
+
+    private static final int MAX_BATCH_COURSES = 100;
+
     private final UserCourseEnrollmentService userCourseEnrollmentService;
 
     public UserCourseEnrollmentResource(UserCourseEnrollmentService userCourseEnrollmentService) {
@@ -36,6 +43,34 @@ public class UserCourseEnrollmentResource {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * {@code POST  /user-course-enrollment/batch} : Enroll in many courses at once (idempotent).
+     *
+     * @param request the batch enroll request containing the courseIds.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the enrollment records,
+     * or with status {@code 400 (Bad Request)} if there are no, null or too many courseIds.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserCourseEnrollmentDTO>> enrollAll(@RequestBody BatchEnrollRequest request) {
+        LOG.debug("REST request to enroll in courses: {}", request);
+        if (request.courseIds() == null || request.courseIds().isEmpty()) {
+            throw new BadRequestAlertException("No course to enroll in", ENTITY_NAME, "courseidsrequired");
+        }
+        if (request.courseIds().contains(null)) {
+            throw new BadRequestAlertException("A course id cannot be null", ENTITY_NAME, "courseidnull");
+        }
+        Set<Long> courseIds = new LinkedHashSet<>(request.courseIds());
+        if (courseIds.size() > MAX_BATCH_COURSES) {
+            throw new BadRequestAlertException(
+                "At most " + MAX_BATCH_COURSES + " courses can be enrolled in at once",
+                ENTITY_NAME,
+                "toomanycourses"
+            );
+        }
+        List<UserCourseEnrollmentDTO> result = userCourseEnrollmentService.enrollAll(courseIds);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * {@code DELETE  /user-course-enrollment/:courseId} : Unenroll from a course.
      *
@@ -78,4 +113,9 @@ public class UserCourseEnrollmentResource {
      * Request body for enrolling in a course.
      */
     public record EnrollRequest(Long courseId) {}
+
+    /**
+     * Request body for enrolling in many courses.
+     */
+    public record BatchEnrollRequest(List<Long> courseIds) {}
 }
@@ -1,8 +1,12 @@
 package com.learnwithhamster.service.web.rest;
 
+import com.learnwithhamster.service.service.UserCourseProgressSummaryService;
 import com.learnwithhamster.service.service.UserLessonProgressService;
+import com.learnwithhamster.service.service.dto.UserCourseProgressSummaryDTO;
 import com.learnwithhamster.service.service.dto.UserLessonProgressDTO;
+import com.learnwithhamster.service.web.rest.errors.BadRequestAlertException;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -17,10 +21,20 @@ public class UserLessonProgressResource {
 
     private static final Logger LOG = LoggerFactory.getLogger(UserLessonProgressResource.class);
 
+    private static final String ENTITY_NAME = "serviceUserCourseProgressSummary";
+
+    private static final int MAX_SUMMARY_COURSES = 200;
+
     private final UserLessonProgressService userLessonProgressService;
 
-    public UserLessonProgressResource(UserLessonProgressService userLessonProgressService) {
+    private final UserCourseProgressSummaryService userCourseProgressSummaryService;
+
+    public UserLessonProgressResource(
+        UserLessonProgressService userLessonProgressService,
+        UserCourseProgressSummaryService userCourseProgressSummaryService
+    ) {
         this.userLessonProgressService = userLessonProgressService;
+        this.userCourseProgressSummaryService = userCourseProgressSummaryService;
     }
 
     /**
@@ -49,6 +63,29 @@ public class UserLessonProgressResource {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * {@code GET  /user-lesson-progress/summary?courseIds=:courseIds} : Get the progress summaries of many courses.
+     * Courses without any progress have no summary.
+     *
+     * @param courseIds the course IDs.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of summaries.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<UserCourseProgressSummaryDTO>> getCourseProgressSummaries(@RequestParam("courseIds") Set<Long> courseIds) {
+        LOG.debug("REST request to get course progress summaries for courses: {}", courseIds);
+        if (courseIds.size() > MAX_SUMMARY_COURSES) {
+            throw new BadRequestAlertException(
+                "At most " + MAX_SUMMARY_COURSES + " courses can be requested",
+                ENTITY_NAME,
+                "toomanycourses"
+            );
+        }
+        if (courseIds.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        return ResponseEntity.ok(userCourseProgressSummaryService.findAllForCurrentUser(courseIds));
+    }
+
     /**
      * Request body for marking lesson progress.
      */
@@ -0,0 +1,58 @@
+package com.learnwithhamster.service.web.rest.util;
+
+import java.util.Locale;
+
+/**
+ * Utility class for the content codings requested with {@code Accept-Encoding: gzip, deflate;q=0.5}.
+ */
+public final class ContentEncodingUtil {
+
+    public static final String GZIP = "gzip";
+
+    private static final String X_GZIP = "x-gzip";
+
+    private static final String ANY = "*";
+
+    private ContentEncodingUtil() {}
+
+    /**
+     * Whether a response can be gzipped, as per RFC 9110 section 12.5.3.
+     * <p>
+     * {@code gzip} is acceptable when it is listed, or else when {@code *} is, with a non-zero quality value. A coding
+     * whose quality value cannot be parsed is taken as not acceptable.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request, or {@code null}.
+     * @return true if the client accepts gzip.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean any = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals(GZIP) || coding.equals(X_GZIP)) {
+                return isAcceptable(parameters);
+            }
+            if (coding.equals(ANY)) {
+                any = isAcceptable(parameters);
+            }
+        }
+        return Boolean.TRUE.equals(any);
+    }
+
+    private static boolean isAcceptable(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim()) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
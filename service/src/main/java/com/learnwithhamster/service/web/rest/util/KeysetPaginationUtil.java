@@ -0,0 +1,109 @@
+package com.learnwithhamster.service.web.rest.util;
+
+import com.learnwithhamster.service.web.rest.errors.BadRequestAlertException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for keyset (cursor) pagination.
+ * <p>
+ * A slice is requested with {@code ?after=<cursor>&size=<n>}, an empty cursor asking for the first slice. The cursor
+ * of the next slice is given in a {@code Link} header with {@code rel="next"}, and no count is ever made, so reading a
+ * slice costs the same whatever its position. Cursors are opaque to the clients, who must only follow them.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String AFTER_PARAMETER = "after";
+
+    public static final String SIZE_PARAMETER = "size";
+
+    /**
+     * The largest slice, the same as the default largest page of Spring Data.
+     */
+    public static final int MAX_SIZE = 2000;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Get the id a cursor starts after.
+     *
+     * @param cursor the cursor, empty for the first slice.
+     * @param entityName the name of the paginated entity.
+     * @return the id, {@code 0} for the first slice.
+     * @throws BadRequestAlertException if the cursor was not given by a previous slice.
+     */
+    public static long decode(String cursor, String entityName) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            long after = Long.parseLong(new String(DECODER.decode(cursor), StandardCharsets.US_ASCII));
+            if (after > 0) {
+                return after;
+            }
+        } catch (IllegalArgumentException e) {
+            // Not a cursor, reported below
+        }
+        throw new BadRequestAlertException("Invalid cursor", entityName, "invalidcursor");
+    }
+
+    /**
+     * Get the cursor of the slice starting after an id.
+     *
+     * @param after the id.
+     * @return the cursor.
+     */
+    public static String encode(long after) {
+        return ENCODER.encodeToString(Long.toString(after).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Check the size of a slice.
+     *
+     * @param size the size.
+     * @param entityName the name of the paginated entity.
+     * @return the size.
+     * @throws BadRequestAlertException if the size is not between 1 and {@link #MAX_SIZE}.
+     */
+    public static int checkSize(int size, String entityName) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BadRequestAlertException("The size must be between 1 and " + MAX_SIZE, entityName, "invalidsize");
+        }
+        return size;
+    }
+
+    /**
+     * Generate the pagination headers of a slice.
+     *
+     * @param uriBuilder the builder of the URI of the current request.
+     * @param slice the slice.
+     * @param id the function giving the id of an element of the slice.
+     * @param <T> the type of the elements of the slice.
+     * @return the headers, with a {@code Link} to the next slice if there is one.
+     */
+    public static <T> HttpHeaders generateKeysetPaginationHttpHeaders(
+        UriComponentsBuilder uriBuilder,
+        Slice<T> slice,
+        Function<T, Long> id
+    ) {
+        HttpHeaders headers = new HttpHeaders();
+        List<T> content = slice.getContent();
+        if (slice.hasNext() && !content.isEmpty()) {
+            String next = uriBuilder
+                .replaceQueryParam(AFTER_PARAMETER, encode(id.apply(content.get(content.size() - 1))))
+                .replaceQueryParam(SIZE_PARAMETER, slice.getSize())
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+}
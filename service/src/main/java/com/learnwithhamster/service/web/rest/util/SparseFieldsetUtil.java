@@ -0,0 +1,50 @@
+package com.learnwithhamster.service.web.rest.util;
+
+import com.learnwithhamster.service.web.rest.errors.BadRequestAlertException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Utility class for sparse fieldsets, requested with {@code ?fields=id,courseTitle}.
+ */
+public final class SparseFieldsetUtil {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    private SparseFieldsetUtil() {}
+
+    /**
+     * Parse the requested fields, and check them and the sort against the fields that can be selected.
+     *
+     * @param fields the comma separated fields.
+     * @param selectableFields the fields that can be selected.
+     * @param sort the requested sort.
+     * @param entityName the name of the read entity.
+     * @return the distinct fields, in the requested order.
+     * @throws BadRequestAlertException if no field, or a field that cannot be selected, is requested or sorted on.
+     */
+    public static List<String> parse(String fields, Set<String> selectableFields, Sort sort, String entityName) {
+        Set<String> requested = Arrays.stream(fields.split(","))
+            .map(String::trim)
+            .filter(field -> !field.isEmpty())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requested.isEmpty()) {
+            throw new BadRequestAlertException("At least one field must be requested", entityName, "nofields");
+        }
+        Set<String> unknown = new LinkedHashSet<>(requested);
+        sort.forEach(order -> unknown.add(order.getProperty()));
+        unknown.removeAll(selectableFields);
+        if (!unknown.isEmpty()) {
+            throw new BadRequestAlertException(
+                "Unknown fields " + unknown + ", expected some of " + selectableFields,
+                entityName,
+                "unknownfields"
+            );
+        }
+        return List.copyOf(requested);
+    }
+}
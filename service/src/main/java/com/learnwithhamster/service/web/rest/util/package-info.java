@@ -0,0 +1,4 @@
+/**
+ * Rest layer utilities.
+ */
+package com.learnwithhamster.service.web.rest.util;
@@ -0,0 +1,166 @@
+package com.learnwithhamster.service.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.learnwithhamster.service.domain.enumeration.Language;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import com.learnwithhamster.service.domain.enumeration.ResourceType;
+import com.learnwithhamster.service.service.dto.CourseDTO;
+import com.learnwithhamster.service.service.dto.DisciplineDTO;
+import com.learnwithhamster.service.service.dto.LessonDTO;
+import com.learnwithhamster.service.service.dto.ProgramDTO;
+import com.learnwithhamster.service.service.dto.ResourceDTO;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Tests for the {@link CatalogCompactSerializers}, comparing them with the Java serialization of the same values.
+ * <p>
+ * Their speed is measured by the {@link CatalogSerializationBenchmark}.
+ */
+class CatalogCompactSerializersTest {
+
+    private static HazelcastInstance compactInstance;
+
+    private static HazelcastInstance javaInstance;
+
+    @BeforeAll
+    static void startInstances() {
+        compactInstance = newInstance("compact-serialization-test", true);
+        javaInstance = newInstance("java-serialization-test", false);
+    }
+
+    @AfterAll
+    static void shutdownInstances() {
+        compactInstance.shutdown();
+        javaInstance.shutdown();
+    }
+
+    @Test
+    void shouldRoundTripTheDTOs() {
+        IMap<Long, Object> map = compactInstance.getMap("round-trip");
+        List<Object> values = List.of(
+            createCourse(),
+            createLesson(),
+            createProgram(),
+            createDiscipline(),
+            createResource(),
+            new CourseDTO()
+        );
+        for (int i = 0; i < values.size(); i++) {
+            map.put((long) i, values.get(i));
+            assertThat(map.get((long) i)).usingRecursiveComparison().isEqualTo(values.get(i));
+        }
+    }
+
+    @Test
+    void shouldRoundTripThePages() {
+        IMap<Long, Page<CourseDTO>> map = compactInstance.getMap("round-trip-pages");
+        Page<CourseDTO> page = new PageImpl<>(List.of(createCourse()), PageRequest.of(2, 20, Sort.by("courseTitle").descending()), 100);
+        map.put(1L, page);
+        Page<CourseDTO> read = map.get(1L);
+        assertThat(read.getContent()).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(page.getContent());
+        assertThat(read.getPageable()).isEqualTo(page.getPageable());
+        assertThat(read.getTotalElements()).isEqualTo(100);
+
+        Page<CourseDTO> unpaged = new PageImpl<>(List.of());
+        map.put(2L, unpaged);
+        assertThat(map.get(2L).getPageable().isUnpaged()).isTrue();
+        assertThat(map.get(2L).getContent()).isEmpty();
+    }
+
+    @Test
+    void shouldWriteSmallerEntriesThanJavaSerialization() {
+        CourseDTO course = createCourse();
+        IMap<Long, CourseDTO> compactMap = compactInstance.getMap("size");
+        IMap<Long, CourseDTO> javaMap = javaInstance.getMap("size");
+        compactMap.put(1L, course);
+        javaMap.put(1L, course);
+
+        assertThat(compactMap.getEntryView(1L).getCost()).isLessThan(javaMap.getEntryView(1L).getCost());
+    }
+
+    static HazelcastInstance newInstance(String name, boolean compact) {
+        Config config = new Config();
+        config.setInstanceName(name);
+        config.setClusterName(name);
+        config.setProperty("hazelcast.phone.home.enabled", "false");
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
+        if (compact) {
+            CatalogCompactSerializers.all().forEach(config.getSerializationConfig().getCompactSerializationConfig()::addSerializer);
+        }
+        return Hazelcast.newHazelcastInstance(config);
+    }
+
+    static CourseDTO createCourse() {
+        CourseDTO course = new CourseDTO();
+        course.setId(1L);
+        course.setCourseTitle("Introduction to hamsters");
+        course.setCourseDescription("Everything about hamsters, from their food to their wheels");
+        course.setCoursePrice(42L);
+        course.setCourseLevel(Level.BEGINNER);
+        LessonDTO lesson = new LessonDTO();
+        lesson.setId(2L);
+        course.setLessons(Set.of(lesson));
+        ProgramDTO program = new ProgramDTO();
+        program.setId(3L);
+        course.setPrograms(Set.of(program));
+        return course;
+    }
+
+    private static LessonDTO createLesson() {
+        LessonDTO lesson = new LessonDTO();
+        lesson.setId(2L);
+        lesson.setLessonTitle("Feeding");
+        lesson.setLanguage(Language.ENGLISH);
+        CourseDTO course = new CourseDTO();
+        course.setId(1L);
+        lesson.setCourses(Set.of(course));
+        return lesson;
+    }
+
+    private static ProgramDTO createProgram() {
+        ProgramDTO program = new ProgramDTO();
+        program.setId(3L);
+        program.setProgramName("Hamster care");
+        program.setProgramPrice(100L);
+        return program;
+    }
+
+    private static DisciplineDTO createDiscipline() {
+        DisciplineDTO discipline = new DisciplineDTO();
+        discipline.setId(5L);
+        discipline.setDisciplineName("Rodent studies");
+        discipline.setDisciplineDescription("The science of small mammals");
+        discipline.setDisciplinePrice(300L);
+        ProgramDTO program = new ProgramDTO();
+        program.setId(3L);
+        discipline.setPrograms(Set.of(program));
+        return discipline;
+    }
+
+    private static ResourceDTO createResource() {
+        ResourceDTO resource = new ResourceDTO();
+        resource.setId(4L);
+        resource.setResourceName("Wheel video");
+        resource.setResourceURL("https://example.com/wheel.mp4");
+        resource.setResourceType(ResourceType.VIDEO);
+        resource.setWeight(1);
+        LessonDTO lesson = new LessonDTO();
+        lesson.setId(2L);
+        resource.setLesson(lesson);
+        return resource;
+    }
+}
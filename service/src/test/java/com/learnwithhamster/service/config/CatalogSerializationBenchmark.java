@@ -0,0 +1,66 @@
+package com.learnwithhamster.service.config;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.learnwithhamster.service.service.dto.CourseDTO;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of a put then a get of a course in a Hazelcast map, its value written with the
+ * {@link CatalogCompactSerializers} ({@code compact}) or with Java serialization ({@code java}). Run it from the
+ * {@link #main(String[])} method once the tests are compiled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CatalogSerializationBenchmark {
+
+    @Param({ "compact", "java" })
+    public String serialization;
+
+    private HazelcastInstance instance;
+
+    private IMap<Long, CourseDTO> map;
+
+    private CourseDTO course;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CatalogSerializationBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        instance = CatalogCompactSerializersTest.newInstance(serialization + "-serialization-benchmark", "compact".equals(serialization));
+        map = instance.getMap("benchmark");
+        course = CatalogCompactSerializersTest.createCourse();
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public CourseDTO putGet() {
+        map.put(1L, course);
+        return map.get(1L);
+    }
+}
@@ -0,0 +1,73 @@
+package com.learnwithhamster.service.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link HibernateCacheEntrySerializers}.
+ */
+class HibernateCacheEntrySerializersTest {
+
+    private InternalSerializationService serializationService;
+
+    private InternalSerializationService javaSerializationService;
+
+    @BeforeEach
+    void setUp() {
+        SerializationConfig config = new SerializationConfig();
+        HibernateCacheEntrySerializers.all().forEach(config::addSerializerConfig);
+        serializationService = new DefaultSerializationServiceBuilder().setConfig(config).build();
+        javaSerializationService = new DefaultSerializationServiceBuilder().build();
+    }
+
+    @Test
+    void shouldRoundTripTheEntityEntries() throws Exception {
+        Serializable[] state = { "Introduction to hamsters", null, 42L, Level.BEGINNER, 1L };
+        CacheEntry entry = newInstance(StandardCacheEntryImpl.class, state, "com.learnwithhamster.service.domain.Course", null);
+
+        Data data = serializationService.toData(entry);
+        CacheEntry read = serializationService.toObject(data);
+
+        assertThat(data.getType()).isEqualTo(HibernateCacheEntrySerializers.ENTITY_TYPE_ID);
+        assertThat(read).isInstanceOf(StandardCacheEntryImpl.class);
+        assertThat(read.getDisassembledState()).containsExactly(state);
+        assertThat(read.getSubclass()).isEqualTo(entry.getSubclass());
+        assertThat(read.getVersion()).isNull();
+        assertThat(data.totalSize()).isLessThan(javaSerializationService.toData(entry).totalSize());
+    }
+
+    @Test
+    void shouldRoundTripTheCollectionEntries() throws Exception {
+        Serializable[] state = { 1L, 2L, 3L };
+        CollectionCacheEntry entry = newInstance(CollectionCacheEntry.class, (Serializable) state);
+
+        Data data = serializationService.toData(entry);
+        CollectionCacheEntry read = serializationService.toObject(data);
+
+        assertThat(data.getType()).isEqualTo(HibernateCacheEntrySerializers.COLLECTION_TYPE_ID);
+        assertThat(read.getState()).containsExactly(state);
+        assertThat(data.totalSize()).isLessThan(javaSerializationService.toData(entry).totalSize());
+    }
+
+    private static <T> T newInstance(Class<T> type, Object... arguments) throws Exception {
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == arguments.length) {
+                constructor.setAccessible(true);
+                return type.cast(constructor.newInstance(arguments));
+            }
+        }
+        throw new IllegalArgumentException("No constructor of " + type.getName());
+    }
+}
@@ -0,0 +1,52 @@
+package com.learnwithhamster.service.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learnwithhamster.service.service.CatalogEntityType;
+import com.learnwithhamster.service.service.SearchReindexService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+/**
+ * Tests for the {@link SearchReindexEndpoint}.
+ */
+class SearchReindexEndpointTest {
+
+    private SearchReindexService searchReindexService;
+
+    private SearchReindexEndpoint searchReindexEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        searchReindexService = mock(SearchReindexService.class);
+        when(searchReindexService.getStatus()).thenReturn(new SearchReindexService.Status(true, List.of()));
+        searchReindexEndpoint = new SearchReindexEndpoint(searchReindexService);
+    }
+
+    @Test
+    void startsTheGivenTypes() {
+        when(searchReindexService.start(anyCollection())).thenReturn(true);
+
+        WebEndpointResponse<SearchReindexService.Status> response = searchReindexEndpoint.start("course, Lesson");
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        verify(searchReindexService).start(List.of(CatalogEntityType.COURSE, CatalogEntityType.LESSON));
+    }
+
+    @Test
+    void unknownTypeIsRejected() {
+        assertThatThrownBy(() -> searchReindexEndpoint.start("course,cours"))
+            .isInstanceOf(InvalidEndpointRequestException.class)
+            .hasMessageContaining("cours");
+        verify(searchReindexService, never()).start(anyCollection());
+    }
+}
@@ -0,0 +1,85 @@
+package com.learnwithhamster.service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.enumeration.Language;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import com.learnwithhamster.service.service.dto.CourseDTO;
+import com.learnwithhamster.service.service.dto.LessonDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests for the catalog caches of the {@link CourseService} and {@link LessonService}.
+ * <p>
+ * Not transactional, as the cache puts and evictions wait for the surrounding transaction to commit.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "application.catalog-cache.enabled=true")
+class CatalogCachesIT {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    @Qualifier(CatalogCaches.CACHE_MANAGER)
+    private CacheManager catalogCacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void lessonUpdateEvictsTheCoursesHoldingIt() {
+        LessonDTO lesson = lessonService.save(newLesson());
+        CourseDTO newCourse = newCourse();
+        newCourse.setLessons(Set.of(lesson));
+        CourseDTO course = courseService.save(newCourse);
+        try {
+            assertThat(courseService.findOne(course.getId())).isPresent();
+            assertThat(catalogCacheManager.getCache(CatalogCaches.COURSE).get(course.getId())).isNotNull();
+            assertThat(courseService.findOne(course.getId())).map(CourseDTO::getCourseTitle).contains(course.getCourseTitle());
+
+            lesson.setLessonTitle("Updated title");
+            lessonService.update(lesson);
+
+            assertThat(catalogCacheManager.getCache(CatalogCaches.COURSE).get(course.getId())).isNull();
+        } finally {
+            courseService.delete(course.getId());
+            lessonService.delete(lesson.getId());
+        }
+        assertThat(catalogCacheManager.getCache(CatalogCaches.COURSE).get(course.getId())).isNull();
+    }
+
+    @Test
+    void cacheStatisticsAreExposed() {
+        for (String name : CatalogCaches.NAMES) {
+            assertThat(meterRegistry.find("cache.gets").tag("cache", name).tag("result", "hit").functionCounter()).isNotNull();
+        }
+    }
+
+    private static CourseDTO newCourse() {
+        CourseDTO course = new CourseDTO();
+        course.setCourseTitle("AAAAAAAAAA");
+        course.setCourseDescription("AAAAAAAAAA");
+        course.setCoursePrice(1L);
+        course.setCourseLevel(Level.NOVICE);
+        return course;
+    }
+
+    private static LessonDTO newLesson() {
+        LessonDTO lesson = new LessonDTO();
+        lesson.setLessonTitle("AAAAAAAAAA");
+        lesson.setLessonDescription("AAAAAAAAAA");
+        lesson.setLanguage(Language.ENGLISH);
+        return lesson;
+    }
+}
@@ -0,0 +1,72 @@
+package com.learnwithhamster.service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import com.learnwithhamster.service.management.CatalogWarmUpHealthIndicator;
+import com.learnwithhamster.service.service.dto.CourseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests for the {@link CatalogWarmUpService}.
+ * <p>
+ * Not transactional, as the cache puts and evictions wait for the surrounding transaction to commit.
+ */
+@IntegrationTest
+@TestPropertySource(properties = { "application.catalog-cache.enabled=true", "application.catalog-warm-up.enabled=true" })
+class CatalogWarmUpIT {
+
+    @Autowired
+    private CatalogWarmUpService catalogWarmUpService;
+
+    @Autowired
+    private CatalogWarmUpHealthIndicator catalogWarmUpHealthIndicator;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    @Qualifier(CatalogCaches.CACHE_MANAGER)
+    private CacheManager catalogCacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void warmUpLoadsTheCourses() {
+        CourseDTO course = courseService.save(newCourse());
+        try {
+            assertThat(catalogCacheManager.getCache(CatalogCaches.COURSE).get(course.getId())).isNull();
+
+            // The warm-up started with the application may still be running
+            await().atMost(30, TimeUnit.SECONDS).until(catalogWarmUpService::start);
+            await()
+                .atMost(30, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(catalogCacheManager.getCache(CatalogCaches.COURSE).get(course.getId())).isNotNull());
+
+            assertThat(catalogWarmUpService.isWarmedUp()).isTrue();
+            assertThat(catalogWarmUpHealthIndicator.health().getStatus()).isEqualTo(Status.UP);
+            assertThat(meterRegistry.find(CatalogWarmUpService.DURATION_METER_NAME).timer()).isNotNull();
+        } finally {
+            courseService.delete(course.getId());
+        }
+    }
+
+    private static CourseDTO newCourse() {
+        CourseDTO course = new CourseDTO();
+        course.setCourseTitle("AAAAAAAAAA");
+        course.setCourseDescription("AAAAAAAAAA");
+        course.setCoursePrice(1L);
+        course.setCourseLevel(Level.NOVICE);
+        return course;
+    }
+}
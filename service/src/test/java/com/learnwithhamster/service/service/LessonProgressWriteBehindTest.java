@@ -0,0 +1,150 @@
+package com.learnwithhamster.service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.learnwithhamster.service.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests for the {@link LessonProgressWriteBehind}.
+ */
+class LessonProgressWriteBehindTest {
+
+    private ApplicationProperties applicationProperties;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private UserCourseProgressSummaryService userCourseProgressSummaryService;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getProgressWriteBehind().setEnabled(true);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        userCourseProgressSummaryService = mock(UserCourseProgressSummaryService.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private LessonProgressWriteBehind writeBehind() {
+        return new LessonProgressWriteBehind(applicationProperties, jdbcTemplate, userCourseProgressSummaryService, meterRegistry);
+    }
+
+    @Test
+    void duplicateMarksAreMerged() {
+        LessonProgressWriteBehind writeBehind = writeBehind();
+
+        LessonProgressWriteBehind.Mark first = writeBehind.add("user", 1L, null).orElseThrow();
+        LessonProgressWriteBehind.Mark merged = writeBehind.add("user", 1L, 10L).orElseThrow();
+
+        assertThat(merged.courseId()).isEqualTo(10L);
+        assertThat(merged.startedAt()).isEqualTo(first.startedAt());
+        assertThat(writeBehind.getPending("user")).containsExactly(merged);
+        assertThat(meterRegistry.get(LessonProgressWriteBehind.BUFFER_METER_NAME).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void flushWritesTheMarksWithOneUpsert() {
+        LessonProgressWriteBehind writeBehind = writeBehind();
+        writeBehind.add("user", 1L, 10L);
+        writeBehind.add("user", 2L, null);
+
+        writeBehind.flush();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), parameters.capture());
+        assertThat(sql.getValue()).startsWith("insert into user_lesson_progress").contains("on duplicate key update");
+        assertThat(sql.getValue().split("\\(\\?, \\?, \\?, \\?, true\\)", -1)).hasSize(3);
+        assertThat(parameters.getValue()).hasSize(8).contains("user", 1L, 2L, 10L);
+        verify(userCourseProgressSummaryService).recompute(Map.of("user", Set.of(10L)));
+        assertThat(writeBehind.getPending("user")).isEmpty();
+        assertThat(meterRegistry.get(LessonProgressWriteBehind.BUFFER_METER_NAME).gauge().value()).isZero();
+    }
+
+    @Test
+    void failedFlushRequeuesTheMarks() {
+        LessonProgressWriteBehind writeBehind = writeBehind();
+        LessonProgressWriteBehind.Mark mark = writeBehind.add("user", 1L, 10L).orElseThrow();
+        doThrow(new QueryTimeoutException("timeout")).when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+        writeBehind.flush();
+
+        assertThat(writeBehind.getPending("user")).containsExactly(mark);
+        assertThat(meterRegistry.get(LessonProgressWriteBehind.FAILURES_METER_NAME).counter().count()).isEqualTo(1);
+        verify(userCourseProgressSummaryService, never()).recompute(anyMap());
+
+        doReturn(1).when(jdbcTemplate).update(anyString(), any(Object[].class));
+        writeBehind.flush();
+
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        assertThat(writeBehind.getPending("user")).isEmpty();
+    }
+
+    @Test
+    void marksAreGivenUpAfterMaxAttempts() {
+        applicationProperties.getProgressWriteBehind().setMaxAttempts(2);
+        LessonProgressWriteBehind writeBehind = writeBehind();
+        writeBehind.add("user", 1L, 10L);
+        doThrow(new QueryTimeoutException("timeout")).when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+        writeBehind.flush();
+        assertThat(writeBehind.getPending("user")).hasSize(1);
+        writeBehind.flush();
+
+        assertThat(writeBehind.getPending("user")).isEmpty();
+        assertThat(meterRegistry.get(LessonProgressWriteBehind.DROPPED_METER_NAME).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(LessonProgressWriteBehind.BUFFER_METER_NAME).gauge().value()).isZero();
+        writeBehind.flush();
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void fullBufferRefusesNewMarksWithoutFlushing() {
+        applicationProperties.getProgressWriteBehind().setMaxBuffer(2);
+        LessonProgressWriteBehind writeBehind = writeBehind();
+
+        assertThat(writeBehind.add("user", 1L, null)).isPresent();
+        assertThat(writeBehind.add("other", 1L, null)).isPresent();
+        assertThat(writeBehind.add("third", 1L, null)).isEmpty();
+        // A mark already buffered is still merged
+        assertThat(writeBehind.add("user", 1L, 10L)).hasValueSatisfying(mark -> assertThat(mark.courseId()).isEqualTo(10L));
+
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        assertThat(writeBehind.getPending("third")).isEmpty();
+        assertThat(meterRegistry.get(LessonProgressWriteBehind.OVERFLOW_METER_NAME).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(LessonProgressWriteBehind.BUFFER_METER_NAME).gauge().value()).isEqualTo(2);
+
+        writeBehind.flush();
+        assertThat(writeBehind.add("third", 1L, null)).isPresent();
+    }
+
+    @Test
+    void shutdownDrainsThePendingMarks() {
+        LessonProgressWriteBehind writeBehind = writeBehind();
+        writeBehind.add("user", 1L, null);
+
+        writeBehind.destroy();
+
+        verify(jdbcTemplate).update(anyString(), any(Object[].class));
+        assertThat(writeBehind.getPending("user")).isEmpty();
+    }
+}
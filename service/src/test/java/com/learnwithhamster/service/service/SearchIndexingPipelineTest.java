@@ -0,0 +1,183 @@
+package com.learnwithhamster.service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learnwithhamster.service.config.ApplicationProperties;
+import com.learnwithhamster.service.domain.Lesson;
+import com.learnwithhamster.service.repository.CourseRepository;
+import com.learnwithhamster.service.repository.DisciplineRepository;
+import com.learnwithhamster.service.repository.LessonRepository;
+import com.learnwithhamster.service.repository.ProgramRepository;
+import com.learnwithhamster.service.repository.ResourceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Tests for the {@link SearchIndexingPipeline}.
+ */
+class SearchIndexingPipelineTest {
+
+    private ApplicationProperties applicationProperties;
+
+    private ElasticsearchTemplate elasticsearchTemplate;
+
+    private LessonRepository lessonRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private SearchIndexingPipeline searchIndexingPipeline;
+
+    private final List<List<Long>> savedBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getSearchIndexing().setMaxAttempts(3);
+        elasticsearchTemplate = mock(ElasticsearchTemplate.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lessonRepository = mock(LessonRepository.class);
+        when(lessonRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> new Lesson().id(id)).toList();
+        });
+        meterRegistry = new SimpleMeterRegistry();
+        searchIndexingPipeline = new SearchIndexingPipeline(
+            applicationProperties,
+            elasticsearchTemplate,
+            transactionManager,
+            meterRegistry,
+            mock(DisciplineRepository.class),
+            mock(ProgramRepository.class),
+            mock(CourseRepository.class),
+            lessonRepository,
+            mock(ResourceRepository.class)
+        );
+    }
+
+    private void failFor(Long id, RuntimeException failure) {
+        doAnswer(invocation -> {
+            List<Long> ids = lessonIds(invocation.getArgument(0));
+            if (ids.contains(id)) {
+                throw failure;
+            }
+            savedBatches.add(ids);
+            return invocation.getArgument(0);
+        })
+            .when(elasticsearchTemplate)
+            .save(anyList());
+    }
+
+    private static List<Long> lessonIds(List<Lesson> lessons) {
+        return lessons.stream().map(Lesson::getId).toList();
+    }
+
+    private double queueSize() {
+        return meterRegistry
+            .get(SearchIndexingPipeline.QUEUE_METER_NAME)
+            .tag(SearchIndexingPipeline.TYPE_DIMENSION, "lesson")
+            .gauge()
+            .value();
+    }
+
+    @Test
+    void writesAreIndexedOnFlush() {
+        searchIndexingPipeline.index(CatalogEntityType.LESSON, 1L);
+        searchIndexingPipeline.index(CatalogEntityType.LESSON, 2L);
+        searchIndexingPipeline.index(CatalogEntityType.LESSON, 1L);
+        verify(elasticsearchTemplate, never()).save(anyList());
+        assertThat(queueSize()).isEqualTo(2);
+
+        searchIndexingPipeline.flush();
+
+        verify(lessonRepository, times(1)).findAllById(any());
+        verify(elasticsearchTemplate, times(1)).save(anyList());
+        assertThat(queueSize()).isZero();
+    }
+
+    @Test
+    void failingBatchIsSplitAndTheRejectedDocumentGivenUp() {
+        failFor(3L, new IllegalStateException("Unable to convert"));
+        for (long id = 1; id <= 4; id++) {
+            searchIndexingPipeline.index(CatalogEntityType.LESSON, id);
+        }
+
+        searchIndexingPipeline.flush();
+
+        assertThat(savedBatches.stream().flatMap(List::stream)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(queueSize()).isEqualTo(1);
+
+        searchIndexingPipeline.flush();
+        searchIndexingPipeline.flush();
+
+        assertThat(queueSize()).isZero();
+        searchIndexingPipeline.flush();
+        assertThat(savedBatches.stream().flatMap(List::stream)).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    @Test
+    void bulkFailureRetriesTheRejectedDocumentsOnly() {
+        BulkFailureException.FailureDetails rejected = new BulkFailureException.FailureDetails(400, "mapper_parsing_exception");
+        doThrow(new BulkFailureException("Bulk failure", Map.of("2", rejected)))
+            .when(elasticsearchTemplate)
+            .save(anyList());
+        searchIndexingPipeline.index(CatalogEntityType.LESSON, 1L);
+        searchIndexingPipeline.index(CatalogEntityType.LESSON, 2L);
+
+        searchIndexingPipeline.flush();
+
+        assertThat(queueSize()).isEqualTo(1);
+        searchIndexingPipeline.flush();
+        searchIndexingPipeline.flush();
+        assertThat(queueSize()).isZero();
+        verify(elasticsearchTemplate, times(3)).save(anyList());
+        Counter failures = meterRegistry
+            .get(SearchIndexingPipeline.FAILURES_METER_NAME)
+            .tag(SearchIndexingPipeline.TYPE_DIMENSION, "lesson")
+            .counter();
+        assertThat(failures.count()).isEqualTo(3);
+    }
+
+    @Test
+    void unavailableElasticsearchIsRetriedUntilItRecovers() {
+        failFor(1L, new DataAccessResourceFailureException("Connection refused"));
+        searchIndexingPipeline.index(CatalogEntityType.LESSON, 1L);
+        searchIndexingPipeline.index(CatalogEntityType.LESSON, 2L);
+
+        for (int i = 0; i < 5; i++) {
+            searchIndexingPipeline.flush();
+        }
+
+        // The batch is neither split nor given up
+        assertThat(savedBatches).isEmpty();
+        assertThat(queueSize()).isEqualTo(2);
+
+        failFor(0L, new DataAccessResourceFailureException("Connection refused"));
+        searchIndexingPipeline.flush();
+
+        assertThat(savedBatches).hasSize(1);
+        assertThat(savedBatches.get(0)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(queueSize()).isZero();
+    }
+}
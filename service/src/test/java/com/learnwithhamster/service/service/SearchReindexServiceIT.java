@@ -0,0 +1,74 @@
+package com.learnwithhamster.service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import com.learnwithhamster.service.repository.search.CourseSearchRepository;
+import com.learnwithhamster.service.service.dto.CourseDTO;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * Integration tests for the {@link SearchReindexService}.
+ * <p>
+ * Not transactional, as the reindex reads the committed entities from its own threads.
+ */
+@IntegrationTest
+class SearchReindexServiceIT {
+
+    @Autowired
+    private SearchReindexService searchReindexService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseSearchRepository courseSearchRepository;
+
+    @Autowired
+    private ElasticsearchTemplate elasticsearchTemplate;
+
+    @Test
+    void reindexSwapsTheAliasToTheNewIndex() {
+        CourseDTO course = new CourseDTO();
+        course.setCourseTitle("AAAAAAAAAA");
+        course.setCourseDescription("AAAAAAAAAA");
+        course.setCoursePrice(1L);
+        course.setCourseLevel(Level.NOVICE);
+        course = courseService.save(course);
+        try {
+            IndexOperations aliasOps = elasticsearchTemplate.indexOps(Course.class);
+            String alias = aliasOps.getIndexCoordinates().getIndexName();
+
+            String firstIndex = reindexCourses();
+            assertThat(aliasOps.getAliasesForIndex(alias)).containsOnlyKeys(firstIndex);
+            assertThat(courseSearchRepository.findById(course.getId())).isPresent();
+
+            // The next reindex drops the index it replaces
+            String secondIndex = reindexCourses();
+            assertThat(secondIndex).isNotEqualTo(firstIndex);
+            assertThat(aliasOps.getAliasesForIndex(alias)).containsOnlyKeys(secondIndex);
+            assertThat(elasticsearchTemplate.indexOps(IndexCoordinates.of(firstIndex)).exists()).isFalse();
+            assertThat(courseSearchRepository.findById(course.getId())).isPresent();
+        } finally {
+            courseService.delete(course.getId());
+        }
+    }
+
+    private String reindexCourses() {
+        assertThat(searchReindexService.start(List.of(CatalogEntityType.COURSE))).isTrue();
+        await().atMost(30, TimeUnit.SECONDS).until(() -> !searchReindexService.getStatus().running());
+        SearchReindexService.TypeStatus status = searchReindexService.getStatus().types().get(0);
+        assertThat(status.state()).isEqualTo("DONE");
+        assertThat(status.documents()).isPositive();
+        return status.index();
+    }
+}
@@ -0,0 +1,154 @@
+package com.learnwithhamster.service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link SingleFlightLoader}.
+ */
+class SingleFlightLoaderTest {
+
+    private static final int CALLERS = 8;
+
+    private MeterRegistry meterRegistry;
+
+    private SingleFlightLoader singleFlightLoader;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlightLoader = new SingleFlightLoader(meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentLoadsOfTheSameKeyAreCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(
+                executor.submit(() ->
+                    singleFlightLoader.load(CatalogEntityType.COURSE, 1L, () -> {
+                        loads.incrementAndGet();
+                        waitFor(release);
+                        return "course 1";
+                    })
+                )
+            );
+        }
+        // Every caller but the one running the load waits for it
+        await().atMost(5, TimeUnit.SECONDS).until(() -> coalesced() == CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("course 1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get(SingleFlightLoader.LOADS_METER_NAME).tag("name", "course").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void completedLoadsAreNotKept() {
+        AtomicInteger loads = new AtomicInteger();
+        singleFlightLoader.load(CatalogEntityType.COURSE, 1L, loads::incrementAndGet);
+        singleFlightLoader.load(CatalogEntityType.COURSE, 1L, loads::incrementAndGet);
+        singleFlightLoader.load(CatalogEntityType.LESSON, 1L, loads::incrementAndGet);
+
+        assertThat(loads).hasValue(3);
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    void failedLoadFailsItsCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = executor.submit(() ->
+            singleFlightLoader.load(CatalogEntityType.COURSE, 1L, () -> {
+                waitFor(release);
+                throw new IllegalStateException("Database down");
+            })
+        );
+        await().atMost(5, TimeUnit.SECONDS).until(() -> meterRegistry.find(SingleFlightLoader.LOADS_METER_NAME).counter() != null);
+        Future<Object> follower = executor.submit(() -> singleFlightLoader.load(CatalogEntityType.COURSE, 1L, () -> "not loaded"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> coalesced() == 1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void committedWriteIsNotJoinedByLaterCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> beforeWrite = executor.submit(() ->
+            singleFlightLoader.load(CatalogEntityType.COURSE, 1L, () -> {
+                waitFor(release);
+                return "course 1";
+            })
+        );
+        await().atMost(5, TimeUnit.SECONDS).until(() -> meterRegistry.find(SingleFlightLoader.LOADS_METER_NAME).counter() != null);
+
+        // Lessons are embedded in the courses
+        singleFlightLoader.onCatalogChangeCommitted(new CatalogChangeCommittedEvent(CatalogEntityType.LESSON));
+
+        assertThat(singleFlightLoader.<String>load(CatalogEntityType.COURSE, 1L, () -> "updated course 1")).isEqualTo("updated course 1");
+        assertThat(coalesced()).isZero();
+        release.countDown();
+        assertThat(beforeWrite.get(5, TimeUnit.SECONDS)).isEqualTo("course 1");
+    }
+
+    @Test
+    void unrelatedWriteKeepsTheLoadShared() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() ->
+            singleFlightLoader.load(CatalogEntityType.LESSON, 1L, () -> {
+                waitFor(release);
+                return "lesson 1";
+            })
+        );
+        await().atMost(5, TimeUnit.SECONDS).until(() -> meterRegistry.find(SingleFlightLoader.LOADS_METER_NAME).counter() != null);
+
+        singleFlightLoader.onCatalogChangeCommitted(new CatalogChangeCommittedEvent(CatalogEntityType.DISCIPLINE));
+
+        Future<String> follower = executor.submit(() -> singleFlightLoader.load(CatalogEntityType.LESSON, 1L, () -> "not loaded"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> coalesced() == 1);
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("lesson 1");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("lesson 1");
+    }
+
+    private double coalesced() {
+        return meterRegistry.find(SingleFlightLoader.COALESCED_METER_NAME).counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    private static void waitFor(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.learnwithhamster.service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.UserCourseProgressSummary;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import com.learnwithhamster.service.repository.CourseRepository;
+import com.learnwithhamster.service.repository.UserCourseProgressSummaryRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the {@link UserCourseProgressSummaryService}.
+ * <p>
+ * Not transactional, as the concurrent marks run in their own transactions.
+ */
+@IntegrationTest
+class UserCourseProgressSummaryServiceIT {
+
+    private static final int MARKS = 4;
+
+    @Autowired
+    private UserCourseProgressSummaryService userCourseProgressSummaryService;
+
+    @Autowired
+    private UserCourseProgressSummaryRepository userCourseProgressSummaryRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Test
+    void concurrentFirstMarksShareOneSummary() throws Exception {
+        Course course = courseRepository.save(
+            new Course().courseTitle("AAAAAAAAAA").courseDescription("AAAAAAAAAA").coursePrice(1L).courseLevel(Level.NOVICE)
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(MARKS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> marks = new ArrayList<>();
+            for (int i = 0; i < MARKS; i++) {
+                marks.add(
+                    executor.submit(() -> {
+                        start.await();
+                        userCourseProgressSummaryService.recordProgress("summary-user", course.getId(), true);
+                        return null;
+                    })
+                );
+            }
+            start.countDown();
+            for (Future<?> mark : marks) {
+                mark.get();
+            }
+
+            List<UserCourseProgressSummary> summaries = userCourseProgressSummaryRepository.findByUserLoginAndCourseIdIn(
+                "summary-user",
+                Set.of(course.getId())
+            );
+            assertThat(summaries).singleElement().extracting(UserCourseProgressSummary::getCompletedLessons).isEqualTo(MARKS);
+            userCourseProgressSummaryRepository.deleteAll(summaries);
+        } finally {
+            executor.shutdownNow();
+            courseRepository.delete(course);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.learnwithhamster.service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.UserCourseProgressSummary;
+import com.learnwithhamster.service.domain.UserLessonProgress;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import com.learnwithhamster.service.repository.CourseRepository;
+import com.learnwithhamster.service.repository.UserCourseProgressSummaryRepository;
+import com.learnwithhamster.service.repository.UserLessonProgressRepository;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link UserLessonProgressService}.
+ */
+@IntegrationTest
+@Transactional
+@WithMockUser("progress-user")
+class UserLessonProgressServiceIT {
+
+    @Autowired
+    private UserLessonProgressService userLessonProgressService;
+
+    @Autowired
+    private UserLessonProgressRepository userLessonProgressRepository;
+
+    @Autowired
+    private UserCourseProgressSummaryRepository userCourseProgressSummaryRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Test
+    void lessonCompletedOutsideOfTheCourseCountsOnceAttached() {
+        Course course = courseRepository.save(
+            new Course().courseTitle("AAAAAAAAAA").courseDescription("AAAAAAAAAA").coursePrice(1L).courseLevel(Level.NOVICE)
+        );
+        userLessonProgressRepository.saveAndFlush(
+            new UserLessonProgress().userLogin("progress-user").lessonId(1L).startedAt(Instant.now()).completed(true)
+        );
+
+        userLessonProgressService.markProgress(1L, course.getId());
+        // Marking it again in the course does not count it twice
+        userLessonProgressService.markProgress(1L, course.getId());
+
+        assertThat(userLessonProgressRepository.findByUserLoginAndLessonId("progress-user", 1L))
+            .hasValueSatisfying(progress -> assertThat(progress.getCourseId()).isEqualTo(course.getId()));
+        assertThat(userCourseProgressSummaryRepository.findByUserLoginAndCourseIdIn("progress-user", Set.of(course.getId())))
+            .singleElement()
+            .extracting(UserCourseProgressSummary::getCompletedLessons)
+            .isEqualTo(1);
+    }
+}
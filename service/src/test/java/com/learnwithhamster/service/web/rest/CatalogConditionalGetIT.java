@@ -0,0 +1,77 @@
+package com.learnwithhamster.service.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.enumeration.Level;
+import com.learnwithhamster.service.service.CourseService;
+import com.learnwithhamster.service.service.dto.CourseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the conditional reads of the catalog resources, with the catalog caches enabled.
+ * <p>
+ * Not transactional, as the versions are stamped and the caches evicted once the writes commit.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+@TestPropertySource(properties = "application.catalog-cache.enabled=true")
+class CatalogConditionalGetIT {
+
+    private static final String ENTITY_API_URL_ID = "/api/courses/{id}";
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private MockMvc restCourseMockMvc;
+
+    @Test
+    void writeChangesBothTheEntityTagAndTheBody() throws Exception {
+        CourseDTO course = new CourseDTO();
+        course.setCourseTitle("AAAAAAAAAA");
+        course.setCourseDescription("AAAAAAAAAA");
+        course.setCoursePrice(1L);
+        course.setCourseLevel(Level.NOVICE);
+        course = courseService.save(course);
+        try {
+            // Caches the course
+            String eTag = restCourseMockMvc
+                .perform(get(ENTITY_API_URL_ID, course.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courseTitle").value("AAAAAAAAAA"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+            assertThat(eTag).isNotBlank();
+            restCourseMockMvc
+                .perform(get(ENTITY_API_URL_ID, course.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+            course.setCourseTitle("BBBBBBBBBB");
+            courseService.update(course);
+
+            // The new version is never served with the DTO cached before the write
+            String newETag = restCourseMockMvc
+                .perform(get(ENTITY_API_URL_ID, course.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courseTitle").value("BBBBBBBBBB"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+            assertThat(newETag).isNotBlank().isNotEqualTo(eTag);
+        } finally {
+            courseService.delete(course.getId());
+        }
+    }
+}
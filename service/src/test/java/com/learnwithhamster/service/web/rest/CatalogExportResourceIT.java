@@ -0,0 +1,126 @@
+package com.learnwithhamster.service.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.repository.CourseRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the {@link CatalogExportResource} REST controller.
+ * <p>
+ * The exports read through their own connection, so the tests commit their data instead of running in a transaction.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class CatalogExportResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/courses/export";
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private MockMvc restCatalogExportMockMvc;
+
+    private Course course;
+
+    @BeforeEach
+    void initTest() {
+        course = courseRepository.saveAndFlush(CourseResourceIT.createEntity());
+    }
+
+    @AfterEach
+    void cleanup() {
+        courseRepository.delete(course);
+    }
+
+    @Test
+    void exportCourses() throws Exception {
+        MvcResult result = restCatalogExportMockMvc.perform(get(ENTITY_API_URL)).andExpect(request().asyncStarted()).andReturn();
+
+        byte[] body = restCatalogExportMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        assertExported(new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportCoursesWithGzipRefused() throws Exception {
+        MvcResult result = restCatalogExportMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        byte[] body = restCatalogExportMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        assertExported(new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportCoursesGzipped() throws Exception {
+        MvcResult result = restCatalogExportMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        byte[] body = restCatalogExportMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertExported(new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private void assertExported(String ndjson) throws Exception {
+        assertThat(ndjson).endsWith("\n");
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            rows.add(om.readTree(line));
+        }
+        assertThat(rows).extracting(row -> row.get("id").asLong()).isSorted().contains(course.getId());
+        JsonNode row = rows.stream().filter(node -> node.get("id").asLong() == course.getId()).findFirst().orElseThrow();
+        assertThat(row.get("courseTitle").asText()).isEqualTo(course.getCourseTitle());
+        assertThat(row.get("courseLevel").asText()).isEqualTo(course.getCourseLevel().name());
+    }
+}
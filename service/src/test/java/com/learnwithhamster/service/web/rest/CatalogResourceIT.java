@@ -0,0 +1,106 @@
+package com.learnwithhamster.service.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.Discipline;
+import com.learnwithhamster.service.domain.Lesson;
+import com.learnwithhamster.service.domain.Program;
+import com.learnwithhamster.service.service.CatalogChangeCommittedEvent;
+import com.learnwithhamster.service.service.CatalogEntityType;
+import com.learnwithhamster.service.service.CatalogSnapshotService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link CatalogResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class CatalogResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/catalog";
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restCatalogMockMvc;
+
+    @Test
+    @Transactional
+    void getCatalog() throws Exception {
+        // Initialize the database
+        Lesson lesson = LessonResourceIT.createEntity();
+        em.persist(lesson);
+        Course course = CourseResourceIT.createEntity().addLessons(lesson);
+        em.persist(course);
+        Program program = ProgramResourceIT.createEntity().addCourses(course);
+        em.persist(program);
+        Discipline discipline = DisciplineResourceIT.createEntity().addPrograms(program);
+        em.persist(discipline);
+        em.flush();
+        // The test transaction never commits, so announce the write by hand
+        catalogSnapshotService.onCatalogChangeCommitted(new CatalogChangeCommittedEvent(CatalogEntityType.DISCIPLINE));
+
+        // Get the catalog
+        String eTag = restCatalogMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+            .andExpect(jsonPath("$.disciplines[?(@.id == %d)].courseCount", discipline.getId()).value(1))
+            .andExpect(jsonPath("$.disciplines[?(@.id == %d)].programs[0].id", discipline.getId()).value(program.getId().intValue()))
+            .andExpect(
+                jsonPath("$.disciplines[?(@.id == %d)].programs[0].courses[0].id", discipline.getId()).value(course.getId().intValue())
+            )
+            .andExpect(jsonPath("$.disciplines[?(@.id == %d)].programs[0].courses[0].lessonCount", discipline.getId()).value(1))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        // An unchanged catalog is not sent again
+        restCatalogMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @Transactional
+    void getCatalogGzipped() throws Exception {
+        String identityETag = restCatalogMockMvc.perform(get(ENTITY_API_URL)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        restCatalogMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.ETAG, not(identityETag)));
+    }
+
+    @Test
+    @Transactional
+    void getCatalogWithGzipRefused() throws Exception {
+        restCatalogMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.ACCEPT_ENCODING, "GZIP;q=0, *;q=0.5"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE));
+    }
+}
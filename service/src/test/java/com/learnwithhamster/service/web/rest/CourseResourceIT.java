@@ -12,6 +12,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.learnwithhamster.service.IntegrationTest;
 import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.Lesson;
+import com.learnwithhamster.service.domain.Program;
+import com.learnwithhamster.service.domain.Resource;
 import com.learnwithhamster.service.domain.enumeration.Level;
 import com.learnwithhamster.service.repository.CourseRepository;
 import com.learnwithhamster.service.repository.search.CourseSearchRepository;
@@ -36,6 +39,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.util.Streamable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -231,6 +235,29 @@ class CourseResourceIT {
             .andExpect(jsonPath("$.[*].courseLevel").value(hasItem(DEFAULT_COURSE_LEVEL.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllCoursesWithFields() throws Exception {
+        // Initialize the database
+        insertedCourse = courseRepository.saveAndFlush(course);
+
+        // Get only the fields of the course cards
+        restCourseMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&fields=id,courseTitle,coursePrice,courseLevel"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().exists(HttpHeaders.LINK))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(course.getId().intValue())))
+            .andExpect(jsonPath("$.[*].courseTitle").value(hasItem(DEFAULT_COURSE_TITLE)))
+            .andExpect(jsonPath("$.[*].coursePrice").value(hasItem(DEFAULT_COURSE_PRICE.intValue())))
+            .andExpect(jsonPath("$.[*].courseLevel").value(hasItem(DEFAULT_COURSE_LEVEL.toString())))
+            .andExpect(jsonPath("$.[0].courseDescription").doesNotExist())
+            .andExpect(jsonPath("$.[0].lessons").doesNotExist());
+
+        restCourseMockMvc.perform(get(ENTITY_API_URL + "?fields=id,lessons")).andExpect(status().isBadRequest());
+        restCourseMockMvc.perform(get(ENTITY_API_URL + "?fields=id&sort=lessons,asc")).andExpect(status().isBadRequest());
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllCoursesWithEagerRelationshipsIsEnabled() throws Exception {
         when(courseServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
@@ -248,6 +275,27 @@ class CourseResourceIT {
         verify(courseRepositoryMock, times(1)).findAll(any(Pageable.class));
     }
 
+    @Test
+    @Transactional
+    void getAllCoursesWithRelationshipIds() throws Exception {
+        // Initialize the database
+        Lesson lesson = LessonResourceIT.createEntity();
+        em.persist(lesson);
+        em.persist(course.addLessons(lesson));
+        Program program = ProgramResourceIT.createEntity().addCourses(course);
+        em.persist(program);
+        em.flush();
+
+        // Get the page holding the course, its relationships are read from the join tables
+        restCourseMockMvc
+            .perform(get(ENTITY_API_URL + "?eagerload=true&sort=id,desc&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(course.getId().intValue()))
+            .andExpect(jsonPath("$.[0].courseTitle").value(DEFAULT_COURSE_TITLE))
+            .andExpect(jsonPath("$.[0].lessons[*].id").value(hasItem(lesson.getId().intValue())))
+            .andExpect(jsonPath("$.[0].programs[*].id").value(hasItem(program.getId().intValue())));
+    }
+
     @Test
     @Transactional
     void getCourse() throws Exception {
@@ -266,6 +314,69 @@ class CourseResourceIT {
             .andExpect(jsonPath("$.courseLevel").value(DEFAULT_COURSE_LEVEL.toString()));
     }
 
+    @Test
+    @Transactional
+    void getCourseNotModified() throws Exception {
+        // Initialize the database
+        insertedCourse = courseRepository.saveAndFlush(course);
+
+        String eTag = restCourseMockMvc
+            .perform(get(ENTITY_API_URL_ID, course.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // The course was not written since, the copy of the client is current
+        restCourseMockMvc
+            .perform(get(ENTITY_API_URL_ID, course.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        restCourseMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, "W/\"course-0\""))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional
+    void getCourseDetail() throws Exception {
+        // Initialize the database
+        Lesson lesson = LessonResourceIT.createEntity();
+        em.persist(lesson);
+        insertedCourse = courseRepository.saveAndFlush(course.addLessons(lesson));
+        Resource heavyLessonResource = ResourceResourceIT.createEntity().weight(2).lesson(lesson);
+        Resource lightLessonResource = ResourceResourceIT.createEntity().weight(1).lesson(lesson);
+        Resource courseResource = ResourceResourceIT.createEntity().weight(0).course(course);
+        em.persist(heavyLessonResource);
+        em.persist(lightLessonResource);
+        em.persist(courseResource);
+        em.flush();
+
+        // Get the course detail
+        restCourseMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/detail", course.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(course.getId().intValue()))
+            .andExpect(jsonPath("$.courseTitle").value(DEFAULT_COURSE_TITLE))
+            .andExpect(jsonPath("$.lessons.length()").value(1))
+            .andExpect(jsonPath("$.lessons[0].id").value(lesson.getId().intValue()))
+            .andExpect(jsonPath("$.lessons[0].resources[0].id").value(lightLessonResource.getId().intValue()))
+            .andExpect(jsonPath("$.lessons[0].resources[1].id").value(heavyLessonResource.getId().intValue()))
+            .andExpect(jsonPath("$.resources.length()").value(1))
+            .andExpect(jsonPath("$.resources[0].id").value(courseResource.getId().intValue()))
+            .andExpect(jsonPath("$.enrolled").value(false));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingCourseDetail() throws Exception {
+        restCourseMockMvc.perform(get(ENTITY_API_URL_ID + "/detail", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void getNonExistingCourse() throws Exception {
@@ -4,6 +4,8 @@ import static com.learnwithhamster.service.domain.LessonAsserts.*;
 import static com.learnwithhamster.service.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -17,6 +19,7 @@ import com.learnwithhamster.service.repository.LessonRepository;
 import com.learnwithhamster.service.repository.search.LessonSearchRepository;
 import com.learnwithhamster.service.service.dto.LessonDTO;
 import com.learnwithhamster.service.service.mapper.LessonMapper;
+import com.learnwithhamster.service.web.rest.util.KeysetPaginationUtil;
 import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Random;
@@ -29,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.data.util.Streamable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -205,6 +209,33 @@ class LessonResourceIT {
             .andExpect(jsonPath("$.[*].language").value(hasItem(DEFAULT_LANGUAGE.toString())));
     }
 
+    @Test
+    @Transactional
+    void getLessonsAfterCursor() throws Exception {
+        // Initialize the database
+        insertedLesson = lessonRepository.saveAndFlush(lesson);
+        Lesson second = lessonRepository.saveAndFlush(createEntity());
+        Lesson third = lessonRepository.saveAndFlush(createEntity());
+
+        // Get the first slice, with a link to the next one
+        restLessonMockMvc
+            .perform(get(ENTITY_API_URL + "?after=" + KeysetPaginationUtil.encode(lesson.getId() - 1) + "&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(lesson.getId().intValue(), second.getId().intValue())))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + KeysetPaginationUtil.encode(second.getId()))))
+            .andExpect(header().doesNotExist("X-Total-Count"));
+
+        // Get the last slice, without a link
+        restLessonMockMvc
+            .perform(get(ENTITY_API_URL + "?after=" + KeysetPaginationUtil.encode(second.getId()) + "&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(third.getId().intValue())))
+            .andExpect(header().doesNotExist(HttpHeaders.LINK));
+
+        restLessonMockMvc.perform(get(ENTITY_API_URL + "?after=not-a-cursor")).andExpect(status().isBadRequest());
+        restLessonMockMvc.perform(get(ENTITY_API_URL + "?after=&size=0")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getLesson() throws Exception {
@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.Lesson;
 import com.learnwithhamster.service.domain.Resource;
 import com.learnwithhamster.service.domain.enumeration.ResourceType;
 import com.learnwithhamster.service.repository.ResourceRepository;
@@ -208,6 +209,45 @@ class ResourceResourceIT {
             .andExpect(jsonPath("$.[*].weight").value(hasItem(DEFAULT_WEIGHT)));
     }
 
+    @Test
+    @Transactional
+    void getAllResourcesByLessonIdOrderedByWeight() throws Exception {
+        // Initialize the database
+        Lesson lesson = LessonResourceIT.createEntity();
+        em.persist(lesson);
+        Resource heavyVideo = createEntity().resourceType(ResourceType.VIDEO).weight(5).lesson(lesson);
+        Resource lightTutorial = createEntity().resourceType(ResourceType.TUTORIAL).weight(1).lesson(lesson);
+        Resource image = createEntity().resourceType(ResourceType.IMAGE).weight(0).lesson(lesson);
+        em.persist(heavyVideo);
+        em.persist(lightTutorial);
+        em.persist(image);
+        insertedResource = resourceRepository.saveAndFlush(resource);
+
+        // Get the resources of the lesson
+        restResourceMockMvc
+            .perform(get(ENTITY_API_URL + "?lessonId={lessonId}", lesson.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$.[0].id").value(image.getId().intValue()))
+            .andExpect(jsonPath("$.[1].id").value(lightTutorial.getId().intValue()))
+            .andExpect(jsonPath("$.[2].id").value(heavyVideo.getId().intValue()));
+
+        // Get only the rendered types
+        restResourceMockMvc
+            .perform(get(ENTITY_API_URL + "?lessonId={lessonId}&resourceType=VIDEO,TUTORIAL", lesson.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$.[0].id").value(lightTutorial.getId().intValue()))
+            .andExpect(jsonPath("$.[1].id").value(heavyVideo.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    void getAllResourcesWithSeveralOwnersIsRejected() throws Exception {
+        restResourceMockMvc.perform(get(ENTITY_API_URL + "?lessonId=1&courseId=1")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getResource() throws Exception {
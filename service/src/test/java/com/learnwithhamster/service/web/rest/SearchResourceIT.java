@@ -0,0 +1,96 @@
+package com.learnwithhamster.service.web.rest;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.Lesson;
+import com.learnwithhamster.service.repository.CourseRepository;
+import com.learnwithhamster.service.repository.LessonRepository;
+import com.learnwithhamster.service.repository.search.CourseSearchRepository;
+import com.learnwithhamster.service.repository.search.LessonSearchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link SearchResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class SearchResourceIT {
+
+    private static final String SUGGEST_API_URL = "/api/search/suggest";
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseSearchRepository courseSearchRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private LessonSearchRepository lessonSearchRepository;
+
+    @Autowired
+    private MockMvc restSearchMockMvc;
+
+    private Course insertedCourse;
+
+    private Lesson insertedLesson;
+
+    @AfterEach
+    public void cleanup() {
+        if (insertedCourse != null) {
+            courseRepository.delete(insertedCourse);
+            courseSearchRepository.delete(insertedCourse);
+            insertedCourse = null;
+        }
+        if (insertedLesson != null) {
+            lessonRepository.delete(insertedLesson);
+            lessonSearchRepository.delete(insertedLesson);
+            insertedLesson = null;
+        }
+    }
+
+    @Test
+    @Transactional
+    void suggestAcrossIndexes() throws Exception {
+        // Initialize the database
+        insertedCourse = courseRepository.saveAndFlush(CourseResourceIT.createEntity().courseTitle("Quixotic gardening basics"));
+        courseSearchRepository.save(insertedCourse);
+        insertedLesson = lessonRepository.saveAndFlush(LessonResourceIT.createEntity().lessonTitle("Quixotic gardening tools"));
+        lessonSearchRepository.save(insertedLesson);
+
+        // Suggest on a partial word
+        restSearchMockMvc
+            .perform(get(SUGGEST_API_URL + "?q=quixotic gard"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[?(@.type == 'COURSE')].id").value(hasItem(insertedCourse.getId().intValue())))
+            .andExpect(jsonPath("$.[?(@.type == 'COURSE')].title").value(hasItem("Quixotic gardening basics")))
+            .andExpect(jsonPath("$.[?(@.type == 'LESSON')].id").value(hasItem(insertedLesson.getId().intValue())));
+
+        // The number of suggestions is capped by the requested size
+        restSearchMockMvc
+            .perform(get(SUGGEST_API_URL + "?q=quixotic&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void suggestBlankQuery() throws Exception {
+        restSearchMockMvc.perform(get(SUGGEST_API_URL + "?q= ")).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(0)));
+    }
+}
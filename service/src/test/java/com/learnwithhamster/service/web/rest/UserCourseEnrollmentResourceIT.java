@@ -0,0 +1,119 @@
+package com.learnwithhamster.service.web.rest;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.Lesson;
+import jakarta.persistence.EntityManager;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link UserCourseEnrollmentResource} and {@link MyLearningResource} REST controllers.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class UserCourseEnrollmentResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/user-course-enrollment";
+    private static final String LEARNING_API_URL = "/api/me/learning";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restUserCourseEnrollmentMockMvc;
+
+    @Test
+    @Transactional
+    void enrollAllAndGetMyLearning() throws Exception {
+        // Initialize the database
+        Lesson lesson = LessonResourceIT.createEntity();
+        em.persist(lesson);
+        Course firstCourse = CourseResourceIT.createEntity().addLessons(lesson);
+        em.persist(firstCourse);
+        Course secondCourse = CourseResourceIT.createEntity();
+        em.persist(secondCourse);
+        em.flush();
+
+        // Enroll twice in the first course, once in the second and in a course that does not exist
+        List<Long> courseIds = List.of(firstCourse.getId(), firstCourse.getId(), secondCourse.getId(), Long.MAX_VALUE);
+        restUserCourseEnrollmentMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(new UserCourseEnrollmentResource.BatchEnrollRequest(courseIds)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(
+                jsonPath("$.[*].courseId").value(containsInAnyOrder(firstCourse.getId().intValue(), secondCourse.getId().intValue()))
+            );
+
+        // Enrolling again is a no-op
+        restUserCourseEnrollmentMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(new UserCourseEnrollmentResource.BatchEnrollRequest(courseIds)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)));
+
+        restUserCourseEnrollmentMockMvc
+            .perform(get(LEARNING_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$[?(@.courseId == %d)].courseTitle", firstCourse.getId()).value(firstCourse.getCourseTitle()))
+            .andExpect(jsonPath("$[?(@.courseId == %d)].completedLessons", firstCourse.getId()).value(0))
+            .andExpect(jsonPath("$[?(@.courseId == %d)].totalLessons", firstCourse.getId()).value(1))
+            .andExpect(jsonPath("$[?(@.courseId == %d)].totalLessons", secondCourse.getId()).value(0));
+    }
+
+    @Test
+    @Transactional
+    void enrollAllWithTooManyCourses() throws Exception {
+        List<Long> courseIds = LongStream.rangeClosed(1, 101).boxed().toList();
+        restUserCourseEnrollmentMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(new UserCourseEnrollmentResource.BatchEnrollRequest(courseIds)))
+            )
+            .andExpect(status().isBadRequest());
+
+        restUserCourseEnrollmentMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(new UserCourseEnrollmentResource.BatchEnrollRequest(Collections.emptyList())))
+            )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void enrollAllWithNullCourse() throws Exception {
+        restUserCourseEnrollmentMockMvc
+            .perform(post(ENTITY_API_URL + "/batch").contentType(MediaType.APPLICATION_JSON).content("{\"courseIds\":[null]}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.courseidnull"));
+    }
+}
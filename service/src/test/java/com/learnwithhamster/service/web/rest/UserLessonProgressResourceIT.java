@@ -0,0 +1,84 @@
+package com.learnwithhamster.service.web.rest;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learnwithhamster.service.IntegrationTest;
+import com.learnwithhamster.service.domain.Course;
+import com.learnwithhamster.service.domain.Lesson;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link UserLessonProgressResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class UserLessonProgressResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/user-lesson-progress";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restUserLessonProgressMockMvc;
+
+    @Test
+    @Transactional
+    void getCourseProgressSummaries() throws Exception {
+        // Initialize the database
+        Lesson firstLesson = LessonResourceIT.createEntity();
+        em.persist(firstLesson);
+        Lesson secondLesson = LessonResourceIT.createEntity();
+        em.persist(secondLesson);
+        Course course = CourseResourceIT.createEntity().addLessons(firstLesson).addLessons(secondLesson);
+        em.persist(course);
+        em.flush();
+
+        // Marking the same lesson twice counts it once
+        mark(firstLesson, course);
+        mark(firstLesson, course);
+        restUserLessonProgressMockMvc
+            .perform(get(ENTITY_API_URL + "/summary?courseIds=" + course.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$.[0].courseId").value(course.getId().intValue()))
+            .andExpect(jsonPath("$.[0].completedLessons").value(1))
+            .andExpect(jsonPath("$.[0].totalLessons").value(2))
+            .andExpect(jsonPath("$.[0].completedAt").value(nullValue()));
+
+        mark(secondLesson, course);
+        restUserLessonProgressMockMvc
+            .perform(get(ENTITY_API_URL + "/summary?courseIds=" + course.getId() + "," + Long.MAX_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$.[0].completedLessons").value(2))
+            .andExpect(jsonPath("$.[0].completedAt").value(notNullValue()));
+    }
+
+    private void mark(Lesson lesson, Course course) throws Exception {
+        restUserLessonProgressMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/mark")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(new UserLessonProgressResource.MarkProgressRequest(lesson.getId(), course.getId())))
+            )
+            .andExpect(status().isOk());
+    }
+}
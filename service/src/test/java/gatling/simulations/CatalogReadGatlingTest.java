@@ -0,0 +1,118 @@
+package gatling.simulations;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.rampUsers;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.header;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Benchmark of the hot catalog reads, to compare the read latency with and without the near cache.
+ * <p>
+ * A single user first creates {@code courses} courses, then {@code users} users each read {@code reads} random
+ * courses by id. Run it against a cluster of at least two members, once with {@code application.near-cache.enabled}
+ * set to {@code false} (every cache hit owned by another member pays a network hop and a deserialization) and once
+ * with it set to {@code true}, and compare the "Get course" response times.
+ *
+ * @see <a href="https://github.com/jhipster/generator-jhipster/tree/v8.11.0/generators/gatling#logging-tips">Logging tips</a>
+ */
+public class CatalogReadGatlingTest extends Simulation {
+
+    String baseURL = Optional.ofNullable(System.getProperty("baseURL")).orElse("http://localhost:8080");
+
+    int courses = Integer.getInteger("courses", 100);
+
+    int reads = Integer.getInteger("reads", 500);
+
+    List<Long> courseIds = new CopyOnWriteArrayList<>();
+
+    HttpProtocolBuilder httpConf = http
+        .baseUrl(baseURL)
+        .acceptHeader("*/*")
+        .acceptEncodingHeader("gzip, deflate")
+        .connectionHeader("keep-alive")
+        .userAgentHeader("Mozilla/5.0 (Macintosh; Intel Mac OS X 10.10; rv:33.0) Gecko/20100101 Firefox/33.0");
+
+    Map<String, String> headersHttpAuthentication = Map.of("Content-Type", "application/json", "Accept", "application/json");
+
+    Map<String, String> headersHttpAuthenticated = Map.of("Accept", "application/json", "Authorization", "${access_token}");
+
+    ChainBuilder authenticate = exec(
+        http("Authentication")
+            .post("/api/authenticate")
+            .headers(headersHttpAuthentication)
+            .body(StringBody("{\"username\":\"admin\", \"password\":\"admin\"}"))
+            .asJson()
+            .check(header("Authorization").saveAs("access_token"))
+    ).exitHereIfFailed();
+
+    ScenarioBuilder seed = scenario("Seed the courses").exec(
+        authenticate
+            .repeat(courses)
+            .on(
+                exec(
+                    http("Create course")
+                        .post("/services/service/api/courses")
+                        .headers(headersHttpAuthenticated)
+                        .body(
+                            StringBody(
+                                "{" +
+                                "\"courseTitle\": \"SAMPLE_TEXT\"" +
+                                ", \"courseDescription\": \"SAMPLE_TEXT\"" +
+                                ", \"coursePrice\": 0" +
+                                ", \"courseLevel\": \"NOVICE\"" +
+                                "}"
+                            )
+                        )
+                        .asJson()
+                        .check(status().is(201))
+                        .check(jsonPath("$.id").ofLong().saveAs("course_id"))
+                ).exec(session -> {
+                    courseIds.add(session.getLong("course_id"));
+                    return session;
+                })
+            )
+    );
+
+    ScenarioBuilder read = scenario("Read random courses").exec(
+        authenticate
+            .pause(1)
+            .repeat(reads)
+            .on(
+                exec(session -> session.set("course_id", courseIds.get(ThreadLocalRandom.current().nextInt(courseIds.size())))).exec(
+                    http("Get course")
+                        .get("/services/service/api/courses/${course_id}")
+                        .headers(headersHttpAuthenticated)
+                        .check(status().is(200))
+                )
+            )
+    );
+
+    {
+        setUp(
+            seed
+                .injectOpen(atOnceUsers(1))
+                .andThen(
+                    read.injectOpen(rampUsers(Integer.getInteger("users", 20)).during(Duration.ofSeconds(Integer.getInteger("ramp", 10))))
+                )
+        )
+            .protocols(httpConf)
+            .assertions(global().failedRequests().count().is(0L));
+    }
+}
@@ -0,0 +1,186 @@
+package gatling.simulations;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.rampUsers;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.header;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark of the course pages loaded with their relationships ({@code eagerload=true}).
+ * <p>
+ * A single user first creates {@code courses} courses (10000 by default) in programs of {@code coursesPerProgram}
+ * courses sharing {@code lessonsPerCourse} lessons, then {@code users} users walk through the pages of
+ * {@code pageSize} courses.
+ * Run it against the same data before and after a change of the paged fetch to compare the response times.
+ *
+ * @see <a href="https://github.com/jhipster/generator-jhipster/tree/v8.11.0/generators/gatling#logging-tips">Logging tips</a>
+ */
+public class CourseEagerPageGatlingTest extends Simulation {
+
+    String baseURL = Optional.ofNullable(System.getProperty("baseURL")).orElse("http://localhost:8080");
+
+    int courses = Integer.getInteger("courses", 10000);
+
+    int lessonsPerCourse = Integer.getInteger("lessonsPerCourse", 5);
+
+    int coursesPerProgram = Integer.getInteger("coursesPerProgram", 20);
+
+    int pageSize = Integer.getInteger("pageSize", 20);
+
+    HttpProtocolBuilder httpConf = http
+        .baseUrl(baseURL)
+        .acceptHeader("*/*")
+        .acceptEncodingHeader("gzip, deflate")
+        .connectionHeader("keep-alive")
+        .userAgentHeader("Mozilla/5.0 (Macintosh; Intel Mac OS X 10.10; rv:33.0) Gecko/20100101 Firefox/33.0");
+
+    Map<String, String> headersHttpAuthentication = Map.of("Content-Type", "application/json", "Accept", "application/json");
+
+    Map<String, String> headersHttpAuthenticated = Map.of("Accept", "application/json", "Authorization", "${access_token}");
+
+    ChainBuilder authenticate = exec(
+        http("Authentication")
+            .post("/api/authenticate")
+            .headers(headersHttpAuthentication)
+            .body(StringBody("{\"username\":\"admin\", \"password\":\"admin\"}"))
+            .asJson()
+            .check(header("Authorization").saveAs("access_token"))
+    ).exitHereIfFailed();
+
+    ChainBuilder createLessons = exec(session -> session.set("lesson_ids", new ArrayList<Long>()))
+        .repeat(lessonsPerCourse)
+        .on(
+            exec(
+                http("Create lesson")
+                    .post("/services/service/api/lessons")
+                    .headers(headersHttpAuthenticated)
+                    .body(
+                        StringBody(
+                            "{" +
+                            "\"lessonTitle\": \"SAMPLE_TEXT\"" +
+                            ", \"lessonDescription\": \"SAMPLE_TEXT\"" +
+                            ", \"language\": \"ENGLISH\"" +
+                            "}"
+                        )
+                    )
+                    .asJson()
+                    .check(status().is(201))
+                    .check(jsonPath("$.id").ofLong().saveAs("lesson_id"))
+            ).exec(session -> {
+                List<Long> lessonIds = new ArrayList<>(session.getList("lesson_ids"));
+                lessonIds.add(session.getLong("lesson_id"));
+                return session.set("lesson_ids", lessonIds);
+            })
+        );
+
+    ChainBuilder createCourse = exec(
+        http("Create course")
+            .post("/services/service/api/courses")
+            .headers(headersHttpAuthenticated)
+            .body(StringBody(this::courseBody))
+            .asJson()
+            .check(status().is(201))
+            .check(jsonPath("$.id").ofLong().saveAs("course_id"))
+    ).exec(session -> {
+        List<Long> courseIds = new ArrayList<>(session.getList("course_ids"));
+        courseIds.add(session.getLong("course_id"));
+        return session.set("course_ids", courseIds);
+    });
+
+    ChainBuilder createProgram = exec(
+        http("Create program")
+            .post("/services/service/api/programs")
+            .headers(headersHttpAuthenticated)
+            .body(StringBody(session -> programBody(session.getList("course_ids"))))
+            .asJson()
+            .check(status().is(201))
+    ).exec(session -> session.set("course_ids", new ArrayList<Long>()));
+
+    ScenarioBuilder seed = scenario("Seed the courses").exec(
+        authenticate
+            .exec(session -> session.set("course_ids", new ArrayList<Long>()))
+            .repeat(courses / coursesPerProgram)
+            .on(repeatCourses())
+    );
+
+    ScenarioBuilder browse = scenario("Browse the course pages with their relationships").exec(
+        authenticate
+            .pause(1)
+            .repeat(Math.max(1, courses / pageSize), "page")
+            .on(
+                exec(
+                    http("Get course page with relationships")
+                        .get("/services/service/api/courses?eagerload=true&sort=id,asc&size=" + pageSize + "&page=${page}")
+                        .headers(headersHttpAuthenticated)
+                        .check(status().is(200))
+                )
+            )
+    );
+
+    {
+        setUp(
+            seed
+                .injectOpen(atOnceUsers(1))
+                .andThen(
+                    browse.injectOpen(rampUsers(Integer.getInteger("users", 10)).during(Duration.ofSeconds(Integer.getInteger("ramp", 10))))
+                )
+        )
+            .protocols(httpConf)
+            .assertions(global().failedRequests().count().is(0L));
+    }
+
+    private ChainBuilder repeatCourses() {
+        return exec(createLessons).repeat(coursesPerProgram).on(createCourse).exec(createProgram);
+    }
+
+    private String courseBody(Session session) {
+        String lessons = session
+            .<Long>getList("lesson_ids")
+            .stream()
+            .map(id -> "{\"id\": " + id + "}")
+            .collect(Collectors.joining(", "));
+        return (
+            "{" +
+            "\"courseTitle\": \"SAMPLE_TEXT\"" +
+            ", \"courseDescription\": \"SAMPLE_TEXT\"" +
+            ", \"coursePrice\": 0" +
+            ", \"courseLevel\": \"NOVICE\"" +
+            ", \"lessons\": [" +
+            lessons +
+            "]" +
+            "}"
+        );
+    }
+
+    private static String programBody(List<Long> courseIds) {
+        String courses = courseIds.stream().map(id -> "{\"id\": " + id + "}").collect(Collectors.joining(", "));
+        return (
+            "{" +
+            "\"programName\": \"SAMPLE_TEXT\"" +
+            ", \"programDescription\": \"SAMPLE_TEXT\"" +
+            ", \"programPrice\": 0" +
+            ", \"courses\": [" +
+            courses +
+            "]" +
+            "}"
+        );
+    }
+}
@@ -0,0 +1,145 @@
+package gatling.simulations;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.details;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.rampUsers;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.header;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+import com.learnwithhamster.service.web.rest.util.KeysetPaginationUtil;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Benchmark of the lesson listing read by offset ({@code ?page=}) and by cursor ({@code ?after=}).
+ * <p>
+ * A single user first creates {@code lessons} lessons (100000 by default, none with {@code -Dlessons=0} to reuse the
+ * data of a previous run), then {@code users} users read the first page and the page {@code page} (5000 by default)
+ * of {@code pageSize} lessons, both by offset and by cursor. The offset reads slow down with the page number, the
+ * cursor reads do not: the run fails if the 95th percentile of the deep cursor reads exceeds {@code maxSliceMillis}.
+ *
+ * @see <a href="https://github.com/jhipster/generator-jhipster/tree/v8.11.0/generators/gatling#logging-tips">Logging tips</a>
+ */
+public class LessonKeysetPageGatlingTest extends Simulation {
+
+    String baseURL = Optional.ofNullable(System.getProperty("baseURL")).orElse("http://localhost:8080");
+
+    int lessons = Integer.getInteger("lessons", 100000);
+
+    int page = Integer.getInteger("page", 5000);
+
+    int pageSize = Integer.getInteger("pageSize", 20);
+
+    HttpProtocolBuilder httpConf = http
+        .baseUrl(baseURL)
+        .acceptHeader("*/*")
+        .acceptEncodingHeader("gzip, deflate")
+        .connectionHeader("keep-alive")
+        .userAgentHeader("Mozilla/5.0 (Macintosh; Intel Mac OS X 10.10; rv:33.0) Gecko/20100101 Firefox/33.0");
+
+    Map<String, String> headersHttpAuthentication = Map.of("Content-Type", "application/json", "Accept", "application/json");
+
+    Map<String, String> headersHttpAuthenticated = Map.of("Accept", "application/json", "Authorization", "${access_token}");
+
+    ChainBuilder authenticate = exec(
+        http("Authentication")
+            .post("/api/authenticate")
+            .headers(headersHttpAuthentication)
+            .body(StringBody("{\"username\":\"admin\", \"password\":\"admin\"}"))
+            .asJson()
+            .check(header("Authorization").saveAs("access_token"))
+    ).exitHereIfFailed();
+
+    ScenarioBuilder seed = scenario("Seed the lessons").exec(
+        authenticate
+            .repeat(lessons)
+            .on(
+                exec(
+                    http("Create lesson")
+                        .post("/services/service/api/lessons")
+                        .headers(headersHttpAuthenticated)
+                        .body(
+                            StringBody(
+                                "{" +
+                                "\"lessonTitle\": \"SAMPLE_TEXT\"" +
+                                ", \"lessonDescription\": \"SAMPLE_TEXT\"" +
+                                ", \"language\": \"ENGLISH\"" +
+                                "}"
+                            )
+                        )
+                        .asJson()
+                        .check(status().is(201))
+                )
+            )
+    );
+
+    // The cursor of the deep slice starts after the last lesson of the previous page
+    ChainBuilder locate = exec(
+        http("Locate the deep page")
+            .get("/services/service/api/lessons?sort=id,asc&size=1&page=" + ((page - 1) * pageSize - 1))
+            .headers(headersHttpAuthenticated)
+            .check(status().is(200))
+            .check(jsonPath("$[0].id").ofLong().saveAs("last_id"))
+    )
+        .exitHereIfFailed()
+        .exec(session -> session.set("deep_cursor", KeysetPaginationUtil.encode(session.getLong("last_id"))));
+
+    ScenarioBuilder browse = scenario("Read the first and the deep pages").exec(
+        authenticate
+            .exec(locate)
+            .pause(1)
+            .repeat(Integer.getInteger("iterations", 20))
+            .on(
+                exec(
+                    http("Get lesson page 1 by offset")
+                        .get("/services/service/api/lessons?sort=id,asc&size=" + pageSize + "&page=0")
+                        .headers(headersHttpAuthenticated)
+                        .check(status().is(200))
+                )
+                    .exec(
+                        http("Get lesson page " + page + " by offset")
+                            .get("/services/service/api/lessons?sort=id,asc&size=" + pageSize + "&page=" + (page - 1))
+                            .headers(headersHttpAuthenticated)
+                            .check(status().is(200))
+                    )
+                    .exec(
+                        http("Get lesson page 1 by cursor")
+                            .get("/services/service/api/lessons?after=&size=" + pageSize)
+                            .headers(headersHttpAuthenticated)
+                            .check(status().is(200))
+                    )
+                    .exec(
+                        http("Get lesson page " + page + " by cursor")
+                            .get("/services/service/api/lessons?after=${deep_cursor}&size=" + pageSize)
+                            .headers(headersHttpAuthenticated)
+                            .check(status().is(200))
+                    )
+            )
+    );
+
+    {
+        setUp(
+            seed
+                .injectOpen(atOnceUsers(lessons > 0 ? 1 : 0))
+                .andThen(
+                    browse.injectOpen(rampUsers(Integer.getInteger("users", 10)).during(Duration.ofSeconds(Integer.getInteger("ramp", 10))))
+                )
+        )
+            .protocols(httpConf)
+            .assertions(
+                global().failedRequests().count().is(0L),
+                details("Get lesson page " + page + " by cursor").responseTime().percentile3().lt(Integer.getInteger("maxSliceMillis", 100))
+            );
+    }
+}